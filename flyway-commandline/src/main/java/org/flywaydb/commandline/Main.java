@@ -22,6 +22,8 @@ import org.flywaydb.core.api.MigrationInfoService;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.metrics.LogMetricsListener;
+import org.flywaydb.core.api.metrics.MetricsListener;
 import org.flywaydb.core.internal.configuration.ConfigUtils;
 import org.flywaydb.core.internal.info.MigrationInfoDumper;
 import org.flywaydb.core.internal.util.ClassUtils;
@@ -46,8 +48,8 @@ import java.util.Properties;
 public class Main {
     private static Log LOG;
 
-    private static List<String> VALID_OPERATIONS_AND_FLAGS = Arrays.asList("-X", "-q", "-n", "-v", "-?",
-            "help", "migrate", "clean", "info", "validate", "undo", "baseline", "repair");
+    private static List<String> VALID_OPERATIONS_AND_FLAGS = Arrays.asList("-X", "-q", "-n", "-m", "-v", "-?",
+            "help", "migrate", "clean", "info", "validate", "undo", "baseline", "repair", "reset");
 
     /**
      * Initializes the logging.
@@ -103,6 +105,11 @@ public class Main {
             Flyway flyway = new Flyway(classLoader);
             filterProperties(properties);
             flyway.configure(properties);
+            if (isPrintMetrics(args)) {
+                List<MetricsListener> metricsListeners = new ArrayList<>(Arrays.asList(flyway.getMetricsListeners()));
+                metricsListeners.add(new LogMetricsListener());
+                flyway.setMetricsListeners(metricsListeners.toArray(new MetricsListener[metricsListeners.size()]));
+            }
 
             for (String operation : operations) {
                 executeOperation(flyway, operation);
@@ -137,6 +144,10 @@ public class Main {
         return isFlagSet(args, "-n");
     }
 
+    private static boolean isPrintMetrics(String[] args) {
+        return isFlagSet(args, "-m");
+    }
+
     private static boolean isFlagSet(String[] args, String flag) {
         for (String arg : args) {
             if (flag.equals(arg)) {
@@ -172,6 +183,8 @@ public class Main {
             LOG.info(MigrationInfoDumper.dumpToAsciiTable(info.all()));
         } else if ("repair".equals(operation)) {
             flyway.repair();
+        } else if ("reset".equals(operation)) {
+            flyway.reset();
         } else {
             LOG.error("Invalid operation: " + operation);
             printUsage();
@@ -251,6 +264,7 @@ public class Main {
         LOG.info("undo     : [" + "pro] Undoes the most recently applied versioned migration");
         LOG.info("baseline : Baselines an existing database at the baselineVersion");
         LOG.info("repair   : Repairs the schema history table");
+        LOG.info("reset    : Cleans and migrates, or restores a snapshot of the migrated schemas");
         LOG.info("");
         LOG.info("Options (Format: -key=value)");
         LOG.info("-------");
@@ -269,6 +283,11 @@ public class Main {
         LOG.info("sqlMigrationSeparator        : File name separator for sql migrations");
         LOG.info("sqlMigrationSuffixes         : Comma-separated list of file name suffixes for sql migrations");
         LOG.info("mixed                        : Allow mixing transactional and non-transactional statements");
+        LOG.info("stream                       : Stream sql migrations instead of loading them in full");
+        LOG.info("parseCacheDir                : Directory in which to cache parsed sql migrations");
+        LOG.info("batch                        : Group consecutive DML statements into JDBC batches");
+        LOG.info("batchSize                    : Maximum number of statements per JDBC batch");
+        LOG.info("fastUpToDateCheck            : Skip migrate when the up to date fingerprint matches");
         LOG.info("encoding                     : Encoding of sql migrations");
         LOG.info("placeholderReplacement       : Whether placeholders should be replaced");
         LOG.info("placeholders                 : Placeholders to replace in sql migrations");
@@ -279,12 +298,15 @@ public class Main {
         LOG.info("outOfOrder                   : Allows migrations to be run \"out of order\"");
         LOG.info("callbacks                    : Comma-separated list of FlywayCallback classes");
         LOG.info("skipDefaultCallbacks         : Skips default callbacks (sql)");
+        LOG.info("metricsListeners             : Comma-separated list of MetricsListener classes");
         LOG.info("validateOnMigrate            : Validate when running migrate");
         LOG.info("ignoreMissingMigrations      : Allow missing migrations when validating");
         LOG.info("ignoreIgnoredMigrations      : Allow ignored migrations when validating");
         LOG.info("ignoreFutureMigrations       : Allow future migrations when validating");
         LOG.info("cleanOnValidationError       : Automatically clean on a validation error");
         LOG.info("cleanDisabled                : Whether to disable clean");
+        LOG.info("cleanThreads                 : Maximum number of schemas to clean concurrently");
+        LOG.info("oracle.bulkClean             : Clean Oracle schemas server-side with PL/SQL blocks");
         LOG.info("baselineVersion              : Version to tag schema with when executing baseline");
         LOG.info("baselineDescription          : Description to tag schema with when executing baseline");
         LOG.info("baselineOnMigrate            : Baseline on migrate against uninitialized non-empty schema");
@@ -299,6 +321,7 @@ public class Main {
         LOG.info("-X : Print debug output");
         LOG.info("-q : Suppress all output, except for errors and warnings");
         LOG.info("-n : Suppress prompting for a user and password");
+        LOG.info("-m : Print a breakdown of the time spent in each phase of the command");
         LOG.info("-v : Print the Flyway version and exit");
         LOG.info("-? : Print this usage info and exit");
         LOG.info("");
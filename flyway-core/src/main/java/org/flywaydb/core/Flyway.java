@@ -16,28 +16,40 @@
 package org.flywaydb.core;
 
 
+import org.flywaydb.core.api.FailurePolicy;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationTarget;
+import org.flywaydb.core.api.MigrationTargetResult;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.callback.FlywayCallback;
 import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.metrics.MetricsCounter;
+import org.flywaydb.core.api.metrics.MetricsListener;
+import org.flywaydb.core.api.metrics.MetricsPhase;
 import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.callback.SqlScriptFlywayCallback;
 import org.flywaydb.core.internal.command.DbBaseline;
 import org.flywaydb.core.internal.command.DbClean;
 import org.flywaydb.core.internal.command.DbInfo;
 import org.flywaydb.core.internal.command.DbMigrate;
 import org.flywaydb.core.internal.command.DbRepair;
+import org.flywaydb.core.internal.command.DbReset;
 import org.flywaydb.core.internal.command.DbSchemas;
 import org.flywaydb.core.internal.command.DbValidate;
 import org.flywaydb.core.internal.configuration.ConfigUtils;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.DatabaseFactory;
+import org.flywaydb.core.internal.database.LockStatistics;
 import org.flywaydb.core.internal.database.Schema;
+import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
+import org.flywaydb.core.internal.resolver.SharedMigrationResolver;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
 import org.flywaydb.core.internal.util.ClassUtils;
@@ -61,6 +73,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This is the centre point of Flyway, and for most users, the only class they will ever have to deal with.
@@ -238,6 +257,16 @@ public class Flyway implements FlywayConfiguration {
      */
     private boolean cleanDisabled;
 
+    /**
+     * The maximum number of schemas to clean concurrently, each on its own connection. (default: 1)
+     */
+    private int cleanThreads = 1;
+
+    /**
+     * Whether Oracle schemas are cleaned server-side, with one PL/SQL block per object type. (default: {@code false})
+     */
+    private boolean oracleBulkClean;
+
     /**
      * The version to tag an existing schema with when executing baseline. (default: 1)
      */
@@ -284,6 +313,11 @@ public class Flyway implements FlywayConfiguration {
      */
     private boolean skipDefaultCallbacks;
 
+    /**
+     * The listeners for the metrics collected while executing commands. (default: none)
+     */
+    private final List<MetricsListener> metricsListeners = new ArrayList<>();
+
     /**
      * The custom MigrationResolvers to be used in addition to the built-in ones for resolving Migrations to apply.
      * <p>(default: none)</p>
@@ -311,6 +345,16 @@ public class Flyway implements FlywayConfiguration {
      */
     private boolean dbConnectionInfoPrinted;
 
+    /**
+     * The migrations already resolved once for all targets of a fan-out migration. {@code null} to resolve them.
+     */
+    private List<ResolvedMigration> sharedResolvedMigrations;
+
+    /**
+     * The scanner shared by all targets of a fan-out migration. {@code null} to create a new one.
+     */
+    private Scanner sharedScanner;
+
     /**
      * Whether to allow mixing transactional and non-transactional statements within the same migration.
      * <p>
@@ -325,6 +369,42 @@ public class Flyway implements FlywayConfiguration {
      */
     private boolean group;
 
+    /**
+     * Whether to stream SQL migrations from their resource instead of loading and parsing them in full before
+     * executing them.
+     * <p>
+     * {@code true} if SQL migrations should be streamed. {@code false} if they should be loaded in full instead. (default: {@code false})
+     */
+    private boolean stream;
+
+    /**
+     * The directory in which to cache the statement boundaries of parsed SQL scripts.
+     * <p>
+     * {@code null} to always parse SQL scripts. (default: {@code null})
+     */
+    private String parseCacheDir;
+
+    /**
+     * Whether to group consecutive DML statements of a SQL migration into JDBC batches.
+     * <p>
+     * {@code true} if DML statements should be batched. {@code false} if they should be executed one by one. (default: {@code false})
+     */
+    private boolean batch;
+
+    /**
+     * The maximum number of statements to group in a single JDBC batch when batching is enabled. (default: 100)
+     */
+    private int batchSize = 100;
+
+    /**
+     * Whether migrate should first compare a fingerprint of the available migrations and of the schema history table
+     * with the one recorded by the last migration run that left the schema up to date. When they match, validation and
+     * the migrate callbacks are skipped.
+     * <p>
+     * {@code true} to check the fingerprint first. {@code false} to always resolve and validate. (default: {@code false})
+     */
+    private boolean fastUpToDateCheck;
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      * <p>
@@ -379,9 +459,12 @@ public class Flyway implements FlywayConfiguration {
         setBaselineDescription(configuration.getBaselineDescription());
         setBaselineOnMigrate(configuration.isBaselineOnMigrate());
         setBaselineVersion(configuration.getBaselineVersion());
+        setBatch(configuration.isBatch());
+        setBatchSize(configuration.getBatchSize());
         setCallbacks(configuration.getCallbacks());
         setCleanDisabled(configuration.isCleanDisabled());
         setCleanOnValidationError(configuration.isCleanOnValidationError());
+        setCleanThreads(configuration.getCleanThreads());
         setDataSource(configuration.getDataSource());
 
 
@@ -389,14 +472,18 @@ public class Flyway implements FlywayConfiguration {
 
 
         setEncoding(configuration.getEncoding());
+        setFastUpToDateCheck(configuration.isFastUpToDateCheck());
         setGroup(configuration.isGroup());
         setIgnoreFutureMigrations(configuration.isIgnoreFutureMigrations());
         setIgnoreMissingMigrations(configuration.isIgnoreMissingMigrations());
         setIgnoreIgnoredMigrations(configuration.isIgnoreIgnoredMigrations());
         setInstalledBy(configuration.getInstalledBy());
         setLocations(configuration.getLocations());
+        setMetricsListeners(configuration.getMetricsListeners());
         setMixed(configuration.isMixed());
+        setOracleBulkClean(configuration.isOracleBulkClean());
         setOutOfOrder(configuration.isOutOfOrder());
+        setParseCacheDir(configuration.getParseCacheDir());
         setPlaceholderPrefix(configuration.getPlaceholderPrefix());
         setPlaceholderReplacement(configuration.isPlaceholderReplacement());
         setPlaceholders(configuration.getPlaceholders());
@@ -409,6 +496,7 @@ public class Flyway implements FlywayConfiguration {
         setSqlMigrationPrefix(configuration.getSqlMigrationPrefix());
         setSqlMigrationSeparator(configuration.getSqlMigrationSeparator());
         setSqlMigrationSuffixes(configuration.getSqlMigrationSuffixes());
+        setStream(configuration.isStream());
         setTable(configuration.getTable());
         setTarget(configuration.getTarget());
         setValidateOnMigrate(configuration.isValidateOnMigrate());
@@ -519,6 +607,16 @@ public class Flyway implements FlywayConfiguration {
         return cleanDisabled;
     }
 
+    @Override
+    public int getCleanThreads() {
+        return cleanThreads;
+    }
+
+    @Override
+    public boolean isOracleBulkClean() {
+        return oracleBulkClean;
+    }
+
     @Override
     public MigrationVersion getBaselineVersion() {
         return baselineVersion;
@@ -574,6 +672,31 @@ public class Flyway implements FlywayConfiguration {
         return group;
     }
 
+    @Override
+    public boolean isStream() {
+        return stream;
+    }
+
+    @Override
+    public String getParseCacheDir() {
+        return parseCacheDir;
+    }
+
+    @Override
+    public boolean isBatch() {
+        return batch;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public boolean isFastUpToDateCheck() {
+        return fastUpToDateCheck;
+    }
+
     @Override
     public ErrorHandler[] getErrorHandlers() {
 
@@ -721,6 +844,76 @@ public class Flyway implements FlywayConfiguration {
         this.group = group;
     }
 
+    /**
+     * Whether to stream SQL migrations from their resource instead of loading and parsing them in full before
+     * executing them. Each statement is executed as soon as it has been parsed, keeping memory usage bounded by
+     * the largest single statement. This is recommended for very large scripts such as data seeds. Whether a streamed
+     * migration runs within a transaction is decided by its first statement.
+     *
+     * @param stream {@code true} if SQL migrations should be streamed. {@code false} if they should be loaded in full instead. (default: {@code false})
+     */
+    public void setStream(boolean stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * The directory in which to cache the statement boundaries of parsed SQL scripts. Scripts whose contents,
+     * placeholder values and database type match a cached entry are not parsed again but simply split up along the
+     * cached boundaries. This speeds up repeated deployments of the same migrations.
+     *
+     * @param parseCacheDir The directory or {@code null} to always parse SQL scripts. (default: {@code null})
+     */
+    public void setParseCacheDir(String parseCacheDir) {
+        if ("".equals(parseCacheDir)) {
+            parseCacheDir = null;
+        }
+        this.parseCacheDir = parseCacheDir;
+    }
+
+    /**
+     * Whether to group consecutive DML statements (INSERT, UPDATE, DELETE, ...) of a SQL migration into JDBC batches
+     * instead of sending them to the database one by one. This greatly reduces the number of network round trips for
+     * data migrations. Batching only takes place for migrations executed within a transaction. Should a batch fail, it
+     * is rolled back and its statements are executed one by one again to report the exact statement that failed.
+     *
+     * @param batch {@code true} if DML statements should be batched. {@code false} if they should be executed one by one. (default: {@code false})
+     */
+    public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
+
+    /**
+     * The maximum number of statements to group in a single JDBC batch when batching is enabled.
+     *
+     * @param batchSize The batch size. Must be at least 1. (default: 100)
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new FlywayException("Invalid batch size: " + batchSize + " (must be at least 1)");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Whether migrate should first compare a fingerprint of the available migrations and of the schema history table
+     * with the one recorded by the last migration run that left the schema up to date. When they match, migrate returns
+     * immediately without resolving, validating or applying migrations, and without invoking the beforeMigrate and
+     * afterMigrate callbacks, including their SQL scripts. This greatly reduces the startup cost when many instances of
+     * an application migrate the same schema at once.
+     * <p>This trades safety for speed: the available migrations are fingerprinted by name, size and modification time
+     * (or indexed checksum) instead of by contents, so an edit keeping both the size and the modification time of a
+     * file goes unnoticed, and validation errors such as checksum mismatches are only reported by the next run whose
+     * fingerprint doesn't match. The check is skipped when custom migration resolvers are configured.</p>
+     * <p>The fingerprint is recorded in its own table, named after the schema history table with a _fp suffix and
+     * shortened to 30 characters if needed, so the schema history table only ever holds applied migrations. Failing to
+     * record it is logged and doesn't fail the migration.</p>
+     *
+     * @param fastUpToDateCheck {@code true} to check the fingerprint first. {@code false} to always resolve and validate. (default: {@code false})
+     */
+    public void setFastUpToDateCheck(boolean fastUpToDateCheck) {
+        this.fastUpToDateCheck = fastUpToDateCheck;
+    }
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      *
@@ -824,6 +1017,31 @@ public class Flyway implements FlywayConfiguration {
         this.cleanDisabled = cleanDisabled;
     }
 
+    /**
+     * Sets the maximum number of schemas to clean concurrently. Each schema is then cleaned on its own connection
+     * obtained from the DataSource, so in-memory databases must be shared by all connections.
+     *
+     * @param cleanThreads The number of threads. Must be at least 1. (default: 1)
+     */
+    public void setCleanThreads(int cleanThreads) {
+        if (cleanThreads < 1) {
+            throw new FlywayException("Invalid number of clean threads: " + cleanThreads + " (must be at least 1)");
+        }
+        this.cleanThreads = cleanThreads;
+    }
+
+    /**
+     * Sets whether Oracle schemas should be cleaned server-side. Each object type is then dropped by a single
+     * anonymous PL/SQL block instead of one statement per object, which greatly reduces the number of round trips
+     * for schemas with many objects.
+     *
+     * @param oracleBulkClean {@code true} to clean server-side, {@code false} to drop each object from the client.
+     *                        (default: {@code false})
+     */
+    public void setOracleBulkClean(boolean oracleBulkClean) {
+        this.oracleBulkClean = oracleBulkClean;
+    }
+
     /**
      * Sets the locations to scan recursively for migrations.
      * <p>The location type is determined by its prefix.
@@ -1157,6 +1375,31 @@ public class Flyway implements FlywayConfiguration {
         this.callbacks.addAll(ClassUtils.<FlywayCallback>instantiateAll(callbacks, classLoader));
     }
 
+    @Override
+    public MetricsListener[] getMetricsListeners() {
+        return metricsListeners.toArray(new MetricsListener[metricsListeners.size()]);
+    }
+
+    /**
+     * Sets the listeners for the metrics collected while executing commands, such as the time spent in each phase.
+     *
+     * @param metricsListeners The listeners for the metrics. (default: none)
+     */
+    public void setMetricsListeners(MetricsListener... metricsListeners) {
+        this.metricsListeners.clear();
+        this.metricsListeners.addAll(Arrays.asList(metricsListeners));
+    }
+
+    /**
+     * Sets the listeners for the metrics collected while executing commands, such as the time spent in each phase.
+     *
+     * @param metricsListeners The fully qualified class names of the listeners for the metrics. (default: none)
+     */
+    public void setMetricsListenersAsClassNames(String... metricsListeners) {
+        this.metricsListeners.clear();
+        this.metricsListeners.addAll(ClassUtils.<MetricsListener>instantiateAll(metricsListeners, classLoader));
+    }
+
     /**
      * Whether Flyway should skip the default callbacks. If true, only custom callbacks are used.
      *
@@ -1203,47 +1446,244 @@ public class Flyway implements FlywayConfiguration {
      * @throws FlywayException when the migration failed.
      */
     public int migrate() throws FlywayException {
-        return execute(new Command<Integer>() {
+        return execute("migrate", new Command<Integer>() {
             public Integer execute(MigrationResolver migrationResolver,
                                    SchemaHistory schemaHistory, Database database, Schema[] schemas, List<FlywayCallback> effectiveCallbacks
 
 
 
             ) {
-                if (validateOnMigrate) {
-                    doValidate(database, migrationResolver, schemaHistory, schemas, effectiveCallbacks, true);
+                return doMigrate(migrationResolver, schemaHistory, database, schemas, effectiveCallbacks);
+            }
+        });
+    }
+
+    /**
+     * Migrates the schemas, as part of a command.
+     *
+     * @return The number of successfully applied migrations.
+     */
+    private int doMigrate(MigrationResolver migrationResolver, SchemaHistory schemaHistory, Database database,
+                          Schema[] schemas, List<FlywayCallback> effectiveCallbacks) {
+        String fingerprint = null;
+        if (fastUpToDateCheck && migrationResolver instanceof CompositeMigrationResolver) {
+            fingerprint = ((CompositeMigrationResolver) migrationResolver).calculateFingerprint();
+            if (fingerprint != null && isUpToDate(schemaHistory, fingerprint)) {
+                LOG.info("Schema " + schemas[0] + " is up to date according to its fingerprint. No migration necessary.");
+                return 0;
+            }
+        }
+
+        MigrationInfoServiceImpl infoService = null;
+        if (validateOnMigrate) {
+            infoService = doValidate(database, migrationResolver, schemaHistory, schemas, effectiveCallbacks, true);
+        }
+
+        new DbSchemas(database, schemas, schemaHistory).create();
+
+        if (!schemaHistory.exists()) {
+            List<Schema> nonEmptySchemas = new ArrayList<>();
+            for (Schema schema : schemas) {
+                if (!schema.empty()) {
+                    nonEmptySchemas.add(schema);
                 }
+            }
 
-                new DbSchemas(database, schemas, schemaHistory).create();
+            if (!nonEmptySchemas.isEmpty()) {
+                if (baselineOnMigrate) {
+                    new DbBaseline(database, schemaHistory, schemas[0], baselineVersion, baselineDescription,
+                            effectiveCallbacks).baseline();
+                } else {
+                    // Second check for MySQL which is sometimes flaky otherwise
+                    if (!schemaHistory.exists()) {
+                        throw new FlywayException("Found non-empty schema(s) "
+                                + StringUtils.collectionToCommaDelimitedString(nonEmptySchemas)
+                                + " without schema history table! Use baseline()"
+                                + " or set baselineOnMigrate to true to initialize the schema history table.");
+                    }
+                }
+            }
+        }
+
+        return new DbMigrate(database, schemaHistory, schemas[0], migrationResolver, this,
+                effectiveCallbacks, infoService, fingerprint).migrate();
+    }
+
+    /**
+     * <p>Resets the configured schemas to their fully migrated state, exactly as {@link #clean()} followed by
+     * {@link #migrate()} would. The first reset snapshots the migrated schemas, so the following resets can restore
+     * the snapshot instead of cleaning and migrating, as long as the migrations haven't changed. This is meant for
+     * test databases that are reset before every test.</p>
+     * <p>Snapshots are supported for H2 and SQLite. Other databases are always reset with clean and migrate. No
+     * callbacks are invoked when a snapshot is restored. Snapshots are kept in the {@code flyway-snapshots} directory of
+     * {@code java.io.tmpdir}, separately for each database url and user. A snapshot that can't be restored is taken
+     * again after resetting with clean and migrate.</p>
+     *
+     * @return The number of successfully applied migrations, {@code 0} when a snapshot was restored.
+     * @throws FlywayException when the reset failed.
+     */
+    public int reset() throws FlywayException {
+        return execute("reset", new Command<Integer>() {
+            public Integer execute(MigrationResolver migrationResolver,
+                                   SchemaHistory schemaHistory, Database database, Schema[] schemas, List<FlywayCallback> effectiveCallbacks
+
+
+
+            ) {
+                if (cleanDisabled) {
+                    throw new FlywayException("Unable to execute reset as clean has been disabled with the \"flyway.cleanDisabled\" property.");
+                }
+
+                DbReset dbReset = new DbReset(database, schemas, migrationResolver, effectiveCallbacks, Flyway.this);
+                if (dbReset.restore()) {
+                    return 0;
+                }
+
+                new DbClean(database, schemaHistory, schemas, effectiveCallbacks, cleanDisabled, cleanThreads).clean();
+                int count = doMigrate(migrationResolver, schemaHistory, database, schemas, effectiveCallbacks);
+                dbReset.snapshot();
+                return count;
+            }
+        });
+    }
+
+    /**
+     * Checks whether the schema is still up to date with the available migrations of this fingerprint. When it isn't,
+     * another instance may be migrating it right now, so the check is repeated once the schema history table lock
+     * could be acquired.
+     *
+     * @param schemaHistory The schema history table.
+     * @param fingerprint   The fingerprint of the available migrations.
+     * @return {@code true} if it is, {@code false} if the migrations must be resolved and validated.
+     */
+    private boolean isUpToDate(final SchemaHistory schemaHistory, final String fingerprint) {
+        if (!schemaHistory.exists()) {
+            return false;
+        }
+        if (schemaHistory.isUpToDate(fingerprint)) {
+            return true;
+        }
+        return schemaHistory.lock(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return schemaHistory.isUpToDate(fingerprint);
+            }
+        });
+    }
+
+    /**
+     * <p>Migrates many targets, such as the schemas or databases of the tenants of a multi-tenant application, with
+     * this configuration. The migrations are scanned for, resolved and their checksums calculated only once, and their
+     * sql scripts are only parsed once per database type. The targets are then migrated concurrently, each with its own
+     * connection and schema history table lock, exactly as {@link #migrate()} would.</p>
+     * <p>Java migrations, callbacks and metrics listeners are shared by all targets and must therefore be thread-safe.
+     * Listeners extending {@link org.flywaydb.core.api.metrics.PhaseBreakdownMetricsListener} report a separate
+     * breakdown for each target. Placeholders have the same values for all targets.</p>
+     *
+     * @param targets       The targets to migrate.
+     * @param threads       The maximum number of targets to migrate concurrently.
+     * @param failurePolicy What to do when the migration of a target fails.
+     * @return The results of the targets, in the same order as the targets.
+     * @throws FlywayException when the migrations could not be resolved.
+     */
+    public MigrationTargetResult[] migrateTargets(final MigrationTarget[] targets, int threads,
+                                                  final FailurePolicy failurePolicy) throws FlywayException {
+        if (threads < 1) {
+            throw new FlywayException("Invalid number of threads: " + threads + " (must be at least 1)");
+        }
+        if (targets.length == 0) {
+            return new MigrationTargetResult[0];
+        }
+
+        // Resolve the migrations only once, using the first target for the database-specific support
+        final Scanner scanner = new Scanner(classLoader);
+        Flyway resolvingFlyway = createTargetFlyway(targets[0], scanner, null);
+        final List<ResolvedMigration> resolvedMigrations = resolvingFlyway.execute("resolve", new Command<List<ResolvedMigration>>() {
+            public List<ResolvedMigration> execute(MigrationResolver migrationResolver,
+                                                   SchemaHistory schemaHistory, Database database, Schema[] schemas, List<FlywayCallback> effectiveCallbacks
+
+
+
+            ) {
+                return new ArrayList<>(migrationResolver.resolveMigrations());
+            }
+        });
+        LOG.info("Migrating " + targets.length + " targets with " + resolvedMigrations.size()
+                + " resolved migrations using " + Math.min(threads, targets.length) + " threads");
 
-                if (!schemaHistory.exists()) {
-                    List<Schema> nonEmptySchemas = new ArrayList<>();
-                    for (Schema schema : schemas) {
-                        if (!schema.empty()) {
-                            nonEmptySchemas.add(schema);
+        final AtomicBoolean failed = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(threads, targets.length));
+        try {
+            List<Future<MigrationTargetResult>> futures = new ArrayList<>(targets.length);
+            for (final MigrationTarget target : targets) {
+                futures.add(executorService.submit(new Callable<MigrationTargetResult>() {
+                    @Override
+                    public MigrationTargetResult call() {
+                        if (failurePolicy == FailurePolicy.FAIL_FAST && failed.get()) {
+                            return MigrationTargetResult.skipped(target);
                         }
-                    }
 
-                    if (!nonEmptySchemas.isEmpty()) {
-                        if (baselineOnMigrate) {
-                            new DbBaseline(database, schemaHistory, schemas[0], baselineVersion, baselineDescription,
-                                    effectiveCallbacks).baseline();
-                        } else {
-                            // Second check for MySQL which is sometimes flaky otherwise
-                            if (!schemaHistory.exists()) {
-                                throw new FlywayException("Found non-empty schema(s) "
-                                        + StringUtils.collectionToCommaDelimitedString(nonEmptySchemas)
-                                        + " without schema history table! Use baseline()"
-                                        + " or set baselineOnMigrate to true to initialize the schema history table.");
-                            }
+                        long start = System.currentTimeMillis();
+                        try {
+                            int migrationsExecuted = createTargetFlyway(target, scanner, resolvedMigrations).migrate();
+                            return MigrationTargetResult.success(target, migrationsExecuted, System.currentTimeMillis() - start);
+                        } catch (RuntimeException e) {
+                            failed.set(true);
+                            LOG.error("Migration of target " + target + " failed: " + e.getMessage());
+                            FlywayException flywayException = e instanceof FlywayException
+                                    ? (FlywayException) e
+                                    : new FlywayException("Unable to migrate target " + target, e);
+                            return MigrationTargetResult.failure(target, System.currentTimeMillis() - start, flywayException);
                         }
                     }
-                }
+                }));
+            }
 
-                return new DbMigrate(database, schemaHistory, schemas[0], migrationResolver, Flyway.this,
-                        effectiveCallbacks).migrate();
+            MigrationTargetResult[] results = new MigrationTargetResult[targets.length];
+            int succeeded = 0;
+            int skipped = 0;
+            for (int i = 0; i < targets.length; i++) {
+                try {
+                    results[i] = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    // Errors are not caught by the task itself
+                    throw new FlywayException("Unable to migrate target " + targets[i], e.getCause());
+                }
+                if (results[i].isSuccess()) {
+                    succeeded++;
+                } else if (results[i].isSkipped()) {
+                    skipped++;
+                }
             }
-        });
+
+            LOG.info("Successfully migrated " + succeeded + " of " + targets.length + " targets ("
+                    + (targets.length - succeeded - skipped) + " failed, " + skipped + " skipped)");
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while migrating targets", e);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Creates a copy of this Flyway instance for migrating this target.
+     *
+     * @param target             The target to migrate.
+     * @param scanner            The scanner shared by all targets.
+     * @param resolvedMigrations The migrations already resolved for all targets. {@code null} to resolve them.
+     * @return The copy.
+     */
+    private Flyway createTargetFlyway(MigrationTarget target, Scanner scanner, List<ResolvedMigration> resolvedMigrations) {
+        Flyway flyway = new Flyway(this);
+        flyway.setDataSource(target.getDataSource());
+        if (target.getSchemas().length > 0) {
+            flyway.setSchemas(target.getSchemas());
+        }
+        flyway.sharedScanner = scanner;
+        flyway.sharedResolvedMigrations = resolvedMigrations;
+        return flyway;
     }
 
     /**
@@ -1288,7 +1728,7 @@ public class Flyway implements FlywayConfiguration {
      * @throws FlywayException when the validation failed.
      */
     public void validate() throws FlywayException {
-        execute(new Command<Void>() {
+        execute("validate", new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver, SchemaHistory schemaHistory, Database database,
                                 Schema[] schemas, List<FlywayCallback> effectiveCallbacks
 
@@ -1310,20 +1750,24 @@ public class Flyway implements FlywayConfiguration {
      * @param schemas            The schemas managed by Flyway.
      * @param effectiveCallbacks The actual callbacks to use.
      * @param pending            Whether pending migrations are ok.
+     * @return The info about the migrations the validation was performed with. {@code null} if there is none or it
+     * is no longer accurate because the schemas have been cleaned.
      */
-    private void doValidate(Database database, MigrationResolver migrationResolver,
-                            SchemaHistory schemaHistory, Schema[] schemas, List<FlywayCallback> effectiveCallbacks, boolean pending) {
-        String validationError =
-                new DbValidate(database, schemaHistory, schemas[0], migrationResolver,
-                        target, outOfOrder, pending, ignoreMissingMigrations, ignoreIgnoredMigrations, ignoreFutureMigrations, effectiveCallbacks).validate();
+    private MigrationInfoServiceImpl doValidate(Database database, MigrationResolver migrationResolver,
+                                                SchemaHistory schemaHistory, Schema[] schemas, List<FlywayCallback> effectiveCallbacks, boolean pending) {
+        DbValidate dbValidate = new DbValidate(database, schemaHistory, schemas[0], migrationResolver,
+                target, outOfOrder, pending, ignoreMissingMigrations, ignoreIgnoredMigrations, ignoreFutureMigrations, effectiveCallbacks);
+        String validationError = dbValidate.validate();
 
         if (validationError != null) {
             if (cleanOnValidationError) {
-                new DbClean(database, schemaHistory, schemas, effectiveCallbacks, cleanDisabled).clean();
+                new DbClean(database, schemaHistory, schemas, effectiveCallbacks, cleanDisabled, cleanThreads).clean();
+                return null;
             } else {
                 throw new FlywayException("Validate failed: " + validationError);
             }
         }
+        return dbValidate.getMigrationInfoService();
     }
 
     /**
@@ -1334,14 +1778,14 @@ public class Flyway implements FlywayConfiguration {
      * @throws FlywayException when the clean fails.
      */
     public void clean() {
-        execute(new Command<Void>() {
+        execute("clean", new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver, SchemaHistory schemaHistory, Database database,
                                 Schema[] schemas, List<FlywayCallback> effectiveCallbacks
 
 
 
             ) {
-                new DbClean(database, schemaHistory, schemas, effectiveCallbacks, cleanDisabled).clean();
+                new DbClean(database, schemaHistory, schemas, effectiveCallbacks, cleanDisabled, cleanThreads).clean();
                 return null;
             }
         });
@@ -1356,7 +1800,7 @@ public class Flyway implements FlywayConfiguration {
      * @throws FlywayException when the info retrieval failed.
      */
     public MigrationInfoService info() {
-        return execute(new Command<MigrationInfoService>() {
+        return execute("info", new Command<MigrationInfoService>() {
             public MigrationInfoService execute(MigrationResolver migrationResolver, SchemaHistory schemaHistory,
                                                 final Database database, final Schema[] schemas, List<FlywayCallback> effectiveCallbacks
 
@@ -1376,7 +1820,7 @@ public class Flyway implements FlywayConfiguration {
      * @throws FlywayException when the schema baselining failed.
      */
     public void baseline() throws FlywayException {
-        execute(new Command<Void>() {
+        execute("baseline", new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver,
                                 SchemaHistory schemaHistory, Database database, Schema[] schemas, List<FlywayCallback> effectiveCallbacks
 
@@ -1401,7 +1845,7 @@ public class Flyway implements FlywayConfiguration {
      * @throws FlywayException when the schema history table repair failed.
      */
     public void repair() throws FlywayException {
-        execute(new Command<Void>() {
+        execute("repair", new Command<Void>() {
             public Void execute(MigrationResolver migrationResolver,
                                 SchemaHistory schemaHistory, Database database, Schema[] schemas, List<FlywayCallback> effectiveCallbacks
 
@@ -1536,6 +1980,15 @@ public class Flyway implements FlywayConfiguration {
         if (cleanDisabledProp != null) {
             setCleanDisabled(cleanDisabledProp);
         }
+
+        Integer cleanThreadsProp = getIntegerProp(props, ConfigUtils.CLEAN_THREADS);
+        if (cleanThreadsProp != null) {
+            setCleanThreads(cleanThreadsProp);
+        }
+        Boolean oracleBulkCleanProp = getBooleanProp(props, ConfigUtils.ORACLE_BULK_CLEAN);
+        if (oracleBulkCleanProp != null) {
+            setOracleBulkClean(oracleBulkCleanProp);
+        }
         Boolean validateOnMigrateProp = getBooleanProp(props, ConfigUtils.VALIDATE_ON_MIGRATE);
         if (validateOnMigrateProp != null) {
             setValidateOnMigrate(validateOnMigrateProp);
@@ -1588,6 +2041,10 @@ public class Flyway implements FlywayConfiguration {
         if (skipDefaultCallbacksProp != null) {
             setSkipDefaultCallbacks(skipDefaultCallbacksProp);
         }
+        String metricsListenersProp = props.remove(ConfigUtils.METRICS_LISTENERS);
+        if (StringUtils.hasLength(metricsListenersProp)) {
+            setMetricsListenersAsClassNames(StringUtils.tokenizeToStringArray(metricsListenersProp, ","));
+        }
 
         Map<String, String> placeholdersFromProps = new HashMap<>(placeholders);
         Iterator<Map.Entry<String, String>> iterator = props.entrySet().iterator();
@@ -1615,6 +2072,31 @@ public class Flyway implements FlywayConfiguration {
             setGroup(groupProp);
         }
 
+        Boolean streamProp = getBooleanProp(props, ConfigUtils.STREAM);
+        if (streamProp != null) {
+            setStream(streamProp);
+        }
+
+        String parseCacheDirProp = props.remove(ConfigUtils.PARSE_CACHE_DIR);
+        if (parseCacheDirProp != null) {
+            setParseCacheDir(parseCacheDirProp);
+        }
+
+        Boolean batchProp = getBooleanProp(props, ConfigUtils.BATCH);
+        if (batchProp != null) {
+            setBatch(batchProp);
+        }
+
+        Integer batchSizeProp = getIntegerProp(props, ConfigUtils.BATCH_SIZE);
+        if (batchSizeProp != null) {
+            setBatchSize(batchSizeProp);
+        }
+
+        Boolean fastUpToDateCheckProp = getBooleanProp(props, ConfigUtils.FAST_UP_TO_DATE_CHECK);
+        if (fastUpToDateCheckProp != null) {
+            setFastUpToDateCheck(fastUpToDateCheckProp);
+        }
+
         String installedByProp = props.remove(ConfigUtils.INSTALLED_BY);
         if (installedByProp != null) {
             setInstalledBy(installedByProp);
@@ -1645,14 +2127,27 @@ public class Flyway implements FlywayConfiguration {
         return value == null ? null : Boolean.valueOf(value);
     }
 
+    private Integer getIntegerProp(Map<String, String> props, String key) {
+        String value = props.remove(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new FlywayException("Invalid value for " + key + " (should be an integer): " + value, e);
+        }
+    }
+
     /**
      * Executes this command with proper resource handling and cleanup.
      *
+     * @param name    The name of the command, as reported to the metrics listeners.
      * @param command The command to execute.
      * @param <T>     The type of the result.
      * @return The result of the command.
      */
-    /*private -> testing*/ <T> T execute(Command<T> command) {
+    /*private -> testing*/ <T> T execute(String name, Command<T> command) {
         T result;
 
         VersionPrinter.printVersion();
@@ -1671,7 +2166,11 @@ public class Flyway implements FlywayConfiguration {
 
 
 
+        long start = System.nanoTime();
         Database database = null;
+        LockStatistics lockStatistics = null;
+        int lockAttempts = 0;
+        long lockWaitTimeMillis = 0;
         try {
             database = DatabaseFactory.createDatabase(this, !dbConnectionInfoPrinted
 
@@ -1679,11 +2178,19 @@ public class Flyway implements FlywayConfiguration {
 
             );
             dbConnectionInfoPrinted = true;
+            database.getMetricsRecorder().record(MetricsPhase.CONNECT, System.nanoTime() - start);
+            lockStatistics = database.getMainConnection().getLockStatistics();
+            lockAttempts = lockStatistics.getAttempts();
+            lockWaitTimeMillis = lockStatistics.getWaitTimeMillis();
             LOG.debug("DDL Transactions Supported: " + database.supportsDdlTransactions());
 
             Schema[] schemas = prepareSchemas(database);
-            Scanner scanner = new Scanner(classLoader);
-            MigrationResolver migrationResolver = createMigrationResolver(database, scanner);
+            Scanner scanner = sharedScanner != null
+                    ? sharedScanner
+                    : new Scanner(classLoader, database.getMetricsRecorder());
+            MigrationResolver migrationResolver = sharedResolvedMigrations != null
+                    ? new SharedMigrationResolver(sharedResolvedMigrations, database)
+                    : createMigrationResolver(database, scanner);
             List<FlywayCallback> effectiveCallbacks = prepareCallbacks(scanner, database
 
 
@@ -1701,7 +2208,14 @@ public class Flyway implements FlywayConfiguration {
             );
         } finally {
             if (database != null) {
+                MetricsRecorder metricsRecorder = database.getMetricsRecorder();
+                if (lockStatistics != null) {
+                    metricsRecorder.record(MetricsPhase.LOCK_WAIT,
+                            TimeUnit.MILLISECONDS.toNanos(lockStatistics.getWaitTimeMillis() - lockWaitTimeMillis));
+                    metricsRecorder.count(MetricsCounter.LOCK_ATTEMPTS, lockStatistics.getAttempts() - lockAttempts);
+                }
                 database.close();
+                metricsRecorder.commandCompleted(name, System.nanoTime() - start);
             }
 
 
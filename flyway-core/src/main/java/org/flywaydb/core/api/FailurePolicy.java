@@ -0,0 +1,32 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api;
+
+/**
+ * What to do when the migration of one of the targets of a fan-out migration fails.
+ */
+public enum FailurePolicy {
+    /**
+     * Stop migrating as soon as a target fails. The targets already being migrated are completed, while the remaining
+     * ones are skipped.
+     */
+    FAIL_FAST,
+
+    /**
+     * Keep migrating all other targets and report the failures in the results.
+     */
+    CONTINUE
+}
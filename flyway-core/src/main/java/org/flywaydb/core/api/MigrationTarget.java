@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api;
+
+import javax.sql.DataSource;
+
+/**
+ * A database or set of schemas to migrate as part of a fan-out migration across many targets, such as the schemas or
+ * databases of the tenants of a multi-tenant application.
+ */
+public final class MigrationTarget {
+    /**
+     * The name of the target, used to identify it in logs and results.
+     */
+    private final String name;
+
+    /**
+     * The datasource to use to connect to the target.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * The schemas managed by Flyway for this target. Empty to use the schemas of the configuration.
+     */
+    private final String[] schemas;
+
+    /**
+     * Creates a new target.
+     *
+     * @param name       The name of the target, used to identify it in logs and results.
+     * @param dataSource The datasource to use to connect to the target.
+     * @param schemas    The schemas managed by Flyway for this target. None to use the schemas of the configuration.
+     *                   The first schema is the one containing the schema history table.
+     */
+    public MigrationTarget(String name, DataSource dataSource, String... schemas) {
+        if (dataSource == null) {
+            throw new FlywayException("Missing datasource for migration target " + name);
+        }
+        this.name = name;
+        this.dataSource = dataSource;
+        this.schemas = schemas;
+    }
+
+    /**
+     * @return The name of the target, used to identify it in logs and results.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The datasource to use to connect to the target.
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return The schemas managed by Flyway for this target. Empty to use the schemas of the configuration.
+     */
+    public String[] getSchemas() {
+        return schemas;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api;
+
+/**
+ * The result of the migration of a single target of a fan-out migration.
+ */
+public final class MigrationTargetResult {
+    /**
+     * The target.
+     */
+    private final MigrationTarget target;
+
+    /**
+     * The number of successfully applied migrations. {@code 0} if the target failed or was skipped.
+     */
+    private final int migrationsExecuted;
+
+    /**
+     * The time it took to migrate the target, in milliseconds.
+     */
+    private final long executionTime;
+
+    /**
+     * The reason the migration of the target failed. {@code null} if it succeeded or was skipped.
+     */
+    private final FlywayException exception;
+
+    /**
+     * Whether the target was skipped because another one failed.
+     */
+    private final boolean skipped;
+
+    private MigrationTargetResult(MigrationTarget target, int migrationsExecuted, long executionTime,
+                                  FlywayException exception, boolean skipped) {
+        this.target = target;
+        this.migrationsExecuted = migrationsExecuted;
+        this.executionTime = executionTime;
+        this.exception = exception;
+        this.skipped = skipped;
+    }
+
+    /**
+     * Creates the result of a target that was migrated successfully.
+     *
+     * @param target             The target.
+     * @param migrationsExecuted The number of successfully applied migrations.
+     * @param executionTime      The time it took to migrate the target, in milliseconds.
+     * @return The result.
+     */
+    public static MigrationTargetResult success(MigrationTarget target, int migrationsExecuted, long executionTime) {
+        return new MigrationTargetResult(target, migrationsExecuted, executionTime, null, false);
+    }
+
+    /**
+     * Creates the result of a target whose migration failed.
+     *
+     * @param target        The target.
+     * @param executionTime The time it took until the migration of the target failed, in milliseconds.
+     * @param exception     The reason the migration failed.
+     * @return The result.
+     */
+    public static MigrationTargetResult failure(MigrationTarget target, long executionTime, FlywayException exception) {
+        return new MigrationTargetResult(target, 0, executionTime, exception, false);
+    }
+
+    /**
+     * Creates the result of a target that was skipped because another one failed.
+     *
+     * @param target The target.
+     * @return The result.
+     */
+    public static MigrationTargetResult skipped(MigrationTarget target) {
+        return new MigrationTargetResult(target, 0, 0, null, true);
+    }
+
+    /**
+     * @return The target.
+     */
+    public MigrationTarget getTarget() {
+        return target;
+    }
+
+    /**
+     * @return The number of successfully applied migrations. {@code 0} if the target failed or was skipped.
+     */
+    public int getMigrationsExecuted() {
+        return migrationsExecuted;
+    }
+
+    /**
+     * @return The time it took to migrate the target, in milliseconds.
+     */
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * @return The reason the migration of the target failed. {@code null} if it succeeded or was skipped.
+     */
+    public FlywayException getException() {
+        return exception;
+    }
+
+    /**
+     * @return {@code true} if the target was migrated successfully, {@code false} if it failed or was skipped.
+     */
+    public boolean isSuccess() {
+        return exception == null && !skipped;
+    }
+
+    /**
+     * @return {@code true} if the target was skipped because another one failed, {@code false} if not.
+     */
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public String toString() {
+        if (skipped) {
+            return target + ": skipped";
+        }
+        if (exception != null) {
+            return target + ": failed after " + executionTime + " ms (" + exception.getMessage() + ")";
+        }
+        return target + ": " + migrationsExecuted + " migration(s) applied in " + executionTime + " ms";
+    }
+}
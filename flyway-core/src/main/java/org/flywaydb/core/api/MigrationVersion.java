@@ -16,9 +16,8 @@
 package org.flywaydb.core.api;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A version of a migration.
@@ -26,30 +25,53 @@ import java.util.regex.Pattern;
  * @author Axel Fontaine
  */
 public final class MigrationVersion implements Comparable<MigrationVersion> {
+    /**
+     * The maximum number of versions to intern. Beyond this, new instances are simply created.
+     */
+    private static final int MAX_INTERNED_VERSIONS = 100000;
+
+    /**
+     * The interned versions, by version string, so that all resolved and applied migrations with the same version
+     * string share a single instance.
+     */
+    private static final ConcurrentMap<String, MigrationVersion> INTERNED_VERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The version string of the latest version.
+     */
+    private static final String LATEST_VERSION = Long.toString(Long.MAX_VALUE);
+
     /**
      * Version for an empty schema.
      */
-    public static final MigrationVersion EMPTY = new MigrationVersion(null, "<< Empty Schema >>");
+    public static final MigrationVersion EMPTY = new MigrationVersion(0, "<< Empty Schema >>");
 
     /**
      * Latest version.
      */
-    public static final MigrationVersion LATEST = new MigrationVersion(BigInteger.valueOf(-1), "<< Latest Version >>");
+    public static final MigrationVersion LATEST = new MigrationVersion(-1, "<< Latest Version >>");
 
     /**
      * Current version. Only a marker. For the real version use Flyway.info().current() instead.
      */
-    public static final MigrationVersion CURRENT = new MigrationVersion(BigInteger.valueOf(-2), "<< Current Version >>");
+    public static final MigrationVersion CURRENT = new MigrationVersion(-2, "<< Current Version >>");
 
     /**
-     * Compiled pattern for matching proper version format
+     * The individual parts this version string is composed of, without trailing zeros. Ex. 1.2.3.4.0 -> [1, 2, 3, 4]
+     * Only meaningful if {@link #bigVersionParts} is {@code null}.
      */
-    private static Pattern splitPattern = Pattern.compile("\\.(?=\\d)");
+    private final long[] versionParts;
 
     /**
-     * The individual parts this version string is composed of. Ex. 1.2.3.4.0 -> [1, 2, 3, 4, 0]
+     * The individual parts this version string is composed of, for the rare versions with a part that doesn't fit in a
+     * long. {@code null} for all other versions.
      */
-    private final List<BigInteger> versionParts;
+    private final BigInteger[] bigVersionParts;
+
+    /**
+     * The hash code of the version parts.
+     */
+    private final int hashCode;
 
     /**
      * The printable text to represent the version.
@@ -66,9 +88,20 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
     @SuppressWarnings("ConstantConditions")
     public static MigrationVersion fromVersion(String version) {
         if ("current".equalsIgnoreCase(version)) return CURRENT;
-        if (LATEST.getVersion().equals(version)) return LATEST;
+        if (LATEST_VERSION.equals(version)) return LATEST;
         if (version == null) return EMPTY;
-        return new MigrationVersion(version);
+
+        MigrationVersion migrationVersion = INTERNED_VERSIONS.get(version);
+        if (migrationVersion == null) {
+            migrationVersion = new MigrationVersion(version);
+            if (INTERNED_VERSIONS.size() < MAX_INTERNED_VERSIONS) {
+                MigrationVersion existing = INTERNED_VERSIONS.putIfAbsent(version, migrationVersion);
+                if (existing != null) {
+                    migrationVersion = existing;
+                }
+            }
+        }
+        return migrationVersion;
     }
 
     /**
@@ -79,20 +112,28 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      */
     private MigrationVersion(String version) {
         String normalizedVersion = version.replace('_', '.');
-        this.versionParts = tokenize(normalizedVersion);
+        long[] parts = tokenize(normalizedVersion);
+        if (parts == null) {
+            this.versionParts = null;
+            this.bigVersionParts = tokenizeBig(normalizedVersion);
+        } else {
+            this.versionParts = parts;
+            this.bigVersionParts = null;
+        }
+        this.hashCode = calculateHashCode();
         this.displayText = normalizedVersion;
     }
 
     /**
      * Creates a Version using this version string.
      *
-     * @param version     The version in one of the following formats: 6, 6.0, 005, 1.2.3.4, 201004200021. <br/>{@code null}
-     *                    means that this version refers to an empty schema.
+     * @param version     The version number.
      * @param displayText The alternative text to display instead of the version number.
      */
-    private MigrationVersion(BigInteger version, String displayText) {
-        this.versionParts = new ArrayList<>();
-        this.versionParts.add(version);
+    private MigrationVersion(long version, String displayText) {
+        this.versionParts = new long[]{version};
+        this.bigVersionParts = null;
+        this.hashCode = calculateHashCode();
         this.displayText = displayText;
     }
 
@@ -108,8 +149,8 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return Numeric version as String
      */
     public String getVersion() {
-        if (this.equals(EMPTY)) return null;
-        if (this.equals(LATEST)) return Long.toString(Long.MAX_VALUE);
+        if (this == EMPTY) return null;
+        if (this == LATEST) return LATEST_VERSION;
         return displayText;
     }
 
@@ -120,12 +161,12 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
 
         MigrationVersion version1 = (MigrationVersion) o;
 
-        return compareTo(version1) == 0;
+        return hashCode == version1.hashCode && compareTo(version1) == 0;
     }
 
     @Override
     public int hashCode() {
-        return versionParts == null ? 0 : versionParts.hashCode();
+        return hashCode;
     }
 
     @SuppressWarnings("NullableProblems")
@@ -134,6 +175,10 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
             return 1;
         }
 
+        if (this == o) {
+            return 0;
+        }
+
         if (this == EMPTY) {
             return o == EMPTY ? 0 : Integer.MIN_VALUE;
         }
@@ -157,11 +202,24 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (o == LATEST) {
             return Integer.MIN_VALUE;
         }
-        final List<BigInteger> parts1 = versionParts;
-        final List<BigInteger> parts2 = o.versionParts;
-        int largestNumberOfParts = Math.max(parts1.size(), parts2.size());
+
+        if (bigVersionParts == null && o.bigVersionParts == null) {
+            final long[] parts1 = versionParts;
+            final long[] parts2 = o.versionParts;
+            int largestNumberOfParts = Math.max(parts1.length, parts2.length);
+            for (int i = 0; i < largestNumberOfParts; i++) {
+                long part1 = i < parts1.length ? parts1[i] : 0;
+                long part2 = i < parts2.length ? parts2[i] : 0;
+                if (part1 != part2) {
+                    return part1 < part2 ? -1 : 1;
+                }
+            }
+            return 0;
+        }
+
+        int largestNumberOfParts = Math.max(getNumberOfParts(), o.getNumberOfParts());
         for (int i = 0; i < largestNumberOfParts; i++) {
-            final int compared = getOrZero(parts1, i).compareTo(getOrZero(parts2, i));
+            final int compared = getBigPartOrZero(i).compareTo(o.getBigPartOrZero(i));
             if (compared != 0) {
                 return compared;
             }
@@ -169,33 +227,138 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         return 0;
     }
 
-    private BigInteger getOrZero(List<BigInteger> elements, int i) {
-        return i < elements.size() ? elements.get(i) : BigInteger.ZERO;
+    private int getNumberOfParts() {
+        return bigVersionParts == null ? versionParts.length : bigVersionParts.length;
+    }
+
+    private BigInteger getBigPartOrZero(int i) {
+        if (i >= getNumberOfParts()) {
+            return BigInteger.ZERO;
+        }
+        return bigVersionParts == null ? BigInteger.valueOf(versionParts[i]) : bigVersionParts[i];
+    }
+
+    private int calculateHashCode() {
+        int result = 1;
+        if (bigVersionParts == null) {
+            for (long part : versionParts) {
+                result = 31 * result + (int) (part ^ (part >>> 32));
+            }
+        } else {
+            for (BigInteger part : bigVersionParts) {
+                result = 31 * result + part.hashCode();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits this string into its numeric parts. Parts are separated by dots followed by a digit. Only the first part
+     * may have a sign. Trailing zero parts are dropped.
+     *
+     * @param str The string to split.
+     * @return The resulting parts or {@code null} if a part doesn't fit in a long.
+     */
+    private static long[] tokenize(String str) {
+        long[] parts = new long[countParts(str)];
+        int part = 0;
+        int i = 0;
+        int length = str.length();
+        while (part < parts.length) {
+            boolean negative = false;
+            if (part == 0 && i < length && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+                negative = str.charAt(i) == '-';
+                i++;
+            }
+
+            int start = i;
+            long value = 0;
+            while (i < length && !isPartSeparator(str, i)) {
+                int digit = Character.digit(str.charAt(i), 10);
+                if (digit < 0) {
+                    throw invalidVersion(str);
+                }
+                if (value > (Long.MAX_VALUE - digit) / 10) {
+                    return null;
+                }
+                value = value * 10 + digit;
+                i++;
+            }
+            if (i == start) {
+                throw invalidVersion(str);
+            }
+
+            parts[part++] = negative ? -value : value;
+            // Skip the separator
+            i++;
+        }
+
+        int numberOfParts = parts.length;
+        while (numberOfParts > 1 && parts[numberOfParts - 1] == 0) {
+            numberOfParts--;
+        }
+        if (numberOfParts == parts.length) {
+            return parts;
+        }
+        long[] trimmedParts = new long[numberOfParts];
+        System.arraycopy(parts, 0, trimmedParts, 0, numberOfParts);
+        return trimmedParts;
     }
 
     /**
-     * Splits this string into list of Long
+     * Splits this string into its numeric parts, for versions with parts that don't fit in a long.
      *
      * @param str The string to split.
-     * @return The resulting array.
+     * @return The resulting parts.
      */
-    private List<BigInteger> tokenize(String str) {
-        List<BigInteger> parts = new ArrayList<>();
+    private static BigInteger[] tokenizeBig(String str) {
+        BigInteger[] parts = new BigInteger[countParts(str)];
+        int start = 0;
+        int part = 0;
         try {
-            for (String part : splitPattern.split(str)) {
-                parts.add(new BigInteger(part));
+            for (int i = 0; i <= str.length(); i++) {
+                if (i == str.length() || isPartSeparator(str, i)) {
+                    parts[part++] = new BigInteger(str.substring(start, i));
+                    start = i + 1;
+                }
             }
         } catch (NumberFormatException e) {
-            throw new FlywayException(
-                    "Invalid version containing non-numeric characters. Only 0..9 and . are allowed. Invalid version: "
-                            + str);
+            throw invalidVersion(str);
         }
-        for (int i = parts.size() - 1; i > 0; i--) {
-            if (!parts.get(i).equals(BigInteger.ZERO)) {
-                break;
+
+        int numberOfParts = parts.length;
+        while (numberOfParts > 1 && parts[numberOfParts - 1].equals(BigInteger.ZERO)) {
+            numberOfParts--;
+        }
+        BigInteger[] trimmedParts = new BigInteger[numberOfParts];
+        System.arraycopy(parts, 0, trimmedParts, 0, numberOfParts);
+        return trimmedParts;
+    }
+
+    private static int countParts(String str) {
+        int count = 1;
+        for (int i = 0; i < str.length(); i++) {
+            if (isPartSeparator(str, i)) {
+                count++;
             }
-            parts.remove(i);
         }
-        return parts;
+        return count;
+    }
+
+    /**
+     * Checks whether the character at this position separates two parts: a dot followed by a digit.
+     */
+    private static boolean isPartSeparator(String str, int i) {
+        if (str.charAt(i) != '.' || i + 1 >= str.length()) {
+            return false;
+        }
+        char next = str.charAt(i + 1);
+        return next >= '0' && next <= '9';
+    }
+
+    private static FlywayException invalidVersion(String str) {
+        return new FlywayException(
+                "Invalid version containing non-numeric characters. Only 0..9 and . are allowed. Invalid version: "
+                        + str);
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.flywaydb.core.api.configuration;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.callback.FlywayCallback;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
+import org.flywaydb.core.api.metrics.MetricsListener;
 import org.flywaydb.core.api.resolver.MigrationResolver;
 
 import javax.sql.DataSource;
@@ -86,6 +87,13 @@ public interface FlywayConfiguration {
      */
     boolean isSkipDefaultCallbacks();
 
+    /**
+     * Gets the listeners for the metrics collected while executing commands, such as the time spent in each phase.
+     *
+     * @return The listeners for the metrics. An empty array if none. (default: none)
+     */
+    MetricsListener[] getMetricsListeners();
+
     /**
      * The file name prefix for versioned SQL migrations.
      * <p>Versioned SQL migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTIONsuffix ,
@@ -322,6 +330,23 @@ public interface FlywayConfiguration {
      */
     boolean isCleanDisabled();
 
+    /**
+     * The maximum number of schemas to clean concurrently. Each schema is then cleaned on its own connection obtained
+     * from the DataSource.
+     *
+     * @return The number of threads. (default: 1)
+     */
+    int getCleanThreads();
+
+    /**
+     * Whether Oracle schemas are cleaned server-side. Each object type is then dropped by a single anonymous PL/SQL
+     * block instead of one statement per object.
+     *
+     * @return {@code true} to clean server-side, {@code false} to drop each object from the client.
+     * (default: {@code false})
+     */
+    boolean isOracleBulkClean();
+
     /**
      * Whether to allow mixing transactional and non-transactional statements within the same migration.
      *
@@ -336,6 +361,59 @@ public interface FlywayConfiguration {
      */
     boolean isGroup();
 
+    /**
+     * Whether to stream SQL migrations from their resource instead of loading and parsing them in full before
+     * executing them. Each statement is executed as soon as it has been parsed, keeping memory usage bounded by
+     * the largest single statement. This is recommended for very large scripts such as data seeds.
+     *
+     * @return {@code true} if SQL migrations should be streamed. {@code false} if they should be loaded in full instead. (default: {@code false})
+     */
+    boolean isStream();
+
+    /**
+     * The directory in which to cache the statement boundaries of parsed SQL scripts. Scripts whose contents,
+     * placeholder values and database type match a cached entry are not parsed again but simply split up along the
+     * cached boundaries. This speeds up repeated deployments of the same migrations.
+     *
+     * @return The directory or {@code null} to always parse SQL scripts. (default: {@code null})
+     */
+    String getParseCacheDir();
+
+    /**
+     * Whether to group consecutive DML statements (INSERT, UPDATE, DELETE, ...) of a SQL migration into JDBC batches
+     * instead of sending them to the database one by one. This greatly reduces the number of network round trips for
+     * data migrations. Batching only takes place for migrations executed within a transaction. Should a batch fail, it
+     * is rolled back and its statements are executed one by one again to report the exact statement that failed.
+     *
+     * @return {@code true} if DML statements should be batched. {@code false} if they should be executed one by one. (default: {@code false})
+     */
+    boolean isBatch();
+
+    /**
+     * The maximum number of statements to group in a single JDBC batch when batching is enabled.
+     *
+     * @return The batch size. (default: 100)
+     */
+    int getBatchSize();
+
+    /**
+     * Whether migrate should first compare a fingerprint of the available migrations and of the schema history table
+     * with the one recorded by the last migration run that left the schema up to date. When they match, migrate returns
+     * immediately without resolving, validating or applying migrations, and without invoking the beforeMigrate and
+     * afterMigrate callbacks, including their SQL scripts. This greatly reduces the startup cost when many instances of
+     * an application migrate the same schema at once.
+     * <p>This trades safety for speed: the available migrations are fingerprinted by name, size and modification time
+     * (or indexed checksum) instead of by contents, so an edit keeping both the size and the modification time of a
+     * file goes unnoticed, and validation errors such as checksum mismatches are only reported by the next run whose
+     * fingerprint doesn't match. The check is skipped when custom migration resolvers are configured.</p>
+     * <p>The fingerprint is recorded in its own table, named after the schema history table with a _fp suffix and
+     * shortened to 30 characters if needed, so the schema history table only ever holds applied migrations. Failing to
+     * record it is logged and doesn't fail the migration.</p>
+     *
+     * @return {@code true} to check the fingerprint first. {@code false} to always resolve and validate. (default: {@code false})
+     */
+    boolean isFastUpToDateCheck();
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      *
@@ -15,10 +15,20 @@
  */
 package org.flywaydb.core.api.logging;
 
+import org.flywaydb.core.internal.util.logging.LogMessageFormatter;
+
 /**
  * A logger.
  */
 public interface Log {
+    /**
+     * @return {@code true} if debug messages are logged, {@code false} if they are discarded. Defaults to
+     * {@code true} for implementations that can't tell.
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
     /**
      * Logs a debug message.
      *
@@ -26,6 +36,19 @@ public interface Log {
      */
     void debug(String message);
 
+    /**
+     * Logs a debug message, which is only formatted if debug messages are logged. This avoids building messages that
+     * would be discarded anyway.
+     *
+     * @param format The format of the message, with a {@code {}} for each argument.
+     * @param args   The arguments of the message.
+     */
+    default void debug(String format, Object... args) {
+        if (isDebugEnabled()) {
+            debug(LogMessageFormatter.format(format, args));
+        }
+    }
+
     /**
      * Logs an info message.
      *
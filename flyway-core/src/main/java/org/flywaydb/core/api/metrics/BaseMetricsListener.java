@@ -0,0 +1,38 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api.metrics;
+
+/**
+ * Convenience base no-op implementation of MetricsListener. Extend this class if you want to implement just a few
+ * listener methods without having to provide no-op methods yourself.
+ */
+public abstract class BaseMetricsListener implements MetricsListener {
+    @Override
+    public void phaseTimed(MetricsPhase phase, long durationNanos) {
+    }
+
+    @Override
+    public void counterIncremented(MetricsCounter counter, long increment) {
+    }
+
+    @Override
+    public void statementExecuted(String resource, int lineNumber, long durationNanos) {
+    }
+
+    @Override
+    public void commandCompleted(String command, long durationNanos) {
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api.metrics;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+
+/**
+ * MetricsListener that logs the breakdown of the time spent in each phase of a command once it completed.
+ */
+public class LogMetricsListener extends PhaseBreakdownMetricsListener {
+    private static final Log LOG = LogFactory.getLog(LogMetricsListener.class);
+
+    @Override
+    protected void report(String breakdown) {
+        LOG.info(breakdown);
+    }
+}
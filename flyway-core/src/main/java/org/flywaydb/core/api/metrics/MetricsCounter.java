@@ -0,0 +1,67 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api.metrics;
+
+/**
+ * The events a Flyway command counts.
+ */
+public enum MetricsCounter {
+    /**
+     * Resources and classes found while scanning the locations.
+     */
+    RESOURCES_SCANNED("Resources scanned"),
+
+    /**
+     * Migrations resolved from the resources and classes found.
+     */
+    MIGRATIONS_RESOLVED("Migrations resolved"),
+
+    /**
+     * Migrations successfully applied.
+     */
+    MIGRATIONS_APPLIED("Migrations applied"),
+
+    /**
+     * Sql statements executed.
+     */
+    STATEMENTS_EXECUTED("Statements executed"),
+
+    /**
+     * Attempts made to acquire the lock on the schema history table.
+     */
+    LOCK_ATTEMPTS("Lock attempts");
+
+    /**
+     * The name suitable for display to the end-user.
+     */
+    private final String displayName;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param displayName The name suitable for display to the end-user.
+     */
+    MetricsCounter(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return The name suitable for display to the end-user.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api.metrics;
+
+/**
+ * Listener for the metrics collected while Flyway executes a command: the time spent in each phase, counters and the
+ * execution of each sql statement.
+ *
+ * <p>Listeners are shared by all commands executed with the same configuration, including the ones executed
+ * concurrently by a fan-out migration. Implementations must therefore be thread-safe.</p>
+ */
+public interface MetricsListener {
+    /**
+     * Invoked each time the command spent time in this phase. The time spent in a phase nested within another one, such
+     * as scanning while resolving, is only reported for the inner phase.
+     *
+     * @param phase         The phase.
+     * @param durationNanos The time spent in the phase, in nanoseconds.
+     */
+    void phaseTimed(MetricsPhase phase, long durationNanos);
+
+    /**
+     * Invoked each time the command counted events.
+     *
+     * @param counter   The counter.
+     * @param increment The number of events.
+     */
+    void counterIncremented(MetricsCounter counter, long increment);
+
+    /**
+     * Invoked after each sql statement executed by a migration or a callback script.
+     *
+     * @param resource      The location of the script the statement is part of. {@code null} for internal scripts.
+     * @param lineNumber    The line number of the statement within the script.
+     * @param durationNanos The time spent executing the statement, in nanoseconds.
+     */
+    void statementExecuted(String resource, int lineNumber, long durationNanos);
+
+    /**
+     * Invoked once the command completed, whether it succeeded or not.
+     *
+     * @param command       The name of the command (migrate, clean, ...).
+     * @param durationNanos The total time spent executing the command, in nanoseconds.
+     */
+    void commandCompleted(String command, long durationNanos);
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api.metrics;
+
+/**
+ * The phases a Flyway command spends its time in.
+ */
+public enum MetricsPhase {
+    /**
+     * Connecting to the database and detecting its type and version.
+     */
+    CONNECT("Connect"),
+
+    /**
+     * Scanning the locations for migration resources and classes.
+     */
+    SCAN("Scan"),
+
+    /**
+     * Resolving the migrations from the resources and classes found, including calculating their checksums.
+     */
+    RESOLVE("Resolve"),
+
+    /**
+     * Validating the resolved migrations against the applied ones.
+     */
+    VALIDATE("Validate"),
+
+    /**
+     * Waiting for the lock on the schema history table.
+     */
+    LOCK_WAIT("Lock wait"),
+
+    /**
+     * Executing the migrations.
+     */
+    EXECUTE("Execute"),
+
+    /**
+     * Reading and updating the schema history table.
+     */
+    SCHEMA_HISTORY("Schema history");
+
+    /**
+     * The name suitable for display to the end-user.
+     */
+    private final String displayName;
+
+    /**
+     * Creates a new phase.
+     *
+     * @param displayName The name suitable for display to the end-user.
+     */
+    MetricsPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return The name suitable for display to the end-user.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.api.metrics;
+
+import org.flywaydb.core.internal.util.AsciiTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base MetricsListener that sums up the metrics of each command and, once it completed, reports them as an ascii table
+ * breaking down the time spent in each phase. Flyway collects the metrics of each command separately through
+ * {@link #forCommand()}, so commands executed concurrently, such as the targets of
+ * {@link org.flywaydb.core.Flyway#migrateTargets}, each get their own breakdown.
+ */
+public abstract class PhaseBreakdownMetricsListener extends BaseMetricsListener {
+    /**
+     * The metrics reported to this listener directly, rather than through {@link #forCommand()}.
+     */
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Override
+    public void phaseTimed(MetricsPhase phase, long durationNanos) {
+        metrics.phaseTimed(phase, durationNanos);
+    }
+
+    @Override
+    public void counterIncremented(MetricsCounter counter, long increment) {
+        metrics.counterIncremented(counter, increment);
+    }
+
+    @Override
+    public void statementExecuted(String resource, int lineNumber, long durationNanos) {
+        metrics.statementExecuted(resource, lineNumber, durationNanos);
+    }
+
+    @Override
+    public void commandCompleted(String command, long durationNanos) {
+        metrics.commandCompleted(command, durationNanos);
+    }
+
+    /**
+     * Creates a listener summing up the metrics of a single command on its own. Its breakdown is reported through
+     * {@link #report(String)} of this listener once the command completed.
+     *
+     * @return The listener for the command.
+     */
+    public MetricsListener forCommand() {
+        return new CommandMetrics();
+    }
+
+    /**
+     * Reports the breakdown of a completed command.
+     *
+     * @param breakdown The breakdown, as one big multi-line string.
+     */
+    protected abstract void report(String breakdown);
+
+    private static List<String> createRow(String name, long nanos, long totalNanos) {
+        long share = totalNanos == 0 ? 0 : Math.round(nanos * 100.0 / totalNanos);
+        return Arrays.asList(name, String.valueOf(TimeUnit.NANOSECONDS.toMillis(nanos)), share + " %");
+    }
+
+    /**
+     * The metrics summed up for a command.
+     */
+    private class CommandMetrics extends BaseMetricsListener {
+        /**
+         * The time spent in each phase so far, in nanoseconds.
+         */
+        private final Map<MetricsPhase, Long> phaseNanos = new EnumMap<>(MetricsPhase.class);
+
+        /**
+         * The value of each counter so far.
+         */
+        private final Map<MetricsCounter, Long> counters = new EnumMap<>(MetricsCounter.class);
+
+        /**
+         * The resource and line number of the slowest statement so far. {@code null} if none.
+         */
+        private String slowestStatement;
+
+        /**
+         * The time spent executing the slowest statement so far, in nanoseconds.
+         */
+        private long slowestStatementNanos;
+
+        @Override
+        public synchronized void phaseTimed(MetricsPhase phase, long durationNanos) {
+            Long nanos = phaseNanos.get(phase);
+            phaseNanos.put(phase, (nanos == null ? 0 : nanos) + durationNanos);
+        }
+
+        @Override
+        public synchronized void counterIncremented(MetricsCounter counter, long increment) {
+            Long value = counters.get(counter);
+            counters.put(counter, (value == null ? 0 : value) + increment);
+        }
+
+        @Override
+        public synchronized void statementExecuted(String resource, int lineNumber, long durationNanos) {
+            if (slowestStatement == null || durationNanos > slowestStatementNanos) {
+                slowestStatement = (resource == null ? "internal script" : resource) + " (line " + lineNumber + ")";
+                slowestStatementNanos = durationNanos;
+            }
+        }
+
+        @Override
+        public void commandCompleted(String command, long durationNanos) {
+            String breakdown;
+            synchronized (this) {
+                breakdown = createBreakdown(command, durationNanos);
+                phaseNanos.clear();
+                counters.clear();
+                slowestStatement = null;
+                slowestStatementNanos = 0;
+            }
+            report(breakdown);
+        }
+
+        private String createBreakdown(String command, long durationNanos) {
+            List<List<String>> rows = new ArrayList<>();
+            long phasesNanos = 0;
+            for (Map.Entry<MetricsPhase, Long> entry : phaseNanos.entrySet()) {
+                rows.add(createRow(entry.getKey().getDisplayName(), entry.getValue(), durationNanos));
+                phasesNanos += entry.getValue();
+            }
+            if (durationNanos > phasesNanos) {
+                rows.add(createRow("Other", durationNanos - phasesNanos, durationNanos));
+            }
+            rows.add(createRow("Total", durationNanos, durationNanos));
+
+            StringBuilder breakdown = new StringBuilder();
+            breakdown.append("Time spent by ").append(command).append(":\n");
+            breakdown.append(new AsciiTable(Arrays.asList("Phase", "Time (ms)", "Share"), rows, "", "").render());
+            for (Map.Entry<MetricsCounter, Long> entry : counters.entrySet()) {
+                breakdown.append(entry.getKey().getDisplayName()).append(": ").append(entry.getValue()).append("\n");
+            }
+            if (slowestStatement != null) {
+                breakdown.append("Slowest statement: ").append(slowestStatement)
+                        .append(" in ").append(TimeUnit.NANOSECONDS.toMillis(slowestStatementNanos)).append(" ms\n");
+            }
+            return breakdown.toString();
+        }
+    }
+}
\ No newline at end of file
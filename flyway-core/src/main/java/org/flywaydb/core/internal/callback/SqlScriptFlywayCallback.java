@@ -35,6 +35,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Flyway Callback, looking for SQL scripts (named like on the callback methods) inside the configured locations.
@@ -72,6 +73,11 @@ public class SqlScriptFlywayCallback implements FlywayCallback {
 
     private final Map<String, SqlScript> scripts = new HashMap<>();
 
+    /**
+     * The sources of the callback scripts that were found, after placeholder replacement, by callback name.
+     */
+    private final Map<String, String> sources = new TreeMap<>();
+
     /**
      * Creates a new instance.
      *
@@ -106,8 +112,11 @@ public class SqlScriptFlywayCallback implements FlywayCallback {
                                 "-> " + existing.getResource().getLocationOnDisk() + "\n" +
                                 "-> " + resource.getLocationOnDisk());
                     }
+                    String source = placeholderReplacer.replacePlaceholders(
+                            resource.loadAsString(configuration.getEncoding()));
+                    sources.put(key, source);
                     scripts.put(key, database.createSqlScript(resource,
-                            placeholderReplacer.replacePlaceholders(resource.loadAsString(configuration.getEncoding())),
+                            source,
                             configuration.isMixed()
 
 
@@ -118,6 +127,13 @@ public class SqlScriptFlywayCallback implements FlywayCallback {
         }
     }
 
+    /**
+     * @return The sources of the callback scripts that were found, after placeholder replacement, by callback name.
+     */
+    public Map<String, String> getSources() {
+        return sources;
+    }
+
     private String stripSuffix(String fileName, String[] suffixes) {
         for (String suffix : suffixes) {
             if (fileName.endsWith(suffix)) {
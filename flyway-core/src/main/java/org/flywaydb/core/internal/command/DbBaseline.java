@@ -18,6 +18,7 @@ package org.flywaydb.core.internal.command;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.callback.FlywayCallback;
+import org.flywaydb.core.internal.database.CatalogSnapshot;
 import org.flywaydb.core.internal.database.Connection;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.Schema;
@@ -69,6 +70,11 @@ public class DbBaseline {
      */
     private final Schema schema;
 
+    /**
+     * The snapshot of the catalog, forgotten after every callback.
+     */
+    private final CatalogSnapshot catalogSnapshot;
+
     /**
      * Creates a new DbBaseline.
      *
@@ -86,6 +92,7 @@ public class DbBaseline {
         this.baselineVersion = baselineVersion;
         this.baselineDescription = baselineDescription;
         this.callbacks = callbacks;
+        this.catalogSnapshot = database.getCatalogSnapshot();
     }
 
     /**
@@ -99,6 +106,7 @@ public class DbBaseline {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schema);
                         callback.beforeBaseline(connection.getJdbcConnection());
+                        catalogSnapshot.invalidate();
                         return null;
                     }
                 });
@@ -142,6 +150,7 @@ public class DbBaseline {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schema);
                         callback.afterBaseline(connection.getJdbcConnection());
+                        catalogSnapshot.invalidate();
                         return null;
                     }
                 });
@@ -22,14 +22,20 @@ import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.util.StopWatch;
+import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.TimeFormat;
 import org.flywaydb.core.internal.util.jdbc.TransactionTemplate;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Main workflow for cleaning the database.
@@ -37,6 +43,11 @@ import java.util.concurrent.Callable;
 public class DbClean {
     private static final Log LOG = LogFactory.getLog(DbClean.class);
 
+    /**
+     * The database to clean.
+     */
+    private final Database database;
+
     /**
      * The connection to use.
      */
@@ -65,22 +76,30 @@ public class DbClean {
      */
     private boolean cleanDisabled;
 
+    /**
+     * The maximum number of schemas to clean concurrently, each on its own connection.
+     */
+    private final int cleanThreads;
+
     /**
      * Creates a new database cleaner.
      *
-     * @param database     The DB support for the connection.
+     * @param database      The DB support for the connection.
      * @param schemaHistory The schema history table.
      * @param schemas       The schemas to clean.
      * @param callbacks     The list of callbacks that fire before or after the clean task is executed.
      * @param cleanDisabled Whether to disable clean.
+     * @param cleanThreads  The maximum number of schemas to clean concurrently, each on its own connection.
      */
     public DbClean(Database database, SchemaHistory schemaHistory, Schema[] schemas,
-                   List<FlywayCallback> callbacks, boolean cleanDisabled) {
+                   List<FlywayCallback> callbacks, boolean cleanDisabled, int cleanThreads) {
+        this.database = database;
         this.connection = database.getMainConnection();
         this.schemaHistory = schemaHistory;
         this.schemas = schemas;
         this.callbacks = callbacks;
         this.cleanDisabled = cleanDisabled;
+        this.cleanThreads = cleanThreads;
     }
 
     /**
@@ -99,6 +118,7 @@ public class DbClean {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schemas[0]);
                         callback.beforeClean(connection.getJdbcConnection());
+                        database.getCatalogSnapshot().invalidate();
                         return null;
                     }
                 });
@@ -112,16 +132,29 @@ public class DbClean {
                 LOG.error("Error while checking whether the schemas should be dropped", e);
             }
 
+            List<Schema> existingSchemas = new ArrayList<>();
             for (Schema schema : schemas) {
                 if (!schema.exists()) {
                     LOG.warn("Unable to clean unknown schema: " + schema);
                     continue;
                 }
+                existingSchemas.add(schema);
+            }
 
-                if (dropSchemas) {
-                    dropSchema(schema);
-                } else {
-                    cleanSchema(schema);
+            int threads = Math.min(cleanThreads, existingSchemas.size());
+            if (threads > 1 && database.supportsConcurrentClean()) {
+                cleanConcurrently(existingSchemas, dropSchemas, threads);
+            } else {
+                if (threads > 1) {
+                    LOG.debug("Concurrent clean is not supported by " + database.getDbName()
+                            + ". Cleaning schemas one by one.");
+                }
+                for (Schema schema : existingSchemas) {
+                    if (dropSchemas) {
+                        dropSchema(connection, schema);
+                    } else {
+                        cleanSchema(connection, schema);
+                    }
                 }
             }
 
@@ -131,6 +164,7 @@ public class DbClean {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schemas[0]);
                         callback.afterClean(connection.getJdbcConnection());
+                        database.getCatalogSnapshot().invalidate();
                         return null;
                     }
                 });
@@ -141,13 +175,78 @@ public class DbClean {
         }
     }
 
+    /**
+     * Cleans or drops these schemas concurrently, each on its own connection. The schemas that could be cleaned are
+     * cleaned even if others fail.
+     *
+     * @param schemasToClean The schemas to clean.
+     * @param dropSchemas    Whether to drop the schemas instead of cleaning them.
+     * @param threads        The number of schemas to clean concurrently.
+     * @throws FlywayException listing all schemas that could not be cleaned.
+     */
+    private void cleanConcurrently(List<Schema> schemasToClean, final boolean dropSchemas, int threads) {
+        LOG.info("Cleaning " + schemasToClean.size() + " schemas using " + threads + " threads");
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> futures = new ArrayList<>(schemasToClean.size());
+            for (final Schema schema : schemasToClean) {
+                futures.add(executorService.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() {
+                        Connection schemaConnection = database.openConnection();
+                        try {
+                            Schema connectionSchema = schemaConnection.getSchema(schema.getName());
+                            if (dropSchemas) {
+                                dropSchema(schemaConnection, connectionSchema);
+                            } else {
+                                cleanSchema(schemaConnection, connectionSchema);
+                            }
+                        } finally {
+                            schemaConnection.close();
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            List<String> failedSchemas = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    LOG.error("Unable to clean schema " + schemasToClean.get(i) + ": " + e.getCause().getMessage());
+                    failedSchemas.add(schemasToClean.get(i).toString());
+                    failures.add(e.getCause());
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                FlywayException exception = new FlywayException("Unable to clean " + failures.size() + " of "
+                        + schemasToClean.size() + " schemas: "
+                        + StringUtils.collectionToCommaDelimitedString(failedSchemas), failures.get(0));
+                for (int i = 1; i < failures.size(); i++) {
+                    exception.addSuppressed(failures.get(i));
+                }
+                throw exception;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while cleaning schemas", e);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     /**
      * Drops this schema.
      *
-     * @param schema The schema to drop.
+     * @param connection The connection to drop the schema with.
+     * @param schema     The schema to drop.
      * @throws FlywayException when the drop failed.
      */
-    private void dropSchema(final Schema schema) {
+    private void dropSchema(Connection connection, final Schema schema) {
         LOG.debug("Dropping schema " + schema + " ...");
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
@@ -166,10 +265,11 @@ public class DbClean {
     /**
      * Cleans this schema of all objects.
      *
-     * @param schema The schema to clean.
+     * @param connection The connection to clean the schema with.
+     * @param schema     The schema to clean.
      * @throws FlywayException when clean failed.
      */
-    private void cleanSchema(final Schema schema) {
+    private void cleanSchema(Connection connection, final Schema schema) {
         LOG.debug("Cleaning schema " + schema + " ...");
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
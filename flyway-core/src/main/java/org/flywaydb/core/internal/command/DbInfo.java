@@ -19,6 +19,7 @@ import org.flywaydb.core.api.MigrationInfoService;
 import org.flywaydb.core.api.callback.FlywayCallback;
 import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.internal.database.CatalogSnapshot;
 import org.flywaydb.core.internal.database.Connection;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.Schema;
@@ -37,6 +38,7 @@ public class DbInfo {
     private final FlywayConfiguration configuration;
     private final Schema[] schemas;
     private final List<FlywayCallback> effectiveCallbacks;
+    private final CatalogSnapshot catalogSnapshot;
 
     public DbInfo(MigrationResolver migrationResolver, SchemaHistory schemaHistory,
                   final Database database, FlywayConfiguration configuration, Schema[] schemas, List<FlywayCallback> effectiveCallbacks) {
@@ -47,6 +49,7 @@ public class DbInfo {
         this.configuration = configuration;
         this.schemas = schemas;
         this.effectiveCallbacks = effectiveCallbacks;
+        this.catalogSnapshot = database.getCatalogSnapshot();
     }
 
     public MigrationInfoService info() {
@@ -57,6 +60,7 @@ public class DbInfo {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schemas[0]);
                         callback.beforeInfo(connection.getJdbcConnection());
+                        catalogSnapshot.invalidate();
                         return null;
                     }
                 });
@@ -73,6 +77,7 @@ public class DbInfo {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schemas[0]);
                         callback.afterInfo(connection.getJdbcConnection());
+                        catalogSnapshot.invalidate();
                         return null;
                     }
                 });
@@ -23,6 +23,8 @@ import org.flywaydb.core.api.callback.FlywayCallback;
 import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.metrics.MetricsCounter;
+import org.flywaydb.core.api.metrics.MetricsPhase;
 import org.flywaydb.core.api.resolver.MigrationExecutor;
 import org.flywaydb.core.api.resolver.MigrationResolver;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
@@ -31,6 +33,7 @@ import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.info.MigrationInfoImpl;
 import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.sqlscript.FlywaySqlScriptException;
 import org.flywaydb.core.internal.util.StopWatch;
@@ -87,6 +90,17 @@ public class DbMigrate {
      */
     private final Connection connectionUserObjects;
 
+    /**
+     * The info about the migrations, kept up to date incrementally across groups. It is carried forward from the
+     * validation of the same command when available.
+     */
+    private MigrationInfoServiceImpl infoService;
+
+    /**
+     * The fingerprint of the available migrations to record once the schema is up to date. {@code null} if none.
+     */
+    private final String upToDateFingerprint;
+
     /**
      * Creates a new database migrator.
      *
@@ -95,10 +109,15 @@ public class DbMigrate {
      * @param migrationResolver  The migration resolver.
      * @param configuration      The Flyway configuration.
      * @param effectiveCallbacks The callbacks to use.
+     * @param infoService        The info about the migrations, as already built while validating them within the same
+     *                           command. {@code null} to build it.
+     * @param upToDateFingerprint The fingerprint of the available migrations to record once the schema is up to date.
+     *                            {@code null} if none.
      */
     public DbMigrate(Database database,
                      SchemaHistory schemaHistory, Schema schema, MigrationResolver migrationResolver,
-                     FlywayConfiguration configuration, List<FlywayCallback> effectiveCallbacks) {
+                     FlywayConfiguration configuration, List<FlywayCallback> effectiveCallbacks,
+                     MigrationInfoServiceImpl infoService, String upToDateFingerprint) {
         this.database = database;
         this.connectionUserObjects = database.getMigrationConnection();
         this.schemaHistory = schemaHistory;
@@ -106,6 +125,8 @@ public class DbMigrate {
         this.migrationResolver = migrationResolver;
         this.configuration = configuration;
         this.effectiveCallbacks = effectiveCallbacks;
+        this.infoService = infoService;
+        this.upToDateFingerprint = upToDateFingerprint;
     }
 
     /**
@@ -122,6 +143,7 @@ public class DbMigrate {
                     public Object call() {
                         connectionUserObjects.changeCurrentSchemaTo(schema);
                         callback.beforeMigrate(connectionUserObjects.getJdbcConnection());
+                        database.getCatalogSnapshot().invalidate();
                         return null;
                     }
                 });
@@ -154,6 +176,7 @@ public class DbMigrate {
                     public Object call() {
                         connectionUserObjects.changeCurrentSchemaTo(schema);
                         callback.afterMigrate(connectionUserObjects.getJdbcConnection());
+                        database.getCatalogSnapshot().invalidate();
                         return null;
                     }
                 });
@@ -195,9 +218,11 @@ public class DbMigrate {
      * @return The number of newly applied migrations.
      */
     private Integer migrateGroup(boolean firstRun) {
-        MigrationInfoServiceImpl infoService =
-                new MigrationInfoServiceImpl(migrationResolver, schemaHistory, configuration.getTarget(), configuration.isOutOfOrder(), true, true, true, true);
-        infoService.refresh();
+        if (infoService == null) {
+            infoService = new MigrationInfoServiceImpl(migrationResolver, schemaHistory, configuration.getTarget(), configuration.isOutOfOrder(), true, true, true, true);
+        }
+        // Only the migrations applied since the previous group or the validation need to be picked up
+        infoService.refreshApplied();
 
         MigrationInfo current = infoService.current();
         MigrationVersion currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
@@ -244,7 +269,7 @@ public class DbMigrate {
         }
 
         LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
-        for (MigrationInfoImpl pendingMigration : infoService.pending()) {
+        for (MigrationInfoImpl pendingMigration : infoService.pending(configuration.isGroup() ? Integer.MAX_VALUE : 1)) {
             boolean isOutOfOrder = pendingMigration.getVersion() != null
                     && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
             group.put(pendingMigration, isOutOfOrder);
@@ -257,6 +282,9 @@ public class DbMigrate {
 
         if (!group.isEmpty()) {
             applyMigrations(group);
+        } else if (upToDateFingerprint != null) {
+            // Still holding the lock, so instances waiting for it can skip straight to this outcome
+            schemaHistory.markUpToDate(upToDateFingerprint);
         }
         return group.size();
     }
@@ -294,6 +322,17 @@ public class DbMigrate {
                 new TransactionTemplate(connectionUserObjects.getJdbcConnection()).execute(new Callable<Object>() {
                     @Override
                     public Object call() {
+                        if (configuration.isGroup() && database.supportsDdlTransactions()) {
+                            // The whole group is committed or rolled back at once, so its rows in the schema
+                            // history table can all be inserted at the end
+                            return schemaHistory.deferAppliedMigrations(new Callable<Object>() {
+                                @Override
+                                public Object call() {
+                                    doMigrateGroup(group, stopWatch);
+                                    return null;
+                                }
+                            });
+                        }
                         doMigrateGroup(group, stopWatch);
                         return null;
                     }
@@ -357,19 +396,26 @@ public class DbMigrate {
 
             for (final FlywayCallback callback : effectiveCallbacks) {
                 callback.beforeEachMigrate(connectionUserObjects.getJdbcConnection(), migration);
+                database.getCatalogSnapshot().invalidate();
             }
 
+            MetricsRecorder metricsRecorder = database.getMetricsRecorder();
+            metricsRecorder.startPhase(MetricsPhase.EXECUTE);
             try {
                 migration.getResolvedMigration().getExecutor().execute(connectionUserObjects.getJdbcConnection());
             } catch (FlywaySqlScriptException e) {
                 throw new FlywayMigrateSqlException(migration, isOutOfOrder, e);
             } catch (SQLException e) {
                 throw new FlywayMigrateSqlException(migration, isOutOfOrder, e);
+            } finally {
+                metricsRecorder.stopPhase(MetricsPhase.EXECUTE);
+                database.getCatalogSnapshot().invalidate();
             }
             LOG.debug("Successfully completed migration of " + migrationText);
 
             for (final FlywayCallback callback : effectiveCallbacks) {
                 callback.afterEachMigrate(connectionUserObjects.getJdbcConnection(), migration);
+                database.getCatalogSnapshot().invalidate();
             }
 
             stopWatch.stop();
@@ -377,6 +423,7 @@ public class DbMigrate {
 
             schemaHistory.addAppliedMigration(migration.getVersion(), migration.getDescription(), migration.getType(),
                     migration.getScript(), migration.getResolvedMigration().getChecksum(), executionTime, true);
+            metricsRecorder.count(MetricsCounter.MIGRATIONS_APPLIED, 1);
         }
     }
 
@@ -30,11 +30,13 @@ import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
 import org.flywaydb.core.internal.schemahistory.AppliedMigration;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.util.ObjectUtils;
+import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.StopWatch;
 import org.flywaydb.core.internal.util.TimeFormat;
 import org.flywaydb.core.internal.util.jdbc.TransactionTemplate;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -106,6 +108,7 @@ public class DbRepair {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schema);
                         callback.beforeRepair(connection.getJdbcConnection());
+                        database.getCatalogSnapshot().invalidate();
                         return null;
                     }
                 });
@@ -137,6 +140,7 @@ public class DbRepair {
                     public Object call() throws SQLException {
                         connection.changeCurrentSchemaTo(schema);
                         callback.afterRepair(connection.getJdbcConnection());
+                        database.getCatalogSnapshot().invalidate();
                         return null;
                     }
                 });
@@ -148,6 +152,9 @@ public class DbRepair {
 
     private void alignAppliedMigrationsWithResolvedMigrations() {
         migrationInfoService.refresh();
+
+        // Collect all the corrections first, so they are applied as a single batch
+        List<Pair<AppliedMigration, ResolvedMigration>> migrationsToUpdate = new ArrayList<>();
         for (MigrationInfo migrationInfo : migrationInfoService.all()) {
             MigrationInfoImpl migrationInfoImpl = (MigrationInfoImpl) migrationInfo;
 
@@ -157,9 +164,10 @@ public class DbRepair {
                     && (checksumUpdateNeeded(resolved, applied)
                     || descriptionUpdateNeeded(resolved, applied)
                     || typeUpdateNeeded(resolved, applied))) {
-                schemaHistory.update(applied, resolved);
+                migrationsToUpdate.add(Pair.of(applied, resolved));
             }
         }
+        schemaHistory.update(migrationsToUpdate);
     }
 
     private boolean checksumUpdateNeeded(ResolvedMigration resolved, AppliedMigration applied) {
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.command;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.callback.FlywayCallback;
+import org.flywaydb.core.api.configuration.FlywayConfiguration;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
+import org.flywaydb.core.internal.callback.SqlScriptFlywayCallback;
+import org.flywaydb.core.internal.database.Database;
+import org.flywaydb.core.internal.database.Schema;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.util.FileCopyUtils;
+import org.flywaydb.core.internal.util.StopWatch;
+import org.flywaydb.core.internal.util.TimeFormat;
+import org.flywaydb.core.internal.util.VersionPrinter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Main workflow for resetting the schemas to their fully migrated state from a snapshot.
+ * <p>Snapshots are stored in the {@code flyway-snapshots} directory of the temporary directory of the JVM, in a
+ * directory of their own for each database url and user, and keyed by a fingerprint of the resolved migrations, the
+ * callbacks and the configuration affecting the migrated state. A snapshot is therefore never restored after any of
+ * these have changed. When the content of a migration or callback can't be determined, no snapshot is taken. The
+ * snapshots of other migrations of the same database are deleted once they haven't been used for a day, so those still
+ * used by other processes, such as other branches or test forks, are left alone.</p>
+ */
+public class DbReset {
+    private static final Log LOG = LogFactory.getLog(DbReset.class);
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /**
+     * The time after which an unused snapshot of other migrations is deleted, in milliseconds.
+     */
+    private static final long SNAPSHOT_MAX_AGE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    /**
+     * The name of the snapshot directories, a fingerprint. Snapshots still being taken have a different name.
+     */
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * The database to reset.
+     */
+    private final Database database;
+
+    /**
+     * The schemas to reset.
+     */
+    private final Schema[] schemas;
+
+    /**
+     * The migration resolver.
+     */
+    private final MigrationResolver migrationResolver;
+
+    /**
+     * The callbacks invoked while migrating.
+     */
+    private final List<FlywayCallback> callbacks;
+
+    /**
+     * The Flyway configuration.
+     */
+    private final FlywayConfiguration configuration;
+
+    /**
+     * The snapshot directory for the current migrations. Calculated on first use.
+     */
+    private File snapshotDirectory;
+
+    /**
+     * Whether the snapshot directory has been calculated yet.
+     */
+    private boolean snapshotDirectoryCalculated;
+
+    /**
+     * Creates a new database resetter.
+     *
+     * @param database          The database to reset.
+     * @param schemas           The schemas to reset.
+     * @param migrationResolver The migration resolver.
+     * @param callbacks         The callbacks invoked while migrating.
+     * @param configuration     The Flyway configuration.
+     */
+    public DbReset(Database database, Schema[] schemas, MigrationResolver migrationResolver,
+                   List<FlywayCallback> callbacks, FlywayConfiguration configuration) {
+        this.database = database;
+        this.schemas = schemas;
+        this.migrationResolver = migrationResolver;
+        this.callbacks = callbacks;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Restores the schemas from the snapshot of the current migrations, if there is one.
+     *
+     * @return {@code true} if the schemas have been restored, {@code false} if they must be cleaned and migrated,
+     * including when the snapshot could not be restored.
+     */
+    public boolean restore() {
+        if (!database.supportsSnapshots()) {
+            LOG.info("Snapshots are not supported for " + database.getDbName() + ". Resetting with clean and migrate.");
+            return false;
+        }
+
+        File directory = getSnapshotDirectory();
+        if (directory == null) {
+            return false;
+        }
+        if (!directory.isDirectory()) {
+            LOG.info("No snapshot found for the current migrations. Resetting with clean and migrate.");
+            return false;
+        }
+
+        // Marks the snapshot as used, so it isn't pruned while still in use
+        if (!directory.setLastModified(System.currentTimeMillis())) {
+            LOG.debug("Unable to mark snapshot " + directory.getAbsolutePath() + " as used");
+        }
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        try {
+            database.restoreSnapshot(schemas, directory);
+        } catch (SQLException | FlywayException e) {
+            // For example when the snapshot was deleted concurrently or is corrupt. It is then taken again.
+            LOG.warn("Unable to restore snapshot " + directory.getAbsolutePath() + ": " + e.getMessage()
+                    + ". Resetting with clean and migrate.");
+            delete(directory);
+            return false;
+        } finally {
+            for (Schema schema : schemas) {
+                database.getCatalogSnapshot().schemaCleaned(schema.getName());
+            }
+        }
+        stopWatch.stop();
+
+        LOG.info("Successfully restored snapshot of " + schemas.length + " schema(s) (execution time "
+                + TimeFormat.format(stopWatch.getTotalTimeMillis()) + ")");
+        return true;
+    }
+
+    /**
+     * Snapshots the freshly migrated schemas, so the next reset can restore them. Failures are logged and otherwise
+     * ignored, as the schemas have been reset correctly anyway.
+     */
+    public void snapshot() {
+        if (!database.supportsSnapshots()) {
+            return;
+        }
+
+        File directory = getSnapshotDirectory();
+        if (directory == null) {
+            return;
+        }
+        File tempDirectory = new File(directory.getParentFile(), directory.getName() + "-" + System.nanoTime());
+        try {
+            if (!tempDirectory.mkdirs()) {
+                LOG.warn("Unable to create snapshot directory " + tempDirectory.getAbsolutePath());
+                return;
+            }
+            database.snapshot(schemas, tempDirectory);
+            // Renaming makes the complete snapshot visible at once to concurrent resets
+            if (!tempDirectory.renameTo(directory)) {
+                LOG.debug("Snapshot " + directory.getAbsolutePath() + " already taken concurrently");
+                return;
+            }
+            LOG.info("Snapshot of the migrated schema(s) saved to " + directory.getAbsolutePath());
+            pruneSnapshots(directory);
+        } catch (SQLException e) {
+            LOG.warn("Unable to snapshot the migrated schema(s): " + e.getMessage());
+        } finally {
+            delete(tempDirectory);
+        }
+    }
+
+    /**
+     * Deletes the snapshots of this database taken for other migrations that haven't been used for
+     * {@link #SNAPSHOT_MAX_AGE_MILLIS}.
+     *
+     * @param directory The snapshot directory of the current migrations, which is kept.
+     */
+    private void pruneSnapshots(File directory) {
+        File[] directories = directory.getParentFile().listFiles();
+        if (directories == null) {
+            return;
+        }
+        long oldest = System.currentTimeMillis() - SNAPSHOT_MAX_AGE_MILLIS;
+        for (File snapshot : directories) {
+            if (!snapshot.equals(directory)
+                    && SNAPSHOT_NAME.matcher(snapshot.getName()).matches()
+                    && snapshot.lastModified() < oldest) {
+                LOG.debug("Deleting unused snapshot " + snapshot.getAbsolutePath());
+                delete(snapshot);
+            }
+        }
+    }
+
+    /**
+     * @return The snapshot directory for the current migrations or {@code null} if no snapshot can be taken for them.
+     */
+    private File getSnapshotDirectory() {
+        if (!snapshotDirectoryCalculated) {
+            String fingerprint = calculateFingerprint();
+            if (fingerprint == null) {
+                LOG.info("Snapshots are disabled as the content of some migrations or callbacks can't be determined."
+                        + " Resetting with clean and migrate.");
+            } else {
+                snapshotDirectory = new File(getDatabaseDirectory(), fingerprint);
+            }
+            snapshotDirectoryCalculated = true;
+        }
+        return snapshotDirectory;
+    }
+
+    /**
+     * @return The directory holding the snapshots of this database, named after its type and a hash of its url and
+     * user, so different databases of the same type never share snapshots.
+     */
+    private File getDatabaseDirectory() {
+        MessageDigest messageDigest = createDigest();
+        try {
+            update(messageDigest, database.getJdbcMetaData().getURL());
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to determine the url of the database", e);
+        }
+        update(messageDigest, database.getCurrentUser());
+        return new File(new File(System.getProperty("java.io.tmpdir"), "flyway-snapshots"),
+                database.getDbName() + "-" + toHex(messageDigest).substring(0, 16));
+    }
+
+    /**
+     * Calculates the fingerprint of the resolved migrations, the callbacks and the configuration affecting the
+     * migrated state. Java migrations and callbacks are fingerprinted by their class files.
+     *
+     * @return The fingerprint or {@code null} if the content of a migration or callback can't be determined.
+     */
+    private String calculateFingerprint() {
+        MessageDigest messageDigest = createDigest();
+
+        update(messageDigest, VersionPrinter.getVersion());
+        update(messageDigest, configuration.getTable());
+        update(messageDigest, String.valueOf(configuration.getTarget()));
+        update(messageDigest, configuration.getBaselineVersion() + " " + configuration.getBaselineDescription()
+                + " " + configuration.isBaselineOnMigrate());
+        update(messageDigest, String.valueOf(configuration.isOutOfOrder()));
+        update(messageDigest, configuration.getInstalledBy() == null
+                ? database.getCurrentUser()
+                : configuration.getInstalledBy());
+        for (Schema schema : schemas) {
+            update(messageDigest, schema.getName());
+        }
+        for (Map.Entry<String, String> placeholder : new TreeMap<>(configuration.getPlaceholders()).entrySet()) {
+            update(messageDigest, placeholder.getKey() + "=" + placeholder.getValue());
+        }
+
+        for (ResolvedMigration migration : migrationResolver.resolveMigrations()) {
+            update(messageDigest, migration.getType() + " " + migration.getVersion() + " " + migration.getDescription()
+                    + " " + migration.getScript() + " " + migration.getChecksum());
+            if (migration.getChecksum() == null && !updateWithClassFile(messageDigest, migration.getScript())) {
+                LOG.debug("Unable to read class file of migration " + migration.getScript());
+                return null;
+            }
+        }
+
+        for (FlywayCallback callback : callbacks) {
+            if (callback instanceof SqlScriptFlywayCallback) {
+                for (Map.Entry<String, String> source : ((SqlScriptFlywayCallback) callback).getSources().entrySet()) {
+                    update(messageDigest, source.getKey());
+                    update(messageDigest, source.getValue());
+                }
+            } else if (!updateWithClassFile(messageDigest, callback.getClass().getName())) {
+                LOG.debug("Unable to read class file of callback " + callback.getClass().getName());
+                return null;
+            }
+        }
+
+        return toHex(messageDigest);
+    }
+
+    /**
+     * Updates this digest with the class file of this class.
+     *
+     * @param messageDigest The digest to update.
+     * @param className     The fully qualified name of the class.
+     * @return {@code true} if it was updated, {@code false} if the class file could not be read.
+     */
+    private boolean updateWithClassFile(MessageDigest messageDigest, String className) {
+        update(messageDigest, className);
+        InputStream inputStream =
+                configuration.getClassLoader().getResourceAsStream(className.replace(".", "/") + ".class");
+        if (inputStream == null) {
+            return false;
+        }
+        try {
+            messageDigest.update(FileCopyUtils.copyToByteArray(inputStream));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes this snapshot directory and its files, if it still exists.
+     *
+     * @param directory The directory to delete.
+     */
+    private static void delete(File directory) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (!file.delete()) {
+                LOG.debug("Unable to delete " + file.getAbsolutePath());
+            }
+        }
+        if (!directory.delete()) {
+            LOG.debug("Unable to delete " + directory.getAbsolutePath());
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported by this JVM", e);
+        }
+    }
+
+    private static String toHex(MessageDigest messageDigest) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        messageDigest.update(String.valueOf(value).getBytes(UTF8));
+        messageDigest.update((byte) 0);
+    }
+}
\ No newline at end of file
@@ -19,11 +19,14 @@ import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.callback.FlywayCallback;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.metrics.MetricsPhase;
 import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.internal.database.CatalogSnapshot;
 import org.flywaydb.core.internal.database.Connection;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.StopWatch;
@@ -101,6 +104,21 @@ public class DbValidate {
      */
     private final List<FlywayCallback> callbacks;
 
+    /**
+     * The recorder for the time spent validating.
+     */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * The snapshot of the catalog, forgotten after every callback.
+     */
+    private final CatalogSnapshot catalogSnapshot;
+
+    /**
+     * The info about the migrations the validation was performed with. {@code null} if not validated yet.
+     */
+    private MigrationInfoServiceImpl migrationInfoService;
+
     /**
      * Creates a new database validator.
      *
@@ -129,6 +147,16 @@ public class DbValidate {
         this.ignored = ignored;
         this.future = future;
         this.callbacks = callbacks;
+        this.metricsRecorder = database.getMetricsRecorder();
+        this.catalogSnapshot = database.getCatalogSnapshot();
+    }
+
+    /**
+     * @return The info about the migrations the validation was performed with, so subsequent phases of the same
+     * command can carry it forward instead of building it again. {@code null} if the schema doesn't exist yet.
+     */
+    public MigrationInfoServiceImpl getMigrationInfoService() {
+        return migrationInfoService;
     }
 
     /**
@@ -151,6 +179,7 @@ public class DbValidate {
                     public Object call() {
                         connection.changeCurrentSchemaTo(schema);
                         callback.beforeValidate(connection.getJdbcConnection());
+                        catalogSnapshot.invalidate();
                         return null;
                     }
                 });
@@ -163,15 +192,20 @@ public class DbValidate {
             Pair<Integer, String> result = new TransactionTemplate(connection.getJdbcConnection()).execute(new Callable<Pair<Integer, String>>() {
                 @Override
                 public Pair<Integer, String> call() {
-                    connection.changeCurrentSchemaTo(schema);
-                    MigrationInfoServiceImpl migrationInfoService =
-                            new MigrationInfoServiceImpl(migrationResolver, schemaHistory, target, outOfOrder, pending, missing, ignored, future);
+                    metricsRecorder.startPhase(MetricsPhase.VALIDATE);
+                    try {
+                        connection.changeCurrentSchemaTo(schema);
+                        migrationInfoService =
+                                new MigrationInfoServiceImpl(migrationResolver, schemaHistory, target, outOfOrder, pending, missing, ignored, future);
 
-                    migrationInfoService.refresh();
+                        migrationInfoService.refresh();
 
-                    int count = migrationInfoService.all().length;
-                    String validationError = migrationInfoService.validate();
-                    return Pair.of(count, validationError);
+                        int count = migrationInfoService.all().length;
+                        String validationError = migrationInfoService.validate();
+                        return Pair.of(count, validationError);
+                    } finally {
+                        metricsRecorder.stopPhase(MetricsPhase.VALIDATE);
+                    }
                 }
             });
 
@@ -195,6 +229,7 @@ public class DbValidate {
                     public Object call() {
                         connection.changeCurrentSchemaTo(schema);
                         callback.afterValidate(connection.getJdbcConnection());
+                        catalogSnapshot.invalidate();
                         return null;
                     }
                 });
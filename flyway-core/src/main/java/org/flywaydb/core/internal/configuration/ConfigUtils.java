@@ -53,21 +53,28 @@ public class ConfigUtils {
     public static final String BASELINE_DESCRIPTION = "flyway.baselineDescription";
     public static final String BASELINE_ON_MIGRATE = "flyway.baselineOnMigrate";
     public static final String BASELINE_VERSION = "flyway.baselineVersion";
+    public static final String BATCH = "flyway.batch";
+    public static final String BATCH_SIZE = "flyway.batchSize";
     public static final String CALLBACKS = "flyway.callbacks";
     public static final String CLEAN_DISABLED = "flyway.cleanDisabled";
     public static final String CLEAN_ON_VALIDATION_ERROR = "flyway.cleanOnValidationError";
+    public static final String CLEAN_THREADS = "flyway.cleanThreads";
     public static final String DRIVER = "flyway.driver";
     public static final String DRYRUN_OUTPUT = "flyway.dryRunOutput";
     public static final String ENCODING = "flyway.encoding";
     public static final String ERROR_HANDLERS = "flyway.errorHandlers";
+    public static final String FAST_UP_TO_DATE_CHECK = "flyway.fastUpToDateCheck";
     public static final String GROUP = "flyway.group";
     public static final String IGNORE_FUTURE_MIGRATIONS = "flyway.ignoreFutureMigrations";
     public static final String IGNORE_MISSING_MIGRATIONS = "flyway.ignoreMissingMigrations";
     public static final String IGNORE_IGNORED_MIGRATIONS = "flyway.ignoreIgnoredMigrations";
     public static final String INSTALLED_BY = "flyway.installedBy";
     public static final String LOCATIONS = "flyway.locations";
+    public static final String METRICS_LISTENERS = "flyway.metricsListeners";
     public static final String MIXED = "flyway.mixed";
+    public static final String ORACLE_BULK_CLEAN = "flyway.oracle.bulkClean";
     public static final String OUT_OF_ORDER = "flyway.outOfOrder";
+    public static final String PARSE_CACHE_DIR = "flyway.parseCacheDir";
     public static final String PASSWORD = "flyway.password";
     public static final String PLACEHOLDER_PREFIX = "flyway.placeholderPrefix";
     public static final String PLACEHOLDER_REPLACEMENT = "flyway.placeholderReplacement";
@@ -85,6 +92,7 @@ public class ConfigUtils {
     public static final String SQL_MIGRATION_SUFFIX = "flyway.sqlMigrationSuffix";
 
     public static final String SQL_MIGRATION_SUFFIXES = "flyway.sqlMigrationSuffixes";
+    public static final String STREAM = "flyway.stream";
     public static final String TABLE = "flyway.table";
     public static final String TARGET = "flyway.target";
     public static final String UNDO_SQL_MIGRATION_PREFIX = "flyway.undoSqlMigrationPrefix";
@@ -141,6 +149,12 @@ public class ConfigUtils {
         if ("FLYWAY_BASELINE_VERSION".equals(key)) {
             return BASELINE_VERSION;
         }
+        if ("FLYWAY_BATCH".equals(key)) {
+            return BATCH;
+        }
+        if ("FLYWAY_BATCH_SIZE".equals(key)) {
+            return BATCH_SIZE;
+        }
         if ("FLYWAY_CALLBACKS".equals(key)) {
             return CALLBACKS;
         }
@@ -150,6 +164,9 @@ public class ConfigUtils {
         if ("FLYWAY_CLEAN_ON_VALIDATION_ERROR".equals(key)) {
             return CLEAN_ON_VALIDATION_ERROR;
         }
+        if ("FLYWAY_CLEAN_THREADS".equals(key)) {
+            return CLEAN_THREADS;
+        }
         if ("FLYWAY_CONFIG_FILE_ENCODING".equals(key)) {
             return CONFIG_FILE_ENCODING;
         }
@@ -165,6 +182,9 @@ public class ConfigUtils {
         if ("FLYWAY_ERROR_HANDLERS".equals(key)) {
             return ERROR_HANDLERS;
         }
+        if ("FLYWAY_FAST_UP_TO_DATE_CHECK".equals(key)) {
+            return FAST_UP_TO_DATE_CHECK;
+        }
         if ("FLYWAY_GROUP".equals(key)) {
             return GROUP;
         }
@@ -183,12 +203,21 @@ public class ConfigUtils {
         if ("FLYWAY_LOCATIONS".equals(key)) {
             return LOCATIONS;
         }
+        if ("FLYWAY_METRICS_LISTENERS".equals(key)) {
+            return METRICS_LISTENERS;
+        }
         if ("FLYWAY_MIXED".equals(key)) {
             return MIXED;
         }
+        if ("FLYWAY_ORACLE_BULK_CLEAN".equals(key)) {
+            return ORACLE_BULK_CLEAN;
+        }
         if ("FLYWAY_OUT_OF_ORDER".equals(key)) {
             return OUT_OF_ORDER;
         }
+        if ("FLYWAY_PARSE_CACHE_DIR".equals(key)) {
+            return PARSE_CACHE_DIR;
+        }
         if ("FLYWAY_PASSWORD".equals(key)) {
             return PASSWORD;
         }
@@ -228,6 +257,9 @@ public class ConfigUtils {
         if ("FLYWAY_SQL_MIGRATION_SUFFIXES".equals(key)) {
             return SQL_MIGRATION_SUFFIXES;
         }
+        if ("FLYWAY_STREAM".equals(key)) {
+            return STREAM;
+        }
         if ("FLYWAY_TABLE".equals(key)) {
             return TABLE;
         }
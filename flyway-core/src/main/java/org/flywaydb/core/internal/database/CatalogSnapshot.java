@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the catalog facts looked up while executing a command: which schemas and tables are known to exist.
+ * Facts are loaded from the database on first use and then served from memory, so that for example switching to the
+ * same schema before every migration and callback does not query the catalog again.
+ * <p>Only positive facts are kept, as a missing object can be created at any time by a migration or a callback.
+ * Flyway's own DDL (creating, cleaning and dropping schemas and dropping objects) updates the snapshot, and
+ * everything is forgotten after every migration and every callback.</p>
+ */
+public class CatalogSnapshot {
+    /**
+     * The schemas known to exist.
+     */
+    private final Set<String> existingSchemas = new HashSet<>();
+
+    /**
+     * The tables known to exist, by schema.
+     */
+    private final Map<String, Set<String>> existingTables = new HashMap<>();
+
+    /**
+     * @param schema The name of the schema.
+     * @return {@code true} if the schema is known to exist, {@code false} if it must be looked up.
+     */
+    public synchronized boolean isSchemaKnownToExist(String schema) {
+        return existingSchemas.contains(schema);
+    }
+
+    /**
+     * Records that this schema exists.
+     *
+     * @param schema The name of the schema.
+     */
+    public synchronized void schemaExists(String schema) {
+        existingSchemas.add(schema);
+    }
+
+    /**
+     * Records that this schema has been dropped, along with all its tables.
+     *
+     * @param schema The name of the schema.
+     */
+    public synchronized void schemaDropped(String schema) {
+        existingSchemas.remove(schema);
+        existingTables.remove(schema);
+    }
+
+    /**
+     * Records that this schema has been cleaned and no longer contains any of the tables it used to.
+     *
+     * @param schema The name of the schema.
+     */
+    public synchronized void schemaCleaned(String schema) {
+        existingTables.remove(schema);
+    }
+
+    /**
+     * @param schema The name of the schema of the table.
+     * @param table  The name of the table.
+     * @return {@code true} if the table is known to exist, {@code false} if it must be looked up.
+     */
+    public synchronized boolean isTableKnownToExist(String schema, String table) {
+        Set<String> tables = existingTables.get(schema);
+        return tables != null && tables.contains(table);
+    }
+
+    /**
+     * Records that this table exists. This also implies the existence of its schema.
+     *
+     * @param schema The name of the schema of the table.
+     * @param table  The name of the table.
+     */
+    public synchronized void tableExists(String schema, String table) {
+        existingSchemas.add(schema);
+        Set<String> tables = existingTables.get(schema);
+        if (tables == null) {
+            tables = new HashSet<>();
+            existingTables.put(schema, tables);
+        }
+        tables.add(table);
+    }
+
+    /**
+     * Records that this object has been dropped.
+     *
+     * @param schema The name of the schema of the object.
+     * @param object The name of the object.
+     */
+    public synchronized void objectDropped(String schema, String object) {
+        Set<String> tables = existingTables.get(schema);
+        if (tables != null) {
+            tables.remove(object);
+        }
+    }
+
+    /**
+     * Forgets all schemas and tables, as user code such as a migration or a callback may have created or dropped any
+     * of them.
+     */
+    public synchronized void invalidate() {
+        existingSchemas.clear();
+        existingTables.clear();
+    }
+}
\ No newline at end of file
@@ -35,6 +35,11 @@ public abstract class Connection<D extends Database> implements Closeable {
      */
     protected final String originalSchema;
 
+    /**
+     * The statistics about the locks acquired on this connection.
+     */
+    protected final LockStatistics lockStatistics = new LockStatistics();
+
     protected Connection(FlywayConfiguration configuration, D database, java.sql.Connection connection, int nullType
 
 
@@ -151,12 +156,30 @@ public abstract class Connection<D extends Database> implements Closeable {
         return new TransactionTemplate(jdbcTemplate.getConnection(), database.supportsDdlTransactions()).execute(new Callable<T>() {
             @Override
             public T call() throws Exception {
+                long start = System.currentTimeMillis();
                 table.lock();
+                lockStatistics.record(1, System.currentTimeMillis() - start);
                 return callable.call();
             }
         });
     }
 
+    /**
+     * @return Whether the lock acquired by {@link #lock(Table, Callable)} is held until its callable completes, even
+     * when a statement implicitly commits the transaction in between.
+     */
+    public boolean isLockHeldAcrossCommits() {
+        // Without DDL transactions an implicit commit releases the table lock
+        return database.supportsDdlTransactions();
+    }
+
+    /**
+     * @return The statistics about the locks acquired on this connection.
+     */
+    public LockStatistics getLockStatistics() {
+        return lockStatistics;
+    }
+
     public JdbcTemplate getJdbcTemplate() {
         return jdbcTemplate;
     }
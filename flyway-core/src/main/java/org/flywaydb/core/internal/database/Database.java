@@ -15,18 +15,22 @@
  */
 package org.flywaydb.core.internal.database;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.PlaceholderReplacer;
 import org.flywaydb.core.internal.util.jdbc.JdbcUtils;
+import org.flywaydb.core.internal.util.scanner.LoadableResource;
 import org.flywaydb.core.internal.util.scanner.Resource;
 import org.flywaydb.core.internal.util.scanner.classpath.ClassPathResource;
 
 import java.io.Closeable;
+import java.io.File;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -67,6 +71,21 @@ public abstract class Database<C extends Connection> implements Closeable {
      */
     private final int nullType;
 
+    /**
+     * The cache of parsed sql scripts. {@code null} if not configured or not yet initialized.
+     */
+    private SqlScriptParseCache parseCache;
+
+    /**
+     * The recorder for the metrics of the command this database is used for.
+     */
+    private final MetricsRecorder metricsRecorder;
+
+    /**
+     * The snapshot of the catalog facts looked up by the command this database is used for.
+     */
+    private final CatalogSnapshot catalogSnapshot = new CatalogSnapshot();
+
     /**
      * The major version of the database.
      */
@@ -90,6 +109,9 @@ public abstract class Database<C extends Connection> implements Closeable {
 
     ) {
         this.configuration = configuration;
+        this.metricsRecorder = configuration == null
+                ? MetricsRecorder.NONE
+                : new MetricsRecorder(configuration.getMetricsListeners());
         try {
             this.jdbcMetaData = connection.getMetaData();
         } catch (SQLException e) {
@@ -155,11 +177,86 @@ public abstract class Database<C extends Connection> implements Closeable {
 
 
 
-        return doCreateSqlScript(resource, sqlScriptSource, mixed
+        SqlScript sqlScript = doCreateSqlScript(resource, sqlScriptSource, mixed
 
 
 
         );
+        if (sqlScript instanceof ExecutableSqlScript) {
+            ExecutableSqlScript executableSqlScript = (ExecutableSqlScript) sqlScript;
+            if (resource != null) {
+                SqlScriptParseCache parseCache = getParseCache();
+                if (parseCache != null) {
+                    executableSqlScript.useParseCache(parseCache);
+                }
+            }
+            if (configuration != null && configuration.isBatch()) {
+                executableSqlScript.setBatchSize(configuration.getBatchSize());
+            }
+            executableSqlScript.setMetricsRecorder(metricsRecorder);
+        }
+        return sqlScript;
+    }
+
+    /**
+     * Shares this script, created by the database of another command for the same type of database, with the command
+     * this database is used for. The script is not parsed again, but the execution of its statements is reported to
+     * the metrics recorder of this command.
+     *
+     * @param sqlScript The script to share.
+     * @return The script to execute for this command.
+     */
+    public SqlScript shareSqlScript(SqlScript sqlScript) {
+        if (sqlScript instanceof ExecutableSqlScript) {
+            return ((ExecutableSqlScript<?>) sqlScript).copyFor(metricsRecorder);
+        }
+        return sqlScript;
+    }
+
+    /**
+     * @return The recorder for the metrics of the command this database is used for.
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * @return The snapshot of the catalog facts looked up by the command this database is used for.
+     */
+    public CatalogSnapshot getCatalogSnapshot() {
+        return catalogSnapshot;
+    }
+
+    /**
+     * @return The cache of parsed sql scripts or {@code null} if none has been configured.
+     */
+    private SqlScriptParseCache getParseCache() {
+        if (parseCache == null && configuration != null && configuration.getParseCacheDir() != null) {
+            parseCache = new SqlScriptParseCache(configuration.getParseCacheDir());
+        }
+        return parseCache;
+    }
+
+    /**
+     * Creates a new SqlScript for this specific database that is streamed from its resource instead of being loaded
+     * and parsed in full up front.
+     *
+     * @param resource            The resource containing the SQL script.
+     * @param placeholderReplacer The placeholder replacer to apply to the script as it is read.
+     * @param encoding            The encoding of the resource.
+     * @param mixed               Whether to allow mixing transactional and non-transactional statements within the same migration.
+     * @return The new SqlScript.
+     */
+    public final SqlScript createStreamingSqlScript(LoadableResource resource, PlaceholderReplacer placeholderReplacer,
+                                                    String encoding, boolean mixed) {
+        SqlScript sqlScript = createSqlScript(resource, "", mixed);
+        if (sqlScript instanceof ExecutableSqlScript) {
+            ((ExecutableSqlScript) sqlScript).stream(placeholderReplacer, encoding);
+            return sqlScript;
+        }
+        LOG.debug("Unable to stream " + resource.getFilename() + " as " + sqlScript.getClass().getName()
+                + " doesn't support it: loading it in full instead");
+        return createSqlScript(resource, placeholderReplacer.replacePlaceholders(resource.loadAsString(encoding)), mixed);
     }
 
     /**
@@ -303,6 +400,59 @@ public abstract class Database<C extends Connection> implements Closeable {
         return migrationConnection;
     }
 
+    /**
+     * Opens an additional connection to this database, for work performed concurrently with the main connection. It
+     * must be closed by the caller.
+     *
+     * @return The new connection.
+     */
+    public final C openConnection() {
+        return getConnection(JdbcUtils.openConnection(configuration.getDataSource()), nullType
+
+
+
+        );
+    }
+
+    /**
+     * @return Whether several schemas can be cleaned concurrently, each on its own connection.
+     */
+    public boolean supportsConcurrentClean() {
+        return true;
+    }
+
+    /**
+     * @return Whether schemas can be snapshotted to files and later restored from them in place, on the main connection.
+     */
+    public boolean supportsSnapshots() {
+        return false;
+    }
+
+    /**
+     * Snapshots these schemas, including all their objects and data, into files in this directory.
+     *
+     * @param schemas   The schemas to snapshot.
+     * @param directory The existing directory to write the snapshot files to.
+     * @throws SQLException when the snapshot could not be taken.
+     * @throws FlywayException when this database doesn't support snapshots.
+     */
+    public void snapshot(Schema[] schemas, File directory) throws SQLException {
+        throw new FlywayException("Unable to snapshot schemas: snapshots are not supported for " + getDbName());
+    }
+
+    /**
+     * Restores these schemas to the snapshot in this directory. All objects created since the snapshot was taken are
+     * dropped.
+     *
+     * @param schemas   The schemas to restore.
+     * @param directory The directory holding the snapshot files written by {@link #snapshot(Schema[], File)}.
+     * @throws SQLException when the snapshot could not be restored.
+     * @throws FlywayException when this database doesn't support snapshots.
+     */
+    public void restoreSnapshot(Schema[] schemas, File directory) throws SQLException {
+        throw new FlywayException("Unable to restore snapshot: snapshots are not supported for " + getDbName());
+    }
+
     /**
      * Returns the major version number of the database.
      *
@@ -362,6 +512,16 @@ public abstract class Database<C extends Connection> implements Closeable {
                 + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
     }
 
+    /**
+     * Retrieves the statement creating the table holding the up to date fingerprint of the schema history table.
+     *
+     * @param table The fingerprint table.
+     * @return The create statement.
+     */
+    public String getCreateFingerprintTableStatement(Table table) {
+        return "CREATE TABLE " + table + " (" + quote("fingerprint") + " VARCHAR(200) NOT NULL)";
+    }
+
     public void close() {
         if (!useSingleConnection() && migrationConnection != null) {
             migrationConnection.close();
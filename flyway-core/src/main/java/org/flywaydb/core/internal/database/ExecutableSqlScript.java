@@ -20,21 +20,26 @@ import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.api.errorhandler.Warning;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.sqlscript.FlywaySqlScriptException;
 import org.flywaydb.core.internal.sqlscript.SqlStatement;
 import org.flywaydb.core.internal.util.AsciiTable;
+import org.flywaydb.core.internal.util.PlaceholderReplacer;
 import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.jdbc.ContextImpl;
 import org.flywaydb.core.internal.util.jdbc.ErrorImpl;
 import org.flywaydb.core.internal.util.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.util.jdbc.Result;
+import org.flywaydb.core.internal.util.scanner.LoadableResource;
 import org.flywaydb.core.internal.util.scanner.Resource;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -42,9 +47,14 @@ import java.util.List;
  * Sql script containing a series of statements terminated by a delimiter (eg: ;).
  * Single-line (--) and multi-line (/* * /) comments are stripped and ignored.
  */
-public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScript {
+public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScript implements Cloneable {
     private static final Log LOG = LogFactory.getLog(ExecutableSqlScript.class);
 
+    /**
+     * The keywords starting the DML statements that can be executed as part of a JDBC batch.
+     */
+    private static final String[] DML_KEYWORDS = {"INSERT", "UPDATE", "DELETE", "MERGE", "REPLACE", "UPSERT"};
+
 
 
 
@@ -58,9 +68,47 @@ public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScri
     private final boolean mixed;
 
     /**
-     * The sql statements contained in this script.
+     * The source of this script, until it has been parsed.
+     */
+    private String sqlScriptSource;
+
+    /**
+     * The sql statements contained in this script. {@code null} until it has been parsed and empty when this script
+     * is streamed.
      */
-    private final List<SqlStatement<C>> sqlStatements;
+    private List<SqlStatement<C>> sqlStatements;
+
+    /**
+     * The cache of parsed scripts to use. {@code null} to always parse this script.
+     */
+    private SqlScriptParseCache parseCache;
+
+    /**
+     * The placeholder replacer to apply to the resource as it is read when this script is streamed. {@code null} if
+     * it isn't.
+     */
+    private PlaceholderReplacer streamingPlaceholderReplacer;
+
+    /**
+     * The encoding of the resource when this script is streamed.
+     */
+    private String streamingEncoding;
+
+    /**
+     * Whether this streamed script must be executed within a transaction, as decided by its first statement.
+     * {@code null} if not determined yet.
+     */
+    private Boolean streamedInTransaction;
+
+    /**
+     * The maximum number of consecutive DML statements to execute as a single JDBC batch. {@code 0} to not batch.
+     */
+    private int batchSize;
+
+    /**
+     * The recorder to report the execution of each statement to.
+     */
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NONE;
 
     /**
      * Whether this SQL script contains at least one transactional statement.
@@ -90,24 +138,155 @@ public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScri
         super(resource);
         this.mixed = mixed;
 
-        this.sqlStatements = parse(sqlScriptSource);
+        this.sqlScriptSource = sqlScriptSource;
 
 
 
 
+    }
+
+    /**
+     * Switches this script to streaming mode. Instead of materialising all statements up front, the resource is read
+     * line by line and each statement is executed as soon as it is terminated, so memory usage is bounded by the
+     * largest single statement. Whether the script must run inside a transaction is decided by its first statement,
+     * and the statements following it are checked as they are executed.
+     *
+     * @param placeholderReplacer The placeholder replacer to apply to the resource as it is read.
+     * @param encoding            The encoding of the resource.
+     */
+    void stream(PlaceholderReplacer placeholderReplacer, String encoding) {
+        this.sqlScriptSource = null;
+        this.sqlStatements = new ArrayList<>();
+        this.streamingPlaceholderReplacer = placeholderReplacer;
+        this.streamingEncoding = encoding;
+    }
+
+    /**
+     * Uses this cache to avoid parsing this script again if it has already been parsed before.
+     *
+     * @param parseCache The cache of parsed scripts.
+     */
+    void useParseCache(SqlScriptParseCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    /**
+     * Groups consecutive DML statements of this script into JDBC batches of at most this size when it is executed
+     * within a transaction.
+     *
+     * @param batchSize The maximum number of statements per batch.
+     */
+    void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reports the execution of each statement of this script to this recorder.
+     *
+     * @param metricsRecorder The recorder.
+     */
+    void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Creates a copy of this script that shares its parsed statements, but reports their execution to this other
+     * recorder. The commands of several targets can then execute the same script concurrently, each with its own
+     * metrics.
+     *
+     * @param metricsRecorder The recorder of the command executing the copy.
+     * @return The copy.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized ExecutableSqlScript<C> copyFor(MetricsRecorder metricsRecorder) {
+        // Parse before copying, so the parsed statements are shared instead of each copy parsing on its own
+        if (isStreaming()) {
+            isStreamedInTransaction();
+        } else {
+            getStatements();
+        }
+        try {
+            ExecutableSqlScript<C> copy = (ExecutableSqlScript<C>) clone();
+            copy.metricsRecorder = metricsRecorder;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Unable to copy " + getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Reports the execution of this statement to the metrics recorder.
+     *
+     * @param sqlStatement  The statement.
+     * @param durationNanos The time spent executing it, in nanoseconds.
+     */
+    private void recordStatement(SqlStatement<C> sqlStatement, long durationNanos) {
+        metricsRecorder.statementExecuted(resource == null ? null : resource.getLocation(),
+                sqlStatement.getLineNumber(), durationNanos);
+    }
+
+    /**
+     * @return Whether this script is streamed from its resource instead of being fully parsed up front.
+     */
+    private boolean isStreaming() {
+        return streamingPlaceholderReplacer != null;
     }
 
     @Override
     public boolean executeInTransaction() {
+        if (isStreaming()) {
+            return isStreamedInTransaction();
+        }
+        getStatements();
         return !nonTransactionalStatementFound;
     }
 
+    /**
+     * Reads this streamed script only up to its first statement to decide whether it must run inside a transaction,
+     * instead of scanning the whole resource ahead of executing it.
+     *
+     * @return {@code true} if it must, {@code false} if not.
+     */
+    private synchronized boolean isStreamedInTransaction() {
+        if (streamedInTransaction == null) {
+            BufferedReader bufferedReader = openStream();
+            try {
+                LineParser lineParser = new LineParser();
+                SqlStatementBuilder sqlStatementBuilder = null;
+                String line;
+                while (sqlStatementBuilder == null && (line = bufferedReader.readLine()) != null) {
+                    sqlStatementBuilder = lineParser.parseLine(stripBom(lineParser, line));
+                }
+                if (sqlStatementBuilder == null) {
+                    sqlStatementBuilder = lineParser.finish();
+                }
+                streamedInTransaction = sqlStatementBuilder == null || sqlStatementBuilder.executeInTransaction();
+            } catch (IOException e) {
+                throw new FlywayException("Unable to parse " + resource.getLocation() + " (" + resource.getLocationOnDisk() + ")", e);
+            } finally {
+                closeStream(bufferedReader);
+            }
+        }
+        return streamedInTransaction;
+    }
+
     /**
      * For increased testability.
      *
      * @return The sql statements contained in this script.
      */
     public List<SqlStatement<C>> getSqlStatements() {
+        return getStatements();
+    }
+
+    /**
+     * @return The sql statements contained in this script, parsing it first if this hasn't happened yet.
+     */
+    private synchronized List<SqlStatement<C>> getStatements() {
+        if (sqlStatements == null) {
+            sqlStatements = parseCache == null ? parse(sqlScriptSource) : parseUsingCache(sqlScriptSource);
+            sqlScriptSource = null;
+        }
         return sqlStatements;
     }
 
@@ -118,46 +297,215 @@ public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScri
      */
     @Override
     public void execute(final JdbcTemplate jdbcTemplate) {
-        for (SqlStatement<C> sqlStatement : sqlStatements) {
-            C context = createContext();
+        if (isStreaming()) {
+            streamStatements(jdbcTemplate, isStreamedInTransaction());
+            return;
+        }
+
+        // The batch is local to each execution, as a script may be shared by several concurrent executions
+        List<SqlStatement<C>> batch = new ArrayList<>();
+        for (SqlStatement<C> sqlStatement : getStatements()) {
+            executeOrBatchStatement(jdbcTemplate, batch, sqlStatement);
+        }
+        executeBatch(jdbcTemplate, batch);
+    }
 
-            String sql = sqlStatement.getSql();
-            LOG.debug("Executing SQL: " + sql);
+    /**
+     * Executes this statement against the database, or adds it to the current batch if it can be batched.
+     *
+     * @param jdbcTemplate The jdbcTemplate to use to execute this statement.
+     * @param batch        The DML statements waiting to be executed as the next batch.
+     * @param sqlStatement The statement to execute.
+     */
+    private void executeOrBatchStatement(JdbcTemplate jdbcTemplate, List<SqlStatement<C>> batch,
+                                         SqlStatement<C> sqlStatement) {
+        if (batchSize > 1 && canBatch(sqlStatement)) {
+            batch.add(sqlStatement);
+            if (batch.size() >= batchSize) {
+                executeBatch(jdbcTemplate, batch);
+            }
+            return;
+        }
 
-            try {
-                List<Result> results = sqlStatement.execute(context, jdbcTemplate);
+        executeBatch(jdbcTemplate, batch);
+        executeStatement(jdbcTemplate, sqlStatement);
+    }
+
+    /**
+     * Checks whether this statement can be executed as part of a JDBC batch.
+     *
+     * @param sqlStatement The statement to check.
+     * @return {@code true} if it is a plain DML statement, {@code false} if not.
+     */
+    protected boolean canBatch(SqlStatement<C> sqlStatement) {
+        return sqlStatement instanceof StandardSqlStatement && isDml(sqlStatement.getSql());
+    }
+
+    /**
+     * Checks whether this sql is a DML statement, ignoring any leading whitespace and comments.
+     *
+     * @param sql The sql to check.
+     * @return {@code true} if it is, {@code false} if not.
+     */
+    private static boolean isDml(String sql) {
+        int pos = 0;
+        while (pos < sql.length()) {
+            pos = SqlStatementBuilder.skipWhitespace(sql, pos);
+            if (sql.startsWith("--", pos)) {
+                int end = sql.indexOf('\n', pos);
+                pos = end < 0 ? sql.length() : end + 1;
+            } else if (sql.startsWith("/*", pos)) {
+                int end = sql.indexOf("*/", pos + 2);
+                pos = end < 0 ? sql.length() : end + 2;
+            } else {
+                break;
+            }
+        }
 
+        for (String keyword : DML_KEYWORDS) {
+            int end = pos + keyword.length();
+            if (sql.regionMatches(true, pos, keyword, 0, keyword.length())
+                    && (end == sql.length() || !SqlStatementBuilder.isIdentifierPart(sql.charAt(end)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes the statements of this batch against the database and clears it. The batch is protected by a savepoint. If it
+     * fails, it is rolled back and its statements are executed one by one instead so the exact statement that failed
+     * is reported. Outside of a transaction the statements are always executed one by one, as a failed batch couldn't
+     * be rolled back before executing them again.
+     *
+     * @param jdbcTemplate The jdbcTemplate to use to execute the batch.
+     * @param batch        The DML statements waiting to be executed as the next batch.
+     */
+    private void executeBatch(JdbcTemplate jdbcTemplate, List<SqlStatement<C>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
 
+        List<SqlStatement<C>> sqlStatements = new ArrayList<>(batch);
+        batch.clear();
 
+        if (sqlStatements.size() == 1 || !executeBatchInSavepoint(jdbcTemplate, sqlStatements)) {
+            for (SqlStatement<C> sqlStatement : sqlStatements) {
+                executeStatement(jdbcTemplate, sqlStatement);
+            }
+        }
+    }
 
+    /**
+     * Attempts to execute these statements as a single JDBC batch protected by a savepoint.
+     *
+     * @param jdbcTemplate  The jdbcTemplate to use to execute the batch.
+     * @param sqlStatements The statements to execute.
+     * @return {@code true} if the batch was executed successfully, {@code false} if nothing was executed and the
+     * statements must be executed one by one instead.
+     */
+    private boolean executeBatchInSavepoint(JdbcTemplate jdbcTemplate, List<SqlStatement<C>> sqlStatements) {
+        Connection connection = jdbcTemplate.getConnection();
+        Savepoint savepoint;
+        try {
+            if (connection.getAutoCommit()) {
+                return false;
+            }
+            savepoint = connection.setSavepoint();
+        } catch (SQLException e) {
+            LOG.debug("Unable to create savepoint for batch, executing statements one by one: " + e.getMessage());
+            return false;
+        }
 
+        List<String> sqls = new ArrayList<>(sqlStatements.size());
+        for (SqlStatement<C> sqlStatement : sqlStatements) {
+            sqls.add(sqlStatement.getSql());
+        }
 
-                printWarnings(context);
-                for (Result result : results) {
-                    if (result.getUpdateCount() != -1) {
-                        LOG.debug("Update Count: " + result.getUpdateCount());
+        C context = createContext();
+        LOG.debug("Executing batch of {} statements starting at line {}", sqls.size(), sqlStatements.get(0).getLineNumber());
+        long start = System.nanoTime();
+        try {
+            int[] updateCounts = jdbcTemplate.executeBatch(context, sqls);
+            long durationNanos = System.nanoTime() - start;
+            for (SqlStatement<C> sqlStatement : sqlStatements) {
+                // Each statement of the batch is reported with its share of the time
+                recordStatement(sqlStatement, durationNanos / sqlStatements.size());
+            }
+            printWarnings(context);
+            if (LOG.isDebugEnabled()) {
+                for (int i = 0; i < updateCounts.length; i++) {
+                    if (updateCounts[i] >= 0) {
+                        LOG.debug("Update Count (line {}): {}", sqlStatements.get(i).getLineNumber(), updateCounts[i]);
                     }
+                }
+            }
+        } catch (SQLException e) {
+            LOG.debug("Batch failed, executing its statements one by one: " + e.getMessage());
+            try {
+                connection.rollback(savepoint);
+            } catch (SQLException rollbackException) {
+                throw new FlywaySqlScriptException(resource, sqlStatements.get(0), rollbackException);
+            }
+            return false;
+        }
 
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            // Not supported by all drivers, the savepoint is then released along with the transaction.
+            LOG.debug("Unable to release savepoint: " + e.getMessage());
+        }
+        return true;
+    }
 
+    /**
+     * Executes this statement against the database.
+     *
+     * @param jdbcTemplate The jdbcTemplate to use to execute this statement.
+     * @param sqlStatement The statement to execute.
+     */
+    private void executeStatement(JdbcTemplate jdbcTemplate, SqlStatement<C> sqlStatement) {
+        C context = createContext();
 
+        String sql = sqlStatement.getSql();
+        LOG.debug("Executing SQL: {}", sql);
 
+        try {
+            long start = System.nanoTime();
+            List<Result> results = sqlStatement.execute(context, jdbcTemplate);
+            recordStatement(sqlStatement, System.nanoTime() - start);
 
 
-                }
-            } catch (final SQLException e) {
 
 
 
 
+            printWarnings(context);
+            for (Result result : results) {
+                if (result.getUpdateCount() != -1) {
+                    LOG.debug("Update Count: {}", result.getUpdateCount());
+                }
 
 
 
 
 
 
-                printWarnings(context);
-                handleException(e, sqlStatement, context);
             }
+        } catch (final SQLException e) {
+
+
+
+
+
+
+
+
+
+
+            printWarnings(context);
+            handleException(e, sqlStatement, context);
         }
     }
 
@@ -216,11 +564,98 @@ public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScri
      */
     public List<SqlStatement<C>> parse(String sqlScriptSource) {
         if (resource != null) {
-            LOG.debug("Parsing " + resource.getFilename() + " ...");
+            LOG.debug("Parsing {} ...", resource.getFilename());
         }
         return linesToStatements(readLines(new StringReader(sqlScriptSource)));
     }
 
+    /**
+     * Rebuilds the statements of this script source from the parse cache by slicing its lines, falling back to
+     * parsing it and storing the result in the cache if it isn't cached yet.
+     *
+     * @param sqlScriptSource The script source to parse.
+     * @return The statements.
+     */
+    private List<SqlStatement<C>> parseUsingCache(String sqlScriptSource) {
+        String key = parseCache.computeKey(getClass().getName(), sqlScriptSource);
+        List<String> lines = readLines(new StringReader(sqlScriptSource));
+
+        List<SqlScriptParseCache.Entry> entries = parseCache.load(key);
+        if (entries != null) {
+            List<SqlStatement<C>> statements = restoreStatements(lines, entries);
+            if (statements != null) {
+                if (resource != null) {
+                    LOG.debug("Loaded {} from parse cache", resource.getFilename());
+                }
+                return statements;
+            }
+        }
+
+        if (resource != null) {
+            LOG.debug("Parsing {} ...", resource.getFilename());
+        }
+        entries = new ArrayList<>();
+        List<SqlStatement<C>> statements = linesToStatements(lines, entries);
+        parseCache.store(key, entries);
+        return statements;
+    }
+
+    /**
+     * Rebuilds the statements of a script from the boundaries stored in the parse cache.
+     *
+     * @param lines   The lines of the script.
+     * @param entries The boundaries of its statements.
+     * @return The statements or {@code null} if the cached boundaries don't fit these lines.
+     */
+    private List<SqlStatement<C>> restoreStatements(List<String> lines, List<SqlScriptParseCache.Entry> entries) {
+        List<SqlStatement<C>> statements = new ArrayList<>();
+        for (SqlScriptParseCache.Entry entry : entries) {
+            int end = entry.lineNumber - 1 + entry.lineCount;
+            if (entry.lineNumber < 1 || entry.lineCount < 1 || end > lines.size()) {
+                return null;
+            }
+
+            StringBuilder sql = new StringBuilder();
+            for (int i = entry.lineNumber - 1; i < end; i++) {
+                if (i > entry.lineNumber - 1) {
+                    sql.append("\n");
+                }
+                sql.append(lines.get(i));
+            }
+            if (entry.length > sql.length()) {
+                return null;
+            }
+            sql.setLength(entry.length);
+
+            SqlStatement<C> sqlStatement = restoreSqlStatement(entry.type, entry.lineNumber, sql.toString());
+            if (sqlStatement == null) {
+                return null;
+            }
+            statements.add(sqlStatement);
+        }
+
+        for (int i = 0; i < statements.size(); i++) {
+            checkStatement(statements.get(i), entries.get(i).executeInTransaction);
+        }
+        return statements;
+    }
+
+    /**
+     * Recreates a statement of this type from the parse cache.
+     *
+     * @param type       The fully qualified class name of the statement.
+     * @param lineNumber The original line number where the statement was located in the script it came from.
+     * @param sql        The sql to send to the database.
+     * @return The statement or {@code null} if statements of this type can't be recreated.
+     */
+    protected SqlStatement<C> restoreSqlStatement(String type, int lineNumber, String sql) {
+        if (StandardSqlStatement.class.getName().equals(type)) {
+            //noinspection unchecked
+            return (SqlStatement<C>) new StandardSqlStatement(lineNumber, sql);
+        }
+        return null;
+    }
+
     /**
      * Turns these lines in a series of statements.
      *
@@ -228,25 +663,216 @@ public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScri
      * @return The statements contained in these lines (in order).
      */
     public List<SqlStatement<C>> linesToStatements(List<String> lines) {
+        return linesToStatements(lines, null);
+    }
+
+    /**
+     * Turns these lines in a series of statements.
+     *
+     * @param lines        The lines to analyse.
+     * @param cacheEntries The list to add the boundaries of the statements to for the parse cache. {@code null} if
+     *                     they aren't needed.
+     * @return The statements contained in these lines (in order).
+     */
+    private List<SqlStatement<C>> linesToStatements(List<String> lines, List<SqlScriptParseCache.Entry> cacheEntries) {
         List<SqlStatement<C>> statements = new ArrayList<>();
 
-        Delimiter nonStandardDelimiter = null;
-        SqlStatementBuilder sqlStatementBuilder = createSqlStatementBuilder();
+        LineParser lineParser = new LineParser();
+        for (String line : lines) {
+            SqlStatementBuilder sqlStatementBuilder = lineParser.parseLine(line);
+            if (sqlStatementBuilder != null) {
+                addStatement(statements, sqlStatementBuilder, lineParser.lineNumber, cacheEntries);
+            }
+        }
+
+        // Catch any statements not followed by delimiter.
+        SqlStatementBuilder sqlStatementBuilder = lineParser.finish();
+        if (sqlStatementBuilder != null) {
+            addStatement(statements, sqlStatementBuilder, lineParser.lineNumber, cacheEntries);
+        }
+
+        return statements;
+    }
+
+    /**
+     * Reads the resource of this streamed script line by line, checking and executing each statement as soon as it is
+     * terminated.
+     *
+     * @param jdbcTemplate  The jdbcTemplate to execute the statements with.
+     * @param inTransaction Whether the script is being executed within a transaction.
+     */
+    private void streamStatements(JdbcTemplate jdbcTemplate, boolean inTransaction) {
+        BufferedReader bufferedReader = openStream();
+        try {
+            LineParser lineParser = new LineParser();
+            List<SqlStatement<C>> batch = new ArrayList<>();
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                SqlStatementBuilder sqlStatementBuilder = lineParser.parseLine(stripBom(lineParser, line));
+                if (sqlStatementBuilder != null) {
+                    processStreamedStatement(jdbcTemplate, batch, sqlStatementBuilder, inTransaction);
+                }
+            }
+
+            // Catch any statements not followed by delimiter.
+            SqlStatementBuilder sqlStatementBuilder = lineParser.finish();
+            if (sqlStatementBuilder != null) {
+                processStreamedStatement(jdbcTemplate, batch, sqlStatementBuilder, inTransaction);
+            }
+            executeBatch(jdbcTemplate, batch);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to parse " + resource.getLocation() + " (" + resource.getLocationOnDisk() + ")", e);
+        } finally {
+            closeStream(bufferedReader);
+        }
+    }
+
+    /**
+     * Checks this streamed statement and executes it, or adds it to the current batch if it can be batched.
+     *
+     * @param jdbcTemplate        The jdbcTemplate to use to execute this statement.
+     * @param batch               The DML statements waiting to be executed as the next batch.
+     * @param sqlStatementBuilder The builder of the statement.
+     * @param inTransaction       Whether the script is being executed within a transaction.
+     */
+    private void processStreamedStatement(JdbcTemplate jdbcTemplate, List<SqlStatement<C>> batch,
+                                          SqlStatementBuilder sqlStatementBuilder, boolean inTransaction) {
+        SqlStatement<C> sqlStatement = checkStatement(sqlStatementBuilder);
+        if (inTransaction && !sqlStatementBuilder.executeInTransaction()) {
+            throw new FlywayException("Unable to stream " + resource.getLocation()
+                    + " as it starts with transactional statements but contains a non-transactional statement at line "
+                    + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql()
+                    + ". Disable streaming to execute it.");
+        }
+        executeOrBatchStatement(jdbcTemplate, batch, sqlStatement);
+    }
+
+    /**
+     * @return A reader over the resource of this streamed script, with placeholders replaced.
+     */
+    private BufferedReader openStream() {
+        return new BufferedReader(streamingPlaceholderReplacer.replacePlaceholders(
+                ((LoadableResource) resource).loadAsReader(streamingEncoding)));
+    }
+
+    /**
+     * Closes this reader over the resource of this streamed script.
+     *
+     * @param bufferedReader The reader to close.
+     */
+    private void closeStream(BufferedReader bufferedReader) {
+        try {
+            bufferedReader.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close " + resource.getLocation() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Strips the UTF-8 BOM from the first line of a streamed script.
+     *
+     * @param lineParser The parser the line is about to be fed to.
+     * @param line       The line.
+     * @return The line without BOM.
+     */
+    private String stripBom(LineParser lineParser, String line) {
+        if (lineParser.lineNumber == 0 && line.startsWith("\ufeff")) {
+            return line.substring(1);
+        }
+        return line;
+    }
+
+    protected abstract SqlStatementBuilder createSqlStatementBuilder();
+
+    private void addStatement(List<SqlStatement<C>> statements, SqlStatementBuilder sqlStatementBuilder, int lastLineNumber,
+                              List<SqlScriptParseCache.Entry> cacheEntries) {
+        SqlStatement<C> sqlStatement = checkStatement(sqlStatementBuilder);
+        statements.add(sqlStatement);
+
+        if (cacheEntries != null) {
+            cacheEntries.add(new SqlScriptParseCache.Entry(sqlStatement.getLineNumber(),
+                    lastLineNumber - sqlStatement.getLineNumber() + 1, sqlStatement.getSql().length(),
+                    sqlStatementBuilder.executeInTransaction(), sqlStatement.getClass().getName()));
+        }
+    }
+
+    /**
+     * Builds the statement assembled by this builder and checks it.
+     *
+     * @param sqlStatementBuilder The builder of the statement to check.
+     * @return The statement.
+     */
+    private SqlStatement<C> checkStatement(SqlStatementBuilder sqlStatementBuilder) {
+        SqlStatement<C> sqlStatement = sqlStatementBuilder.getSqlStatement();
+        checkStatement(sqlStatement, sqlStatementBuilder.executeInTransaction());
+        return sqlStatement;
+    }
+
+    /**
+     * Records whether this statement is transactional and fails if this leads to an illegal mix of transactional and
+     * non-transactional statements.
+     *
+     * @param sqlStatement         The statement to check.
+     * @param executeInTransaction Whether the statement must be executed within a transaction.
+     */
+    private void checkStatement(SqlStatement<C> sqlStatement, boolean executeInTransaction) {
+        if (executeInTransaction) {
+            transactionalStatementFound = true;
+        } else {
+            nonTransactionalStatementFound = true;
+        }
+
+        if (!mixed && transactionalStatementFound && nonTransactionalStatementFound) {
+            throw new FlywayException(
+                    "Detected both transactional and non-transactional statements within the same migration"
+                            + " (even though mixed is false). Offending statement found at line "
+                            + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql()
+                            + (executeInTransaction ? "" : " [non-transactional]"));
+        }
+
+        LOG.debug("Found statement at line {}: {}{}", sqlStatement.getLineNumber(), sqlStatement.getSql(),
+                executeInTransaction ? "" : " [non-transactional]");
+    }
 
-        for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
-            String line = lines.get(lineNumber - 1);
+    /**
+     * Incrementally turns lines into statements, only ever holding the statement currently being built.
+     */
+    private class LineParser {
+        /**
+         * The delimiter set by the last explicit delimiter change directive, if any.
+         */
+        private Delimiter nonStandardDelimiter;
+
+        /**
+         * The builder for the statement currently being parsed.
+         */
+        private SqlStatementBuilder sqlStatementBuilder = createSqlStatementBuilder();
+
+        /**
+         * The number of the last line parsed.
+         */
+        private int lineNumber;
+
+        /**
+         * Parses the next line.
+         *
+         * @param line The line to parse.
+         * @return The builder of the statement terminated by this line, or {@code null} if none was.
+         */
+        SqlStatementBuilder parseLine(String line) {
+            lineNumber++;
 
             if (sqlStatementBuilder.isEmpty()) {
                 if (!StringUtils.hasText(line)) {
                     // Skip empty line between statements.
-                    continue;
+                    return null;
                 }
 
                 Delimiter newDelimiter = sqlStatementBuilder.extractNewDelimiterFromLine(line);
                 if (newDelimiter != null) {
                     nonStandardDelimiter = newDelimiter;
                     // Skip this line as it was an explicit delimiter change directive outside of any statements.
-                    continue;
+                    return null;
                 }
 
                 sqlStatementBuilder.setLineNumber(lineNumber);
@@ -266,40 +892,19 @@ public abstract class ExecutableSqlScript<C extends ContextImpl> extends SqlScri
             if (sqlStatementBuilder.canDiscard()) {
                 sqlStatementBuilder = createSqlStatementBuilder();
             } else if (sqlStatementBuilder.isTerminated()) {
-                addStatement(statements, sqlStatementBuilder);
+                SqlStatementBuilder terminated = sqlStatementBuilder;
                 sqlStatementBuilder = createSqlStatementBuilder();
+                return terminated;
             }
+            return null;
         }
 
-        // Catch any statements not followed by delimiter.
-        if (!sqlStatementBuilder.isEmpty()) {
-            addStatement(statements, sqlStatementBuilder);
-        }
-
-        return statements;
-    }
-
-    protected abstract SqlStatementBuilder createSqlStatementBuilder();
-
-    private void addStatement(List<SqlStatement<C>> statements, SqlStatementBuilder sqlStatementBuilder) {
-        SqlStatement<C> sqlStatement = sqlStatementBuilder.getSqlStatement();
-        statements.add(sqlStatement);
-
-        if (sqlStatementBuilder.executeInTransaction()) {
-            transactionalStatementFound = true;
-        } else {
-            nonTransactionalStatementFound = true;
-        }
-
-        if (!mixed && transactionalStatementFound && nonTransactionalStatementFound) {
-            throw new FlywayException(
-                    "Detected both transactional and non-transactional statements within the same migration"
-                            + " (even though mixed is false). Offending statement found at line "
-                            + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql()
-                            + (sqlStatementBuilder.executeInTransaction() ? "" : " [non-transactional]"));
+        /**
+         * @return The builder of the trailing statement not followed by a delimiter, or {@code null} if there is none.
+         */
+        SqlStatementBuilder finish() {
+            return sqlStatementBuilder.isEmpty() ? null : sqlStatementBuilder;
         }
-
-        LOG.debug("Found statement at line " + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql() + (sqlStatementBuilder.executeInTransaction() ? "" : " [non-transactional]"));
     }
 
     /**
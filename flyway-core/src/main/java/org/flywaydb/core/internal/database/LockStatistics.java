@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database;
+
+/**
+ * Statistics about the locks acquired on a connection: how often they were acquired, how many attempts this took and
+ * how long was spent waiting for them.
+ */
+public class LockStatistics {
+    /**
+     * The number of times a lock was acquired.
+     */
+    private int acquisitions;
+
+    /**
+     * The total number of attempts made to acquire the locks.
+     */
+    private int attempts;
+
+    /**
+     * The total time spent waiting for the locks, in milliseconds.
+     */
+    private long waitTimeMillis;
+
+    /**
+     * The time spent waiting for the most recently acquired lock, in milliseconds.
+     */
+    private long lastWaitTimeMillis;
+
+    /**
+     * Records the acquisition of a lock.
+     *
+     * @param attempts       The number of attempts it took to acquire the lock.
+     * @param waitTimeMillis The time spent waiting for the lock, in milliseconds.
+     */
+    public synchronized void record(int attempts, long waitTimeMillis) {
+        this.acquisitions++;
+        this.attempts += attempts;
+        this.waitTimeMillis += waitTimeMillis;
+        this.lastWaitTimeMillis = waitTimeMillis;
+    }
+
+    /**
+     * @return The number of times a lock was acquired.
+     */
+    public synchronized int getAcquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * @return The total number of attempts made to acquire the locks.
+     */
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return The total time spent waiting for the locks, in milliseconds.
+     */
+    public synchronized long getWaitTimeMillis() {
+        return waitTimeMillis;
+    }
+
+    /**
+     * @return The time spent waiting for the most recently acquired lock, in milliseconds.
+     */
+    public synchronized long getLastWaitTimeMillis() {
+        return lastWaitTimeMillis;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return acquisitions + " lock(s) acquired in " + attempts + " attempt(s), waited " + waitTimeMillis + " ms";
+    }
+}
@@ -69,8 +69,16 @@ public abstract class Schema<D extends Database> {
      * @return {@code true} if it does, {@code false} if not.
      */
     public boolean exists() {
+        CatalogSnapshot catalogSnapshot = database.getCatalogSnapshot();
+        if (catalogSnapshot.isSchemaKnownToExist(name)) {
+            return true;
+        }
         try {
-            return doExists();
+            boolean exists = doExists();
+            if (exists) {
+                catalogSnapshot.schemaExists(name);
+            }
+            return exists;
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to check whether schema " + this + " exists", e);
         }
@@ -111,6 +119,7 @@ public abstract class Schema<D extends Database> {
     public void create() {
         try {
             doCreate();
+            database.getCatalogSnapshot().schemaExists(name);
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to create schema " + this, e);
         }
@@ -129,6 +138,7 @@ public abstract class Schema<D extends Database> {
     public void drop() {
         try {
             doDrop();
+            database.getCatalogSnapshot().schemaDropped(name);
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to drop schema " + this, e);
         }
@@ -149,6 +159,9 @@ public abstract class Schema<D extends Database> {
             doClean();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to clean schema " + this, e);
+        } finally {
+            // Even a failed clean may have dropped some tables
+            database.getCatalogSnapshot().schemaCleaned(name);
         }
     }
 
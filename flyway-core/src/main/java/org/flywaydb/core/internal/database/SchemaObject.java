@@ -79,6 +79,7 @@ public abstract class SchemaObject {
     public final void drop() {
         try {
             doDrop();
+            database.getCatalogSnapshot().objectDropped(schema.getName(), name);
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to drop " + this, e);
         }
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.util.VersionPrinter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * On-disk cache of the statement boundaries of parsed sql scripts. Entries are keyed by the Flyway version, the dialect
+ * and the sql script source with all placeholders already replaced, which implies the checksum of the resource and the
+ * placeholder values. Boundaries computed by the parser of another Flyway version are therefore never reused.
+ * A cached script can be rebuilt by slicing its source without having to parse it again.
+ */
+class SqlScriptParseCache {
+    private static final Log LOG = LogFactory.getLog(SqlScriptParseCache.class);
+
+    /**
+     * The Flyway version whose parser computed the cached statement boundaries.
+     */
+    private static final String VERSION = VersionPrinter.getVersion().trim();
+
+    /**
+     * The header of each cache file, identifying its format and the Flyway version that wrote it.
+     */
+    private static final String HEADER = "flyway-parse-cache 1 " + VERSION;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /**
+     * The directory holding the cache files.
+     */
+    private final File directory;
+
+    /**
+     * Creates a new parse cache.
+     *
+     * @param directory The directory holding the cache files. It is created on first write if it doesn't exist yet.
+     */
+    SqlScriptParseCache(String directory) {
+        this.directory = new File(directory);
+    }
+
+    /**
+     * Computes the cache key for this script.
+     *
+     * @param dialect         The dialect the script is parsed for.
+     * @param sqlScriptSource The sql script source with all placeholders already replaced.
+     * @return The cache key.
+     */
+    String computeKey(String dialect, String sqlScriptSource) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(VERSION.getBytes(UTF8));
+            messageDigest.update((byte) 0);
+            messageDigest.update(dialect.getBytes(UTF8));
+            messageDigest.update((byte) 0);
+            messageDigest.update(sqlScriptSource.getBytes(UTF8));
+
+            StringBuilder key = new StringBuilder();
+            for (byte b : messageDigest.digest()) {
+                key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Loads the cached statement boundaries for this key.
+     *
+     * @param key The cache key.
+     * @return The statement boundaries (in order) or {@code null} if they are not cached or couldn't be read.
+     */
+    List<Entry> load(String key) {
+        File file = new File(directory, key);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF8));
+            if (!HEADER.equals(reader.readLine())) {
+                return null;
+            }
+
+            List<Entry> entries = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts.length != 5) {
+                    return null;
+                }
+                entries.add(new Entry(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                        "T".equals(parts[3]), parts[4]));
+            }
+            return entries;
+        } catch (IOException | NumberFormatException e) {
+            LOG.debug("Unable to read parse cache file " + file.getAbsolutePath() + ": " + e.getMessage());
+            return null;
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Stores these statement boundaries for this key. Failures are logged and otherwise ignored, as the cache is
+     * only an optimisation.
+     *
+     * @param key     The cache key.
+     * @param entries The statement boundaries (in order).
+     */
+    void store(String key, List<Entry> entries) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            LOG.warn("Unable to create parse cache directory: " + directory.getAbsolutePath());
+            return;
+        }
+
+        File file = new File(directory, key);
+        File tempFile = new File(directory, key + ".tmp" + Thread.currentThread().getId());
+        Writer writer = null;
+        try {
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), UTF8));
+            writer.write(HEADER);
+            writer.write("\n");
+            for (Entry entry : entries) {
+                writer.write(entry.lineNumber + " " + entry.lineCount + " " + entry.length + " "
+                        + (entry.executeInTransaction ? "T" : "N") + " " + entry.type + "\n");
+            }
+            writer.close();
+            writer = null;
+
+            if (!tempFile.renameTo(file)) {
+                // Another process may have stored the same entry concurrently.
+                if (!tempFile.delete()) {
+                    tempFile.deleteOnExit();
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write parse cache file " + file.getAbsolutePath() + ": " + e.getMessage());
+        } finally {
+            close(writer);
+        }
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * The boundaries of a single statement within a sql script.
+     */
+    static class Entry {
+        /**
+         * The line number where the statement starts.
+         */
+        final int lineNumber;
+
+        /**
+         * The number of lines the statement spans.
+         */
+        final int lineCount;
+
+        /**
+         * The length of the sql of the statement, after the lines it spans have been joined and the delimiter has
+         * been stripped.
+         */
+        final int length;
+
+        /**
+         * Whether the statement must be executed within a transaction.
+         */
+        final boolean executeInTransaction;
+
+        /**
+         * The fully qualified class name of the statement.
+         */
+        final String type;
+
+        Entry(int lineNumber, int lineCount, int length, boolean executeInTransaction, String type) {
+            this.lineNumber = lineNumber;
+            this.lineCount = lineCount;
+            this.length = length;
+            this.executeInTransaction = executeInTransaction;
+            this.type = type;
+        }
+    }
+}
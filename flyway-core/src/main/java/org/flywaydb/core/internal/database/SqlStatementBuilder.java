@@ -16,16 +16,20 @@
 package org.flywaydb.core.internal.database;
 
 import org.flywaydb.core.internal.sqlscript.SqlStatement;
-import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.jdbc.ContextImpl;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Builds a SQL statement, one line at a time.
+ *
+ * <p>Each line is analysed by a single pass over its characters, tracking whether we are inside a string literal,
+ * an alternate string literal or a comment. Dialect-specific syntax is handled by the protected hooks below.</p>
  */
 public class SqlStatementBuilder {
+    /**
+     * The characters (besides whitespace) that separate tokens in a statement.
+     */
+    private static final String TOKEN_DELIMITERS = "@<>;:=|(),+{}";
+
     /**
      * The current statement, as it is being built.
      */
@@ -56,6 +60,11 @@ public class SqlStatementBuilder {
      */
     private boolean insideAlternateQuoteStringLiteral = false;
 
+    /**
+     * Whether the string literal we are currently inside treats backslashes as escape characters.
+     */
+    private boolean insideBackslashEscapedStringLiteral = false;
+
     /**
      * The alternate quote that is expected to close the string literal.
      */
@@ -168,13 +177,14 @@ public class SqlStatementBuilder {
     }
 
     /**
-     * Checks whether this line is just a single-line comment outside a statement or not.
+     * Checks whether a single-line comment starts at this position of the line.
      *
      * @param line The line to analyse.
-     * @return {@code true} if it is, {@code false} if not.
+     * @param pos  The position within the line.
+     * @return {@code true} if it does, {@code false} if not.
      */
-    protected boolean isSingleLineComment(String line) {
-        return line.startsWith("--");
+    protected boolean isSingleLineComment(String line, int pos) {
+        return line.startsWith("--", pos);
     }
 
     /**
@@ -189,23 +199,24 @@ public class SqlStatementBuilder {
             statement.append("\n");
         }
 
-        if (isCommentDirective(line.trim())) {
+        if (isCommentDirective(line)) {
             nonCommentStatementPartSeen = true;
         }
 
-        String lineSimplified = simplifyLine(line);
+        int firstNonWhitespace = skipWhitespace(line, 0);
 
-        applyStateChanges(lineSimplified);
-        if (endWithOpenMultilineStringLiteral() || insideMultiLineComment || isSingleLineComment(lineSimplified)) {
+        applyStateChanges(line);
+        if (endWithOpenMultilineStringLiteral() || insideMultiLineComment
+                || (firstNonWhitespace < line.length() && isSingleLineComment(line, firstNonWhitespace))) {
             statement.append(line);
             return;
         }
 
-        delimiter = changeDelimiterIfNecessary(lineSimplified, delimiter);
+        delimiter = changeDelimiterIfNecessary(line, delimiter);
 
         statement.append(line);
 
-        if (!lineEndsWithSingleLineComment && lineTerminatesStatement(lineSimplified, delimiter)) {
+        if (!lineEndsWithSingleLineComment && lineTerminatesStatement(line, delimiter)) {
             stripDelimiter(statement, delimiter);
             terminated = true;
         }
@@ -228,24 +239,69 @@ public class SqlStatementBuilder {
     }
 
     /**
-     * Simplifies this line to make it easier to parse.
+     * Simplifies this line to make it easier to match against dialect-specific patterns: escaped quotes are removed,
+     * comment markers are separated by spaces, whitespace is collapsed and the result is trimmed and upper-cased.
+     * This is done in a single pass and should only be called by dialects that actually need the simplified form.
      *
      * @param line The line to simplify.
      * @return The simplified line.
      */
     protected String simplifyLine(String line) {
-        return removeEscapedQuotes(line)
-                .replace("--", " -- ")
-                .replace("/*", " /* ")
-                .replace("*/", " */ ")
-                .replaceAll("\\s+", " ").trim().toUpperCase();
+        StringBuilder simplified = new StringBuilder(line.length());
+        boolean pendingSpace = false;
+        int length = line.length();
+        for (int i = 0; i < length; i++) {
+            char c = line.charAt(i);
+            if (c == '\'' && i + 1 < length && line.charAt(i + 1) == '\'') {
+                i++;
+                continue;
+            }
+            if (line.startsWith("--", i) || line.startsWith("/*", i) || line.startsWith("*/", i)) {
+                if (simplified.length() > 0) {
+                    simplified.append(' ');
+                }
+                simplified.append(c).append(line.charAt(i + 1));
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = simplified.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                simplified.append(' ');
+                pendingSpace = false;
+            }
+            simplified.append(Character.toUpperCase(c));
+        }
+        return simplified.toString();
+    }
+
+    /**
+     * Checks whether this line starts with this keyword (ignoring case and leading whitespace), followed by either
+     * whitespace, a comment or the end of the line.
+     *
+     * @param line    The line to check.
+     * @param keyword The upper-case keyword to look for.
+     * @return {@code true} if it does, {@code false} if not.
+     */
+    protected static boolean startsWithKeyword(String line, String keyword) {
+        int start = skipWhitespace(line, 0);
+        if (!line.regionMatches(true, start, keyword, 0, keyword.length())) {
+            return false;
+        }
+        int end = start + keyword.length();
+        return end == line.length()
+                || Character.isWhitespace(line.charAt(end))
+                || line.startsWith("--", end) || line.startsWith("/*", end) || line.startsWith("*/", end);
     }
 
     /**
      * Checks whether this line in the sql script indicates that the statement delimiter will be different from the
      * current one. Useful for database-specific stored procedures and block constructs.
      *
-     * @param line      The simplified line to analyse.
+     * @param line      The line to analyse.
      * @param delimiter The current delimiter.
      * @return The new delimiter to use (can be the same as the current one) or {@code null} for no delimiter.
      */
@@ -266,13 +322,20 @@ public class SqlStatementBuilder {
             return false;
         }
 
-        String upperCaseDelimiter = delimiter.getDelimiter().toUpperCase();
+        String delimiterString = delimiter.getDelimiter();
+        int delimiterLength = delimiterString.length();
+
+        int end = line.length();
+        while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
 
         if (delimiter.isAloneOnLine()) {
-            return line.equals(upperCaseDelimiter);
+            int start = skipWhitespace(line, 0);
+            return end - start == delimiterLength && line.regionMatches(true, start, delimiterString, 0, delimiterLength);
         }
 
-        return line.endsWith(upperCaseDelimiter);
+        return end >= delimiterLength && line.regionMatches(true, end - delimiterLength, delimiterString, 0, delimiterLength);
     }
 
     /**
@@ -295,12 +358,13 @@ public class SqlStatementBuilder {
     }
 
     /**
-     * Extracts the alternate open quote from this token (if any).
+     * Extracts the alternate open quote starting at this position of the line (if any).
      *
-     * @param token The token to check.
+     * @param line The line to analyse.
+     * @param pos  The position within the line.
      * @return The alternate open quote. {@code null} if none.
      */
-    protected String extractAlternateOpenQuote(String token) {
+    protected String extractAlternateOpenQuote(String line, int pos) {
         return null;
     }
 
@@ -315,156 +379,151 @@ public class SqlStatementBuilder {
     }
 
     /**
-     * Applies any state changes resulting from this line being added.
+     * Checks whether the string literal opening at this position of the line treats backslashes as escape
+     * characters.
+     *
+     * @param line The line to analyse.
+     * @param pos  The position of the opening quote within the line.
+     * @return {@code true} if it does, {@code false} if not.
+     */
+    protected boolean isBackslashEscapedStringLiteral(String line, int pos) {
+        return false;
+    }
+
+    /**
+     * Applies any state changes resulting from this line being added. The line is walked once, character by
+     * character, keeping track of string literals, comments and (for block statements) block nesting.
      *
      * @param line The line that was just added to the statement.
      */
     protected void applyStateChanges(String line) {
-        String[] tokens = tokenizeLine(line);
+        lineEndsWithSingleLineComment = false;
 
-        List<TokenType> delimitingTokens = extractStringLiteralDelimitingTokens(tokens);
+        int length = line.length();
+        int tokenStart = -1;
+        int i = 0;
+        while (i < length) {
+            char c = line.charAt(i);
 
-        lineEndsWithSingleLineComment = false;
-        for (TokenType delimitingToken : delimitingTokens) {
-            if (!insideQuoteStringLiteral && !insideAlternateQuoteStringLiteral
-                    && TokenType.MULTI_LINE_COMMENT_OPEN.equals(delimitingToken)) {
-                insideMultiLineComment = true;
+            if (insideMultiLineComment) {
+                if (c == '*' && i + 1 < length && line.charAt(i + 1) == '/') {
+                    insideMultiLineComment = false;
+                    i += 2;
+                } else {
+                    i++;
+                }
+                continue;
             }
-            if (!insideQuoteStringLiteral && !insideAlternateQuoteStringLiteral
-                    && TokenType.MULTI_LINE_COMMENT_CLOSE.equals(delimitingToken)) {
-                insideMultiLineComment = false;
+
+            if (insideQuoteStringLiteral) {
+                if (c == '\\' && insideBackslashEscapedStringLiteral) {
+                    i += 2;
+                    continue;
+                }
+                if (c == '\'') {
+                    if (i + 1 < length && line.charAt(i + 1) == '\'') {
+                        // Escaped quote
+                        i += 2;
+                        continue;
+                    }
+                    insideQuoteStringLiteral = false;
+                }
+                i++;
+                continue;
             }
 
-            if (!insideQuoteStringLiteral && !insideAlternateQuoteStringLiteral && !insideMultiLineComment
-                    && TokenType.SINGLE_LINE_COMMENT.equals(delimitingToken)) {
+            if (insideAlternateQuoteStringLiteral) {
+                if (c == '\\' && insideBackslashEscapedStringLiteral) {
+                    i += 2;
+                    continue;
+                }
+                if (line.startsWith(alternateQuote, i)) {
+                    insideAlternateQuoteStringLiteral = false;
+                    i += alternateQuote.length();
+                    alternateQuote = null;
+                } else {
+                    i++;
+                }
+                continue;
+            }
+
+            if (isSingleLineComment(line, i)) {
+                endToken(line, tokenStart, i);
                 lineEndsWithSingleLineComment = true;
                 return;
             }
 
-            if (!insideMultiLineComment && !insideQuoteStringLiteral &&
-                    TokenType.ALTERNATE_QUOTE.equals(delimitingToken)) {
-                insideAlternateQuoteStringLiteral = !insideAlternateQuoteStringLiteral;
+            if (c == '/' && i + 1 < length && line.charAt(i + 1) == '*') {
+                tokenStart = endToken(line, tokenStart, i);
+                insideMultiLineComment = true;
+                i += 2;
+                continue;
             }
 
-            if (!insideMultiLineComment && !insideAlternateQuoteStringLiteral &&
-                    TokenType.QUOTE.equals(delimitingToken)) {
-                insideQuoteStringLiteral = !insideQuoteStringLiteral;
+            String alternateOpenQuote = extractAlternateOpenQuote(line, i);
+            if (alternateOpenQuote != null) {
+                tokenStart = endToken(line, tokenStart, i);
+                insideAlternateQuoteStringLiteral = true;
+                insideBackslashEscapedStringLiteral = isBackslashEscapedStringLiteral(line, i);
+                alternateQuote = computeAlternateCloseQuote(alternateOpenQuote);
+                i += alternateOpenQuote.length();
+                continue;
             }
 
-            if (!insideMultiLineComment && !insideQuoteStringLiteral && !insideAlternateQuoteStringLiteral &&
-                    (TokenType.OTHER.equals(delimitingToken)
-                            || TokenType.BLOCK_BEGIN.equals(delimitingToken)
-                            || TokenType.BLOCK_END.equals(delimitingToken))) {
-                nonCommentStatementPartSeen = true;
-                if (isBlockStatement()) {
-                    if (TokenType.BLOCK_BEGIN.equals(delimitingToken)) {
-                        nestedBlockDepth++;
-                    } else if (TokenType.BLOCK_END.equals(delimitingToken)) {
-                        nestedBlockDepth--;
-                    }
-                }
+            if (c == '\'') {
+                tokenStart = endToken(line, tokenStart, i);
+                insideQuoteStringLiteral = true;
+                insideBackslashEscapedStringLiteral = isBackslashEscapedStringLiteral(line, i);
+                i++;
+                continue;
+            }
+
+            if (Character.isWhitespace(c) || TOKEN_DELIMITERS.indexOf(c) >= 0) {
+                tokenStart = endToken(line, tokenStart, i);
+            } else if (tokenStart < 0) {
+                tokenStart = i;
             }
+            i++;
         }
+        endToken(line, tokenStart, length);
     }
 
     /**
-     * @return Whether this is a statement that can contain blocks.
+     * Ends the token (if any) that started at this position.
+     *
+     * @param line       The line containing the token.
+     * @param tokenStart The start of the token. {@code -1} if there is none.
+     * @param tokenEnd   The end of the token (exclusive).
+     * @return {@code -1}, to reset the token start.
      */
-    protected boolean isBlockStatement() {
-        return false;
+    private int endToken(String line, int tokenStart, int tokenEnd) {
+        if (tokenStart >= 0) {
+            nonCommentStatementPartSeen = true;
+            if (isBlockStatement()) {
+                applyBlockToken(line.substring(tokenStart, tokenEnd).toUpperCase());
+            }
+        }
+        return -1;
     }
 
     /**
-     * Ignore all special characters that naturally occur in SQL, but are not opening or closing string literals.
+     * Applies the effect of this token (found outside of string literals and comments) on the block nesting depth.
      *
-     * @param line The line to tokenize.
-     * @return The tokens.
+     * @param token The upper-case token.
      */
-    protected String[] tokenizeLine(String line) {
-        return StringUtils.tokenizeToStringArray(line, " @<>;:=|(),+{}");
+    protected void applyBlockToken(String token) {
+        if (isBlockBeginToken(token)) {
+            nestedBlockDepth++;
+        } else if (isBlockEndToken(token)) {
+            nestedBlockDepth--;
+        }
     }
 
     /**
-     * Extract the type of all tokens that potentially delimit string literals.
-     *
-     * @param tokens The tokens to analyse.
-     * @return The list of potentially delimiting string literals token types per token. Tokens that do not have any
-     * impact on string delimiting are discarded.
-     */
-    private List<TokenType> extractStringLiteralDelimitingTokens(String[] tokens) {
-        List<TokenType> delimitingTokens = new ArrayList<>();
-        for (String token : tokens) {
-            String cleanToken = cleanToken(token);
-            boolean handled = false;
-
-            if (alternateQuote == null) {
-                String alternateQuoteFromToken = extractAlternateOpenQuote(cleanToken);
-                if (alternateQuoteFromToken != null) {
-                    String closeQuote = computeAlternateCloseQuote(alternateQuoteFromToken);
-                    if (cleanToken.length() >= (alternateQuoteFromToken.length() + closeQuote.length())
-                            && cleanToken.startsWith(alternateQuoteFromToken) && cleanToken.endsWith(closeQuote)) {
-                        //Skip $$abc$$, ...
-                        continue;
-                    }
-
-                    alternateQuote = closeQuote;
-                    delimitingTokens.add(TokenType.ALTERNATE_QUOTE);
-
-                    continue;
-                }
-            }
-            if ((alternateQuote != null) && cleanToken.endsWith(alternateQuote)) {
-                alternateQuote = null;
-                delimitingTokens.add(TokenType.ALTERNATE_QUOTE);
-                continue;
-            }
-
-            if ((cleanToken.length() >= 2) && cleanToken.startsWith("'") && cleanToken.endsWith("'")) {
-                //Skip '', 'abc', ...
-                continue;
-            }
-            if ((cleanToken.length() >= 4)) {
-                int numberOfOpeningMultiLineComments = StringUtils.countOccurrencesOf(cleanToken, "/*");
-                int numberOfClosingMultiLineComments = StringUtils.countOccurrencesOf(cleanToken, "*/");
-                if (numberOfOpeningMultiLineComments > 0 && numberOfOpeningMultiLineComments == numberOfClosingMultiLineComments) {
-                    //Skip /**/, /*comment*/, ...
-                    continue;
-                }
-            }
-
-            if (isSingleLineComment(cleanToken)) {
-                delimitingTokens.add(TokenType.SINGLE_LINE_COMMENT);
-                handled = true;
-            }
-
-            if (cleanToken.contains("/*")) {
-                delimitingTokens.add(TokenType.MULTI_LINE_COMMENT_OPEN);
-                handled = true;
-            } else if (cleanToken.startsWith("'")) {
-                delimitingTokens.add(TokenType.QUOTE);
-                handled = true;
-            }
-
-            if (!cleanToken.contains("/*") && cleanToken.contains("*/")) {
-                delimitingTokens.add(TokenType.MULTI_LINE_COMMENT_CLOSE);
-                handled = true;
-            } else if (!cleanToken.startsWith("'") && cleanToken.endsWith("'")) {
-                delimitingTokens.add(TokenType.QUOTE);
-                handled = true;
-            }
-
-            if (!handled) {
-                if (isBlockBeginToken(cleanToken)) {
-                    delimitingTokens.add(TokenType.BLOCK_BEGIN);
-                } else if (isBlockEndToken(cleanToken)) {
-                    delimitingTokens.add(TokenType.BLOCK_END);
-                } else {
-                    delimitingTokens.add(TokenType.OTHER);
-                }
-            }
-        }
-
-        return delimitingTokens;
+     * @return Whether this is a statement that can contain blocks.
+     */
+    protected boolean isBlockStatement() {
+        return false;
     }
 
     protected boolean isBlockBeginToken(String token) {
@@ -476,24 +535,68 @@ public class SqlStatementBuilder {
     }
 
     /**
-     * Removes escaped quotes from this token.
+     * Checks whether this character can be part of an unquoted identifier or keyword.
      *
-     * @param token The token to parse.
-     * @return The cleaned token.
+     * @param c The character to check.
+     * @return {@code true} if it can, {@code false} if not.
      */
-    protected String removeEscapedQuotes(String token) {
-        return StringUtils.replaceAll(token, "''", "");
+    protected static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
     }
 
     /**
-     * Performs additional cleanup on this token, such as removing charset casting that prefixes string literals.
-     * Must be implemented in dialect specific sub classes.
+     * Checks whether the character at this position of the line is immediately preceded by this prefix, forming a
+     * single token (as in E'...', N'..', X'...', ...).
      *
-     * @param token The token to clean.
-     * @return The cleaned token.
+     * @param line   The line to analyse.
+     * @param pos    The position within the line.
+     * @param prefix The upper-case prefix to look for.
+     * @return {@code true} if it is, {@code false} if not.
      */
-    protected String cleanToken(String token) {
-        return token;
+    protected static boolean isPrefixedBy(String line, int pos, String prefix) {
+        int start = pos - prefix.length();
+        return start >= 0
+                && line.regionMatches(true, start, prefix, 0, prefix.length())
+                && (start == 0 || !isIdentifierPart(line.charAt(start - 1)));
+    }
+
+    /**
+     * Extracts the PostgreSQL-style dollar quote ($$, $BODY$, $xyz123$, ...) starting at this position of the line.
+     *
+     * @param line The line to analyse.
+     * @param pos  The position within the line.
+     * @return The dollar quote. {@code null} if none.
+     */
+    protected static String extractDollarQuote(String line, int pos) {
+        if (line.charAt(pos) != '$') {
+            return null;
+        }
+        int length = line.length();
+        for (int i = pos + 1; i < length; i++) {
+            char c = line.charAt(i);
+            if (c == '$') {
+                return line.substring(pos, i + 1);
+            }
+            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_')) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first non-whitespace character of this line, starting at this position.
+     *
+     * @param line The line to analyse.
+     * @param pos  The position to start at.
+     * @return The position of the first non-whitespace character, or the length of the line if there is none.
+     */
+    protected static int skipWhitespace(String line, int pos) {
+        int length = line.length();
+        while (pos < length && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+        return pos;
     }
 
     /**
@@ -505,49 +608,4 @@ public class SqlStatementBuilder {
     public boolean executeInTransaction() {
         return executeInTransaction;
     }
-
-    /**
-     * The types of tokens relevant for string delimiter related parsing.
-     */
-    private enum TokenType {
-        /**
-         * Some other token.
-         */
-        OTHER,
-
-        /**
-         * Token opens or closes a ' string literal
-         */
-        QUOTE,
-
-        /**
-         * Token opens or closes an alternate string literal
-         */
-        ALTERNATE_QUOTE,
-
-        /**
-         * Token starts end of line comment
-         */
-        SINGLE_LINE_COMMENT,
-
-        /**
-         * Token opens a multi-line comment
-         */
-        MULTI_LINE_COMMENT_OPEN,
-
-        /**
-         * Token closes a multi-line comment
-         */
-        MULTI_LINE_COMMENT_CLOSE,
-
-        /**
-         * Token begins a block
-         */
-        BLOCK_BEGIN,
-
-        /**
-         * Token ends a block
-         */
-        BLOCK_END
-    }
-}
\ No newline at end of file
+}
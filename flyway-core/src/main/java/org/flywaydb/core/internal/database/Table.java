@@ -48,8 +48,16 @@ public abstract class Table extends SchemaObject {
      * @return {@code true} if it does, {@code false} if not.
      */
     public boolean exists() {
+        CatalogSnapshot catalogSnapshot = database.getCatalogSnapshot();
+        if (catalogSnapshot.isTableKnownToExist(schema.getName(), name)) {
+            return true;
+        }
         try {
-            return doExists();
+            boolean exists = doExists();
+            if (exists) {
+                catalogSnapshot.tableExists(schema.getName(), name);
+            }
+            return exists;
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to check whether table " + this + " exists", e);
         }
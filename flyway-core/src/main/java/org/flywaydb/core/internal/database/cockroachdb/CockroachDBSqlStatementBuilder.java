@@ -17,45 +17,22 @@ package org.flywaydb.core.internal.database.cockroachdb;
 
 import org.flywaydb.core.internal.database.Delimiter;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
-import org.flywaydb.core.internal.util.StringUtils;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * SqlStatementBuilder supporting CockroachDB specific syntax.
  */
 public class CockroachDBSqlStatementBuilder extends SqlStatementBuilder {
-    /**
-     * Matches $$, $BODY$, $xyz123$, ...
-     */
-    /*private -> for testing*/
-    static final String DOLLAR_QUOTE_REGEX = "(\\$[A-Za-z0-9_]*\\$).*";
-
     CockroachDBSqlStatementBuilder(Delimiter defaultDelimiter) {
         super(defaultDelimiter);
     }
 
     @Override
-    protected String[] tokenizeLine(String line) {
-        return StringUtils.tokenizeToStringArray(line, " @<>;:=|(),+{}\\[\\]");
-    }
-
-    @Override
-    protected String extractAlternateOpenQuote(String token) {
-        Matcher matcher = Pattern.compile(DOLLAR_QUOTE_REGEX).matcher(token);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        return null;
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        return extractDollarQuote(line, pos);
     }
 
     @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("E'")) {
-            return token.substring(token.indexOf("'"));
-        }
-
-        return token;
+    protected boolean isBackslashEscapedStringLiteral(String line, int pos) {
+        return isPrefixedBy(line, pos, "E");
     }
-}
\ No newline at end of file
+}
@@ -49,13 +49,16 @@ public class DB2Schema extends Schema<DB2Database> {
 
     @Override
     protected boolean doEmpty() throws SQLException {
-        int objectCount = jdbcTemplate.queryForInt("select count(*) from syscat.tables where tabschema = ?", name);
-        objectCount += jdbcTemplate.queryForInt("select count(*) from syscat.views where viewschema = ?", name);
-        objectCount += jdbcTemplate.queryForInt("select count(*) from syscat.sequences where seqschema = ?", name);
-        objectCount += jdbcTemplate.queryForInt("select count(*) from syscat.indexes where indschema = ?", name);
-        objectCount += jdbcTemplate.queryForInt("select count(*) from syscat.procedures where procschema = ?", name);
-        objectCount += jdbcTemplate.queryForInt("select count(*) from syscat.functions where funcschema = ?", name);
-        objectCount += jdbcTemplate.queryForInt("select count(*) from syscat.triggers where trigschema = ?", name);
+        // Checks all object kinds in a single round trip
+        int objectCount = jdbcTemplate.queryForInt("select"
+                + " (select count(*) from syscat.tables where tabschema = ?)"
+                + " + (select count(*) from syscat.views where viewschema = ?)"
+                + " + (select count(*) from syscat.sequences where seqschema = ?)"
+                + " + (select count(*) from syscat.indexes where indschema = ?)"
+                + " + (select count(*) from syscat.procedures where procschema = ?)"
+                + " + (select count(*) from syscat.functions where funcschema = ?)"
+                + " + (select count(*) from syscat.triggers where trigschema = ?)"
+                + " from sysibm.sysdummy1", name, name, name, name, name, name, name);
         return objectCount == 0;
     }
 
@@ -19,7 +19,6 @@ import org.flywaydb.core.internal.database.Delimiter;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -31,11 +30,6 @@ public class DB2SqlStatementBuilder extends SqlStatementBuilder {
      */
     private static final String DELIMITER_KEYWORD = "--#SET TERMINATOR";
 
-    /**
-     * Regex for keywords that can appear after a string literal without being separated by a space.
-     */
-    private static final Pattern KEYWORDS_AFTER_STRING_LITERAL_REGEX = Pattern.compile("(.*')(DO)(?!.)");
-
     /**
      * Regex for statements that accept blocks.
      */
@@ -47,13 +41,21 @@ public class DB2SqlStatementBuilder extends SqlStatementBuilder {
      */
     private String statementStart = "";
 
+    /**
+     * Whether the statement start indicates a statement that accepts blocks.
+     */
+    private boolean blockStatement;
+
     /**
      * The current delimiter to use. This delimiter can be changed
      * as well as temporarily disabled inside BEGIN END; blocks.
      */
     private Delimiter currentDelimiter = defaultDelimiter;
 
-    private String previousLine = "";
+    /**
+     * The previous block token seen in this statement.
+     */
+    private String previousToken = "";
 
     /**
      * Creates a new SqlStatementBuilder.
@@ -66,32 +68,13 @@ public class DB2SqlStatementBuilder extends SqlStatementBuilder {
 
     @Override
     public Delimiter extractNewDelimiterFromLine(String line) {
-        if (line.toUpperCase().startsWith(DELIMITER_KEYWORD)) {
+        if (line.regionMatches(true, 0, DELIMITER_KEYWORD, 0, DELIMITER_KEYWORD.length())) {
             return new Delimiter(line.substring(DELIMITER_KEYWORD.length()).trim(), false);
         }
 
         return null;
     }
 
-    @Override
-    protected boolean isSingleLineComment(String line) {
-        return line.startsWith("--") && !line.startsWith(DELIMITER_KEYWORD);
-    }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("X'")) {
-            return token.substring(token.indexOf("'"));
-        }
-
-        Matcher afterMatcher = KEYWORDS_AFTER_STRING_LITERAL_REGEX.matcher(token);
-        if (afterMatcher.find()) {
-            token = afterMatcher.group(1);
-        }
-
-        return super.cleanToken(token);
-    }
-
     @Override
     protected Delimiter changeDelimiterIfNecessary(String line, Delimiter delimiter) {
         if (delimiter != null && !delimiter.equals(currentDelimiter)) {
@@ -101,8 +84,11 @@ public class DB2SqlStatementBuilder extends SqlStatementBuilder {
         }
 
         if (StringUtils.countOccurrencesOf(statementStart, " ") < 4) {
-            statementStart += line;
-            statementStart += " ";
+            String simplifiedLine = simplifyLine(line);
+            if (!simplifiedLine.isEmpty()) {
+                statementStart += simplifiedLine + " ";
+                blockStatement = BLOCK_STATEMENT_REGEX.matcher(statementStart).matches();
+            }
         }
 
         return currentDelimiter;
@@ -110,7 +96,25 @@ public class DB2SqlStatementBuilder extends SqlStatementBuilder {
 
     @Override
     protected boolean isBlockStatement() {
-        return BLOCK_STATEMENT_REGEX.matcher(statementStart).matches();
+        return blockStatement;
+    }
+
+    @Override
+    protected void applyBlockToken(String token) {
+        // END IF, END FOR, END CASE, ... only close a single block
+        if (!("END".equals(previousToken) && isBlockTypeToken(token))) {
+            super.applyBlockToken(token);
+        }
+        previousToken = token;
+    }
+
+    private boolean isBlockTypeToken(String token) {
+        return "IF".equals(token)
+                || "FOR".equals(token)
+                || "CASE".equals(token)
+                || "LOOP".equals(token)
+                || "WHILE".equals(token)
+                || "REPEAT".equals(token);
     }
 
     @Override
@@ -127,31 +131,4 @@ public class DB2SqlStatementBuilder extends SqlStatementBuilder {
     protected boolean isBlockEndToken(String token) {
         return "END".equals(token);
     }
-
-    @Override
-    protected String[] tokenizeLine(String line) {
-        String processedLine = line;
-        if (previousLine.endsWith("END")) {
-            if (line.startsWith("IF")) {
-                processedLine = processedLine.substring(2);
-            } else if (line.startsWith("FOR")) {
-                processedLine = processedLine.substring(3);
-            } else if (line.startsWith("CASE")) {
-                processedLine = processedLine.substring(4);
-            } else if (line.startsWith("LOOP")) {
-                processedLine = processedLine.substring(4);
-            } else if (line.startsWith("WHILE")) {
-                processedLine = processedLine.substring(5);
-            } else if (line.startsWith("REPEAT")) {
-                processedLine = processedLine.substring(6);
-            }
-        }
-
-        if (StringUtils.hasLength(line)) {
-            previousLine = line;
-        }
-
-        return super.tokenizeLine(
-                processedLine.replaceAll("END (IF|FOR|CASE|LOOP|WHILE|REPEAT)", "END"));
-    }
-}
\ No newline at end of file
+}
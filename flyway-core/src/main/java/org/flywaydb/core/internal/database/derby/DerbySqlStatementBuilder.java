@@ -27,18 +27,10 @@ public class DerbySqlStatementBuilder extends SqlStatementBuilder {
     }
 
     @Override
-    protected String extractAlternateOpenQuote(String token) {
-        if (token.startsWith("$$")) {
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        if (line.startsWith("$$", pos)) {
             return "$$";
         }
         return null;
     }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("X'")) {
-            return token.substring(token.indexOf("'"));
-        }
-        return super.cleanToken(token);
-    }
 }
\ No newline at end of file
@@ -19,10 +19,12 @@ import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.ExecutableSqlScript;
+import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.database.SqlScript;
 import org.flywaydb.core.internal.exception.FlywayDbUpgradeRequiredException;
 import org.flywaydb.core.internal.util.scanner.Resource;
 
+import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Types;
@@ -118,4 +120,40 @@ public class H2Database extends Database {
     public boolean catalogIsSchema() {
         return false;
     }
+
+    @Override
+    public boolean supportsSnapshots() {
+        return true;
+    }
+
+    @Override
+    public void snapshot(Schema[] schemas, File directory) throws SQLException {
+        StringBuilder schemaNames = new StringBuilder();
+        for (Schema schema : schemas) {
+            if (schemaNames.length() > 0) {
+                schemaNames.append(", ");
+            }
+            schemaNames.append(quote(schema.getName()));
+        }
+        mainConnection.getJdbcTemplate().execute("SCRIPT TO '" + getSnapshotPath(directory) + "' SCHEMA " + schemaNames);
+    }
+
+    @Override
+    public void restoreSnapshot(Schema[] schemas, File directory) throws SQLException {
+        for (Schema schema : schemas) {
+            if (schema.exists()) {
+                schema.clean();
+            }
+        }
+        // The script recreates missing schemas itself
+        mainConnection.getJdbcTemplate().execute("RUNSCRIPT FROM '" + getSnapshotPath(directory) + "'");
+    }
+
+    /**
+     * @param directory The snapshot directory.
+     * @return The path of the snapshot script in this directory, escaped for use in a string literal.
+     */
+    private String getSnapshotPath(File directory) {
+        return new File(directory, "snapshot.sql").getAbsolutePath().replace("'", "''");
+    }
 }
\ No newline at end of file
@@ -27,8 +27,8 @@ public class H2SqlStatementBuilder extends SqlStatementBuilder {
     }
 
     @Override
-    protected String extractAlternateOpenQuote(String token) {
-        if (token.startsWith("$$")) {
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        if (line.startsWith("$$", pos)) {
             return "$$";
         }
         return null;
@@ -33,11 +33,12 @@ public class HSQLDBSqlStatementBuilder extends SqlStatementBuilder {
 
     @Override
     protected Delimiter changeDelimiterIfNecessary(String line, Delimiter delimiter) {
-        if (line.contains("BEGIN ATOMIC")) {
+        String simplifiedLine = simplifyLine(line);
+        if (simplifiedLine.contains("BEGIN ATOMIC")) {
             insideAtomicBlock = true;
         }
 
-        if (line.endsWith("END;")) {
+        if (simplifiedLine.endsWith("END;")) {
             insideAtomicBlock = false;
         }
 
@@ -73,8 +73,14 @@ public class MySQLConnection extends Connection<MySQLDatabase> {
         return new MySQLSchema(jdbcTemplate, database, name);
     }
 
+    @Override
+    public boolean isLockHeldAcrossCommits() {
+        // The named lock is held by the session
+        return true;
+    }
+
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new MySQLNamedLockTemplate(jdbcTemplate, table.toString().hashCode()).execute(callable);
+        return new MySQLNamedLockTemplate(jdbcTemplate, lockStatistics, table.toString().hashCode()).execute(callable);
     }
 }
\ No newline at end of file
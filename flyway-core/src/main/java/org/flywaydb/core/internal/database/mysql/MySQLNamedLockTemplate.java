@@ -18,6 +18,7 @@ package org.flywaydb.core.internal.database.mysql;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.database.LockStatistics;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.util.jdbc.JdbcTemplate;
 
@@ -30,21 +31,33 @@ import java.util.concurrent.Callable;
 public class MySQLNamedLockTemplate {
     private static final Log LOG = LogFactory.getLog(MySQLNamedLockTemplate.class);
 
+    /**
+     * How long a single blocking attempt to acquire the lock may wait before it is retried, in seconds.
+     */
+    private static final int LOCK_TIMEOUT_SECONDS = 10;
+
     /**
      * The connection for the named lock.
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * The statistics to record the lock acquisitions in.
+     */
+    private final LockStatistics lockStatistics;
+
     private final String lockName;
 
     /**
      * Creates a new named lock template for this connection.
      *
-     * @param jdbcTemplate  The jdbcTemplate for the connection.
-     * @param discriminator A number to discriminate between locks.
+     * @param jdbcTemplate   The jdbcTemplate for the connection.
+     * @param lockStatistics The statistics to record the lock acquisitions in.
+     * @param discriminator  A number to discriminate between locks.
      */
-    MySQLNamedLockTemplate(JdbcTemplate jdbcTemplate, int discriminator) {
+    MySQLNamedLockTemplate(JdbcTemplate jdbcTemplate, LockStatistics lockStatistics, int discriminator) {
         this.jdbcTemplate = jdbcTemplate;
+        this.lockStatistics = lockStatistics;
         lockName = "Flyway-" + discriminator;
     }
 
@@ -77,17 +90,30 @@ public class MySQLNamedLockTemplate {
         }
     }
 
+    /**
+     * Acquires the lock. Each attempt blocks on the server until the lock is granted or the attempt times out, so there
+     * is no need to pause between attempts.
+     */
     private void lock() throws SQLException {
+        long start = System.currentTimeMillis();
+        int attempts = 1;
         while (!tryLock()) {
-            try {
-                Thread.sleep(100L);
-            } catch (InterruptedException e) {
-                throw new FlywayException("Interrupted while attempting to acquire MySQL named lock: " + lockName, e);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new FlywayException("Interrupted while attempting to acquire MySQL named lock: " + lockName);
             }
+            LOG.debug("Still waiting for MySQL named lock " + lockName + " after " + attempts + " attempt(s)");
+            attempts++;
         }
+        long waitTimeMillis = System.currentTimeMillis() - start;
+        lockStatistics.record(attempts, waitTimeMillis);
+        LOG.debug("Acquired MySQL named lock " + lockName + " after " + attempts + " attempt(s) in " + waitTimeMillis + " ms");
     }
 
     private boolean tryLock() throws SQLException {
-        return jdbcTemplate.queryForInt("SELECT GET_LOCK(?,10)", lockName) == 1;
+        String result = jdbcTemplate.queryForString("SELECT GET_LOCK(?," + LOCK_TIMEOUT_SECONDS + ")", lockName);
+        if (result == null) {
+            throw new FlywayException("Error while attempting to acquire MySQL named lock: " + lockName);
+        }
+        return "1".equals(result);
     }
 }
\ No newline at end of file
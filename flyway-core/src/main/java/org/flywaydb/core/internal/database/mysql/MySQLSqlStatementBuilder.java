@@ -17,7 +17,6 @@ package org.flywaydb.core.internal.database.mysql;
 
 import org.flywaydb.core.internal.database.Delimiter;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
-import org.flywaydb.core.internal.util.StringUtils;
 
 import java.util.regex.Pattern;
 
@@ -29,11 +28,29 @@ public class MySQLSqlStatementBuilder extends SqlStatementBuilder {
      * The keyword that indicates a change in delimiter.
      */
     private static final String DELIMITER_KEYWORD = "DELIMITER";
-    private final String[] charSets = {
-            "ARMSCII8", "ASCII", "BIG5", "BINARY", "CP1250", "CP1251", "CP1256", "CP1257", "CP850", "CP852", "CP866", "CP932",
-            "DEC8", "EUCJPMS", "EUCKR", "GB2312", "GBK", "GEOSTD8", "GREEK", "HEBREW", "HP8", "KEYBCS2", "KOI8R", "KOI8U", "LATIN1",
-            "LATIN2", "LATIN5", "LATIN7", "MACCE", "MACROMAN", "SJIS", "SWE7", "TIS620", "UCS2", "UJIS", "UTF8"
-    };
+
+    /**
+     * The start of a comment directive.
+     */
+    private static final String COMMENT_DIRECTIVE_START = "/*!";
+
+    /**
+     * Regex for a comment directive on a single line.
+     */
+    private static final Pattern SINGLE_LINE_COMMENT_DIRECTIVE_REGEX =
+            Pattern.compile("^" + Pattern.quote(COMMENT_DIRECTIVE_START) + "\\d{5} .*" + Pattern.quote("*/") + "\\s*;?");
+
+    /**
+     * Regex for the start of a multi-line comment directive.
+     */
+    private static final Pattern MULTI_LINE_COMMENT_DIRECTIVE_START_REGEX =
+            Pattern.compile("^" + Pattern.quote(COMMENT_DIRECTIVE_START) + "\\d{5} .*");
+
+    /**
+     * Regex for the end of a multi-line comment directive.
+     */
+    private static final Pattern MULTI_LINE_COMMENT_DIRECTIVE_END_REGEX =
+            Pattern.compile(".*" + Pattern.quote("*/") + "\\s*;?");
 
     /*private -> testing*/ boolean isInMultiLineCommentDirective = false;
 
@@ -43,7 +60,7 @@ public class MySQLSqlStatementBuilder extends SqlStatementBuilder {
 
     @Override
     public Delimiter extractNewDelimiterFromLine(String line) {
-        if (line.toUpperCase().startsWith(DELIMITER_KEYWORD)) {
+        if (line.regionMatches(true, 0, DELIMITER_KEYWORD, 0, DELIMITER_KEYWORD.length())) {
             return new Delimiter(line.substring(DELIMITER_KEYWORD.length()).trim(), false);
         }
 
@@ -52,8 +69,9 @@ public class MySQLSqlStatementBuilder extends SqlStatementBuilder {
 
     @Override
     protected Delimiter changeDelimiterIfNecessary(String line, Delimiter delimiter) {
-        if (line.toUpperCase().startsWith(DELIMITER_KEYWORD)) {
-            return new Delimiter(line.substring(DELIMITER_KEYWORD.length()).trim(), false);
+        int start = skipWhitespace(line, 0);
+        if (line.regionMatches(true, start, DELIMITER_KEYWORD, 0, DELIMITER_KEYWORD.length())) {
+            return new Delimiter(line.substring(start + DELIMITER_KEYWORD.length()).trim(), false);
         }
 
         return delimiter;
@@ -61,17 +79,22 @@ public class MySQLSqlStatementBuilder extends SqlStatementBuilder {
 
     @Override
     public boolean isCommentDirective(String line) {
+        if (!isInMultiLineCommentDirective && !line.startsWith(COMMENT_DIRECTIVE_START, skipWhitespace(line, 0))) {
+            return false;
+        }
+
+        String trimmedLine = line.trim();
         // single-line comment directive
-        if (line.matches("^" + Pattern.quote("/*!") + "\\d{5} .*" + Pattern.quote("*/") + "\\s*;?")) {
+        if (SINGLE_LINE_COMMENT_DIRECTIVE_REGEX.matcher(trimmedLine).matches()) {
             return true;
         }
         // start of multi-line comment directive
-        if (line.matches("^" + Pattern.quote("/*!") + "\\d{5} .*")) {
+        if (MULTI_LINE_COMMENT_DIRECTIVE_START_REGEX.matcher(trimmedLine).matches()) {
             isInMultiLineCommentDirective = true;
             return true;
         }
         // last line of multi-line comment directive
-        if (isInMultiLineCommentDirective && line.matches(".*" + Pattern.quote("*/") + "\\s*;?")) {
+        if (isInMultiLineCommentDirective && MULTI_LINE_COMMENT_DIRECTIVE_END_REGEX.matcher(trimmedLine).matches()) {
             isInMultiLineCommentDirective = false;
             return true;
         }
@@ -79,41 +102,28 @@ public class MySQLSqlStatementBuilder extends SqlStatementBuilder {
     }
 
     @Override
-    protected boolean isSingleLineComment(String token) {
-        return token.startsWith("--") || (token.startsWith("#") && !("#".equals(delimiter.getDelimiter()) && "#".equals(token)));
-    }
-
-    @Override
-    protected String removeEscapedQuotes(String token) {
-        String noEscapedBackslashes = StringUtils.replaceAll(token, "\\\\", "");
-        String noBackslashEscapes = StringUtils.replaceAll(StringUtils.replaceAll(noEscapedBackslashes, "\\'", ""), "\\\"", "");
-        return StringUtils.replaceAll(noBackslashEscapes, "''", "").replace("'", " ' ");
-    }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("B'") || token.startsWith("X'")) {
-            return token.substring(token.indexOf("'"));
+    protected boolean isSingleLineComment(String line, int pos) {
+        if (line.startsWith("--", pos)) {
+            return true;
         }
-
-        if (token.startsWith("_")) {
-            for (String charSet : charSets) {
-                String cast = "_" + charSet;
-                if (token.startsWith(cast)) {
-                    return token.substring(cast.length());
-                }
-            }
+        if (line.charAt(pos) != '#') {
+            return false;
         }
+        // A lone # is the delimiter, not a comment, when # is the current delimiter
+        return !(delimiter != null && "#".equals(delimiter.getDelimiter())
+                && (pos + 1 == line.length() || Character.isWhitespace(line.charAt(pos + 1))));
+    }
 
-        // If no matches are found for charset casting then return token
-        return token;
+    @Override
+    protected boolean isBackslashEscapedStringLiteral(String line, int pos) {
+        return true;
     }
 
     @Override
-    protected String extractAlternateOpenQuote(String token) {
-        if (token.startsWith("\"")) {
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        if (line.charAt(pos) == '"') {
             return "\"";
         }
         return null;
     }
-}
\ No newline at end of file
+}
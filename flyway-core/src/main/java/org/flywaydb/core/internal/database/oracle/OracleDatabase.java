@@ -19,6 +19,7 @@ import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.SqlScript;
+import org.flywaydb.core.internal.database.Table;
 import org.flywaydb.core.internal.exception.FlywayDbUpgradeRequiredException;
 import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.jdbc.RowMapper;
@@ -133,6 +134,11 @@ public class OracleDatabase extends Database {
         return "0";
     }
 
+    @Override
+    public String getCreateFingerprintTableStatement(Table table) {
+        return "CREATE TABLE " + table + " (" + quote("fingerprint") + " VARCHAR2(200) NOT NULL)";
+    }
+
     @Override
     public String doQuote(String identifier) {
         return "\"" + identifier + "\"";
@@ -228,6 +234,15 @@ public class OracleDatabase extends Database {
         return getAvailableOptions().contains("Flashback Data Archive");
     }
 
+    /**
+     * Checks whether schemas should be cleaned server-side, with one PL/SQL block per object type.
+     *
+     * @return {@code true} if they should, {@code false} if each object should be dropped from the client.
+     */
+    boolean isBulkCleanEnabled() {
+        return configuration != null && configuration.isOracleBulkClean();
+    }
+
     /**
      * Checks whether XDB component is available or not.
      *
@@ -24,6 +24,7 @@ import org.flywaydb.core.internal.database.Table;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -38,6 +39,11 @@ import static org.flywaydb.core.internal.database.oracle.OracleSchema.ObjectType
 public class OracleSchema extends Schema<OracleDatabase> {
     private static final Log LOG = LogFactory.getLog(OracleSchema.class);
 
+    /**
+     * The maximum number of statements executed by a single anonymous PL/SQL block when cleaning in bulk.
+     */
+    private static final int STATEMENTS_PER_BLOCK = 500;
+
     /**
      * Creates a new Oracle schema.
      *
@@ -196,21 +202,61 @@ public class OracleSchema extends Schema<OracleDatabase> {
             return;
         }
 
-        String queryForFbaTrackedTables = "SELECT TABLE_NAME FROM " + (dbaViewAccessible ? "DBA_" : "USER_") +
-                "FLASHBACK_ARCHIVE_TABLES WHERE OWNER_NAME = ?";
-        List<String> tableNames = jdbcTemplate.queryForStringList(queryForFbaTrackedTables, name);
+        String fbaTrackedTablesView = (dbaViewAccessible ? "DBA_" : "USER_") + "FLASHBACK_ARCHIVE_TABLES";
+        List<String> tableNames = jdbcTemplate.queryForStringList(
+                "SELECT TABLE_NAME FROM " + fbaTrackedTablesView + " WHERE OWNER_NAME = ?", name);
+        if (tableNames.isEmpty()) {
+            return;
+        }
+
+        List<String> statements = new ArrayList<>();
         for (String tableName : tableNames) {
-            jdbcTemplate.execute("ALTER TABLE " + database.quote(name, tableName) + " NO FLASHBACK ARCHIVE");
-            //wait until the tables disappear
-            while (database.queryReturnsRows(queryForFbaTrackedTables + " AND TABLE_NAME = ?", name, tableName)) {
-                try {
-                    LOG.debug("Actively waiting for Flashback cleanup on table: " + database.quote(name, tableName));
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    throw new FlywayException("Waiting for Flashback cleanup interrupted", e);
-                }
+            statements.add("ALTER TABLE " + database.quote(name, tableName) + " NO FLASHBACK ARCHIVE");
+        }
+        if (database.isBulkCleanEnabled()) {
+            executeInBlocks(jdbcTemplate, statements);
+        } else {
+            for (String statement : statements) {
+                jdbcTemplate.execute(statement);
+            }
+        }
+
+        //wait until the tables disappear, polling all of them at once
+        while (jdbcTemplate.queryForInt(
+                "SELECT COUNT(*) FROM " + fbaTrackedTablesView + " WHERE OWNER_NAME = ?", name) > 0) {
+            try {
+                LOG.debug("Actively waiting for Flashback cleanup on tables in schema {}", database.quote(name));
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                throw new FlywayException("Waiting for Flashback cleanup interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Executes these statements server-side with EXECUTE IMMEDIATE, in anonymous PL/SQL blocks of at most
+     * {@link #STATEMENTS_PER_BLOCK} statements each.
+     *
+     * @param jdbcTemplate The Jdbc Template for communicating with the DB.
+     * @param statements   The statements to execute.
+     * @return The number of statements executed, as reported by the blocks.
+     * @throws SQLException when one of the statements failed.
+     */
+    static int executeInBlocks(JdbcTemplate jdbcTemplate, List<String> statements) throws SQLException {
+        int executed = 0;
+        for (int from = 0; from < statements.size(); from += STATEMENTS_PER_BLOCK) {
+            List<String> block = statements.subList(from, Math.min(from + STATEMENTS_PER_BLOCK, statements.size()));
+
+            StringBuilder sql = new StringBuilder("DECLARE\n  executed PLS_INTEGER := 0;\nBEGIN\n");
+            for (String statement : block) {
+                sql.append("  EXECUTE IMMEDIATE '").append(statement.replace("'", "''")).append("';\n");
+                sql.append("  executed := executed + 1;\n");
             }
+            sql.append("  ? := executed;\nEND;");
+
+            executed += jdbcTemplate.callForInt(sql.toString());
         }
+        return executed;
     }
 
     /**
@@ -744,11 +790,50 @@ public class OracleSchema extends Schema<OracleDatabase> {
          * @throws SQLException if cleaning failed.
          */
         public void dropObjects(JdbcTemplate jdbcTemplate, OracleDatabase database, OracleSchema schema) throws SQLException {
+            if (database.isBulkCleanEnabled()) {
+                int dropped;
+                // Types without a constant-specific body use the default name query and drop statement, so they can
+                // be looked up and dropped by a single server-side loop over ALL_OBJECTS.
+                if (getClass() == ObjectType.class) {
+                    dropped = dropObjectsServerSide(jdbcTemplate, schema);
+                } else {
+                    List<String> statements = new ArrayList<>();
+                    for (String objectName : getObjectNames(jdbcTemplate, database, schema)) {
+                        statements.add(generateDropStatement(jdbcTemplate, database, schema, objectName));
+                    }
+                    dropped = executeInBlocks(jdbcTemplate, statements);
+                }
+                LOG.debug("Dropped {} objects of type {} in schema {}", dropped, this, database.quote(schema.getName()));
+                return;
+            }
+
             for (String objectName : getObjectNames(jdbcTemplate, database, schema)) {
                 jdbcTemplate.execute(generateDropStatement(jdbcTemplate, database, schema, objectName));
             }
         }
 
+        /**
+         * Drops all objects of this type in the specified schema with a single anonymous PL/SQL block looping over
+         * ALL_OBJECTS.
+         *
+         * @return The number of dropped objects.
+         * @throws SQLException if cleaning failed.
+         */
+        private int dropObjectsServerSide(JdbcTemplate jdbcTemplate, OracleSchema schema) throws SQLException {
+            return jdbcTemplate.callForInt("DECLARE\n" +
+                            "  owner_name VARCHAR2(128) := ?;\n" +
+                            "  dropped PLS_INTEGER := 0;\n" +
+                            "BEGIN\n" +
+                            "  FOR o IN (SELECT OBJECT_NAME FROM ALL_OBJECTS WHERE OWNER = owner_name AND OBJECT_TYPE = ?) LOOP\n" +
+                            "    EXECUTE IMMEDIATE 'DROP " + name + " \"' || owner_name || '\".\"' || o.OBJECT_NAME || '\"" +
+                            (StringUtils.hasText(dropOptions) ? " " + dropOptions : "") + "';\n" +
+                            "    dropped := dropped + 1;\n" +
+                            "  END LOOP;\n" +
+                            "  ? := dropped;\n" +
+                            "END;",
+                    schema.getName(), name);
+        }
+
         private void warnUnsupported(String schemaName, String typeDesc) {
             LOG.warn("Unable to clean " + typeDesc + " for schema " + schemaName + ": unsupported operation");
         }
@@ -22,7 +22,6 @@ import org.flywaydb.core.internal.sqlscript.SqlStatement;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -31,17 +30,6 @@ import java.util.regex.Pattern;
 public class OracleSqlStatementBuilder extends SqlStatementBuilder {
     private static final Log LOG = LogFactory.getLog(SqlStatementBuilder.class);
 
-    /**
-     * Regex for keywords that can appear before a string literal without being separated by a space.
-     */
-    private static final Pattern KEYWORDS_BEFORE_STRING_LITERAL_REGEX =
-            Pattern.compile("^(N|DATE|IF|ELSIF|SELECT|IMMEDIATE|RETURN|IS)('.*)");
-
-    /**
-     * Regex for keywords that can appear after a string literal without being separated by a space.
-     */
-    private static final Pattern KEYWORDS_AFTER_STRING_LITERAL_REGEX = Pattern.compile("(.*')(USING|THEN|FROM|AND|OR|AS)(?!.)");
-
     private static Pattern toRegex(String... commands) {
         return Pattern.compile("^(" + StringUtils.arrayToDelimitedString("|", commands) + ")(\\s.*)?");
     }
@@ -129,7 +117,6 @@ public class OracleSqlStatementBuilder extends SqlStatementBuilder {
 
 
 
-    private static final Pattern DECLARE_BEGIN_REGEX = toRegex("DECLARE|BEGIN");
     private static final Pattern PLSQL_REGEX = Pattern.compile(
             "^CREATE(\\s+OR\\s+REPLACE)?(\\s+(NON)?EDITIONABLE)?\\s+(FUNCTION|PROCEDURE|PACKAGE|TYPE|TRIGGER).*");
     private static final Pattern JAVA_REGEX = Pattern.compile(
@@ -145,6 +132,11 @@ public class OracleSqlStatementBuilder extends SqlStatementBuilder {
      */
     private String statementStart = "";
 
+    /**
+     * Whether the statement start indicates a PL/SQL or Java statement, terminated by the PL/SQL delimiter.
+     */
+    private boolean plsqlStatement;
+
     public OracleSqlStatementBuilder(Delimiter defaultDelimiter) {
         super(defaultDelimiter);
     }
@@ -187,19 +179,22 @@ public class OracleSqlStatementBuilder extends SqlStatementBuilder {
         super.applyStateChanges(line);
 
         if (StringUtils.countOccurrencesOf(statementStart, " ") < 8) {
-            statementStart += line;
-            statementStart += " ";
-            statementStart = statementStart.replaceAll("\\s+", " ");
+            String simplifiedLine = simplifyLine(line);
+            if (!simplifiedLine.isEmpty()) {
+                statementStart += simplifiedLine + " ";
+                plsqlStatement = PLSQL_REGEX.matcher(statementStart).matches()
+                        || JAVA_REGEX.matcher(statementStart).matches();
+            }
         }
     }
 
     @Override
     protected Delimiter changeDelimiterIfNecessary(String line, Delimiter delimiter) {
-        if (DECLARE_BEGIN_REGEX.matcher(line).matches()) {
+        if (startsWithKeyword(line, "DECLARE") || startsWithKeyword(line, "BEGIN")) {
             return PLSQL_DELIMITER;
         }
 
-        if (PLSQL_REGEX.matcher(statementStart).matches() || JAVA_REGEX.matcher(statementStart).matches()) {
+        if (plsqlStatement) {
             return PLSQL_DELIMITER;
         }
 
@@ -207,34 +202,11 @@ public class OracleSqlStatementBuilder extends SqlStatementBuilder {
     }
 
     @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("'") && token.endsWith("'")) {
-            return token;
-        }
-
-        Matcher beforeMatcher = KEYWORDS_BEFORE_STRING_LITERAL_REGEX.matcher(token);
-        if (beforeMatcher.find()) {
-            token = beforeMatcher.group(2);
-        }
-
-        Matcher afterMatcher = KEYWORDS_AFTER_STRING_LITERAL_REGEX.matcher(token);
-        if (afterMatcher.find()) {
-            token = afterMatcher.group(1);
-        }
-
-        return token;
-    }
-
-    @Override
-    protected String simplifyLine(String line) {
-        String simplifiedQQuotes = StringUtils.replaceAll(StringUtils.replaceAll(line, "q'(", "q'["), ")'", "]'");
-        return super.simplifyLine(simplifiedQQuotes);
-    }
-
-    @Override
-    protected String extractAlternateOpenQuote(String token) {
-        if (token.startsWith("Q'") && (token.length() >= 3)) {
-            return token.substring(0, 3);
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        char c = line.charAt(pos);
+        if ((c == 'q' || c == 'Q') && pos + 2 < line.length() && line.charAt(pos + 1) == '\''
+                && (pos == 0 || !isIdentifierPart(line.charAt(pos - 1)) || isPrefixedBy(line, pos, "N"))) {
+            return line.substring(pos, pos + 3);
         }
         return null;
     }
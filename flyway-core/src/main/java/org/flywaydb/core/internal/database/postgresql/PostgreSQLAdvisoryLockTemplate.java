@@ -16,6 +16,7 @@
 package org.flywaydb.core.internal.database.postgresql;
 
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.database.LockStatistics;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.util.jdbc.JdbcTemplate;
 import org.flywaydb.core.api.logging.Log;
@@ -41,21 +42,44 @@ public class PostgreSQLAdvisoryLockTemplate {
                     + (0x61 << 8) // a
                     + 0x79; // y
 
+    /**
+     * How long a single blocking attempt to acquire the lock may wait before it is retried.
+     */
+    private static final int LOCK_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * The SQL state PostgreSQL reports when a lock could not be acquired within the lock_timeout.
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+
+    /**
+     * The initial and the maximum pause between two attempts when the lock is polled for.
+     */
+    private static final long INITIAL_BACKOFF_MILLIS = 10L;
+    private static final long MAX_BACKOFF_MILLIS = 1000L;
+
     /**
      * The connection for the advisory lock.
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * The statistics to record the lock acquisitions in.
+     */
+    private final LockStatistics lockStatistics;
+
     private final long lockNum;
 
     /**
      * Creates a new advisory lock template for this connection.
      *
-     * @param jdbcTemplate The jdbcTemplate for the connection.
-     * @param discriminator A number to discriminate between locks.
+     * @param jdbcTemplate   The jdbcTemplate for the connection.
+     * @param lockStatistics The statistics to record the lock acquisitions in.
+     * @param discriminator  A number to discriminate between locks.
      */
-    PostgreSQLAdvisoryLockTemplate(JdbcTemplate jdbcTemplate, int discriminator) {
+    PostgreSQLAdvisoryLockTemplate(JdbcTemplate jdbcTemplate, LockStatistics lockStatistics, int discriminator) {
         this.jdbcTemplate = jdbcTemplate;
+        this.lockStatistics = lockStatistics;
         lockNum = LOCK_MAGIC_NUM + discriminator;
     }
 
@@ -88,14 +112,54 @@ public class PostgreSQLAdvisoryLockTemplate {
         }
     }
 
+    /**
+     * Acquires the lock. Outside of a transaction, the lock is waited for with blocking attempts bounded by a session
+     * lock_timeout, so waiting only costs one query per timeout. Within a transaction, a timed out attempt would abort
+     * the transaction, so the lock is polled for instead, with an exponentially growing pause between attempts.
+     */
     private void lock() throws SQLException {
+        long start = System.currentTimeMillis();
+        int attempts = jdbcTemplate.getConnection().getAutoCommit() ? lockBlocking() : lockPolling();
+        long waitTimeMillis = System.currentTimeMillis() - start;
+        lockStatistics.record(attempts, waitTimeMillis);
+        LOG.debug("Acquired PostgreSQL advisory lock after " + attempts + " attempt(s) in " + waitTimeMillis + " ms");
+    }
+
+    private int lockBlocking() throws SQLException {
+        String lockTimeout = jdbcTemplate.queryForString("SHOW lock_timeout");
+        jdbcTemplate.execute("SET lock_timeout = " + LOCK_TIMEOUT_MILLIS);
+        try {
+            int attempts = 0;
+            while (true) {
+                attempts++;
+                try {
+                    jdbcTemplate.execute("SELECT pg_advisory_lock(" + lockNum + ")");
+                    return attempts;
+                } catch (SQLException e) {
+                    if (!LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                        throw e;
+                    }
+                    LOG.debug("Still waiting for PostgreSQL advisory lock after " + attempts + " attempt(s)");
+                }
+            }
+        } finally {
+            jdbcTemplate.execute("SET lock_timeout = '" + lockTimeout.replace("'", "''") + "'");
+        }
+    }
+
+    private int lockPolling() throws SQLException {
+        int attempts = 1;
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
         while (!tryLock()) {
             try {
-                Thread.sleep(100L);
+                Thread.sleep(backoffMillis);
             } catch (InterruptedException e) {
                 throw new FlywayException("Interrupted while attempting to acquire PostgreSQL advisory lock", e);
             }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            attempts++;
         }
+        return attempts;
     }
 
     private boolean tryLock() throws SQLException {
@@ -105,8 +105,14 @@ public class PostgreSQLConnection extends Connection<PostgreSQLDatabase> {
         return new PostgreSQLSchema(jdbcTemplate, database, name);
     }
 
+    @Override
+    public boolean isLockHeldAcrossCommits() {
+        // The advisory lock is held by the session
+        return true;
+    }
+
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new PostgreSQLAdvisoryLockTemplate(jdbcTemplate, table.toString().hashCode()).execute(callable);
+        return new PostgreSQLAdvisoryLockTemplate(jdbcTemplate, lockStatistics, table.toString().hashCode()).execute(callable);
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.internal.database.Delimiter;
 import org.flywaydb.core.internal.database.ExecutableSqlScript;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
 import org.flywaydb.core.internal.util.jdbc.ContextImpl;
 import org.flywaydb.core.internal.util.scanner.Resource;
 
@@ -42,4 +43,13 @@ class PostgreSQLSqlScript extends ExecutableSqlScript<ContextImpl> {
     protected SqlStatementBuilder createSqlStatementBuilder() {
         return new PostgreSQLSqlStatementBuilder(Delimiter.SEMICOLON);
     }
+
+    @Override
+    protected SqlStatement<ContextImpl> restoreSqlStatement(String type, int lineNumber, String sql) {
+        if (PostgreSQLCopyStatement.class.getName().equals(type)) {
+            //noinspection unchecked
+            return new PostgreSQLCopyStatement(lineNumber, sql);
+        }
+        return super.restoreSqlStatement(type, lineNumber, sql);
+    }
 }
\ No newline at end of file
@@ -20,7 +20,6 @@ import org.flywaydb.core.internal.sqlscript.SqlStatement;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -33,10 +32,29 @@ public class PostgreSQLSqlStatementBuilder extends SqlStatementBuilder {
     private static final Delimiter COPY_DELIMITER = new Delimiter("\\.", true);
 
     /**
-     * Matches $$, $BODY$, $xyz123$, ...
+     * Regexes for statements that can only be executed outside a transaction.
      */
-    /*private -> for testing*/
-    static final String DOLLAR_QUOTE_REGEX = "(\\$[A-Za-z0-9_]*\\$).*";
+    private static final Pattern[] NON_TRANSACTIONAL_STATEMENT_REGEXES = {
+            Pattern.compile("(CREATE|DROP) (DATABASE|TABLESPACE) .*"),
+            Pattern.compile("ALTER SYSTEM .*"),
+            Pattern.compile("(CREATE|DROP)( UNIQUE)? INDEX CONCURRENTLY .*"),
+            Pattern.compile("REINDEX( VERBOSE)? (SCHEMA|DATABASE|SYSTEM) .*"),
+            Pattern.compile("VACUUM .*"),
+            Pattern.compile("DISCARD ALL .*"),
+            Pattern.compile("ALTER TYPE .* ADD VALUE .*")
+    };
+
+    /**
+     * Regex for a complete CREATE RULE statement with multiple actions.
+     */
+    private static final Pattern COMPLETE_MULTI_ACTION_RULE_REGEX =
+            Pattern.compile("CREATE( OR REPLACE)? RULE .* DO (ALSO|INSTEAD) \\(.+;\\w?\\)\\w?;");
+
+    /**
+     * Regex for the start of a CREATE RULE statement with multiple actions.
+     */
+    private static final Pattern MULTI_ACTION_RULE_REGEX =
+            Pattern.compile("CREATE( OR REPLACE)? RULE .* DO (ALSO|INSTEAD) \\(.*");
 
     /**
      * Are we at the beginning of the statement.
@@ -58,6 +76,17 @@ public class PostgreSQLSqlStatementBuilder extends SqlStatementBuilder {
      */
     private String statementStart = "";
 
+    /**
+     * The delimiter to use for a CREATE RULE statement with multiple actions, based on the statement start.
+     * {@code null} if this statement isn't one.
+     */
+    private Delimiter ruleDelimiter;
+
+    /**
+     * Whether this statement is a CREATE RULE statement with multiple actions.
+     */
+    private boolean multiActionRule;
+
     public PostgreSQLSqlStatementBuilder(Delimiter defaultDelimiter) {
         super(defaultDelimiter);
     }
@@ -82,35 +111,43 @@ public class PostgreSQLSqlStatementBuilder extends SqlStatementBuilder {
         }
 
         if (StringUtils.countOccurrencesOf(statementStart, " ") < 100) {
-            statementStart += line;
-            statementStart += " ";
-            statementStart = statementStart.replaceAll("\\s+", " ");
+            String simplifiedLine = simplifyLine(line);
+            if (!simplifiedLine.isEmpty()) {
+                statementStart += simplifiedLine + " ";
+                analyseStatementStart();
+            }
         }
+    }
 
-        if (statementStart.matches("(CREATE|DROP) (DATABASE|TABLESPACE) .*")
-                || statementStart.matches("ALTER SYSTEM .*")
-                || statementStart.matches("(CREATE|DROP)( UNIQUE)? INDEX CONCURRENTLY .*")
-                || statementStart.matches("REINDEX( VERBOSE)? (SCHEMA|DATABASE|SYSTEM) .*")
-                || statementStart.matches("VACUUM .*")
-                || statementStart.matches("DISCARD ALL .*")
-                || statementStart.matches("ALTER TYPE .* ADD VALUE .*")
-                ) {
-            executeInTransaction = false;
+    /**
+     * Analyses the statement start after it has changed.
+     */
+    private void analyseStatementStart() {
+        for (Pattern regex : NON_TRANSACTIONAL_STATEMENT_REGEXES) {
+            if (regex.matcher(statementStart).matches()) {
+                executeInTransaction = false;
+                break;
+            }
+        }
+
+        multiActionRule = false;
+        ruleDelimiter = null;
+        if (COMPLETE_MULTI_ACTION_RULE_REGEX.matcher(statementStart).matches()) {
+            multiActionRule = true;
+            ruleDelimiter = Delimiter.SEMICOLON;
+        } else if (MULTI_ACTION_RULE_REGEX.matcher(statementStart).matches()) {
+            multiActionRule = true;
         }
     }
 
     @Override
-    protected String[] tokenizeLine(String line) {
-        return StringUtils.tokenizeToStringArray(line, " @<>;:=|(),+{}\\[\\]");
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        return extractDollarQuote(line, pos);
     }
 
     @Override
-    protected String extractAlternateOpenQuote(String token) {
-        Matcher matcher = Pattern.compile(DOLLAR_QUOTE_REGEX).matcher(token);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        return null;
+    protected boolean isBackslashEscapedStringLiteral(String line, int pos) {
+        return isPrefixedBy(line, pos, "E");
     }
 
     @Override
@@ -121,11 +158,11 @@ public class PostgreSQLSqlStatementBuilder extends SqlStatementBuilder {
 
         if (firstLine) {
             firstLine = false;
-            if (line.matches("COPY|COPY\\s.*")) {
-                copyStatement = line;
+            if (startsWithKeyword(line, "COPY")) {
+                copyStatement = simplifyLine(line);
             }
         } else if (copyStatement != null) {
-            copyStatement += " " + line;
+            copyStatement += " " + simplifyLine(line);
         }
 
         if (copyStatement != null && copyStatement.contains(" FROM STDIN")) {
@@ -133,23 +170,10 @@ public class PostgreSQLSqlStatementBuilder extends SqlStatementBuilder {
             return COPY_DELIMITER;
         }
 
-        if (statementStart.matches("CREATE( OR REPLACE)? RULE .* DO (ALSO|INSTEAD) \\(.+;\\w?\\)\\w?;")) {
-            return Delimiter.SEMICOLON;
-        }
-
-        if (statementStart.matches("CREATE( OR REPLACE)? RULE .* DO (ALSO|INSTEAD) \\(.*")) {
-            return null;
+        if (multiActionRule) {
+            return ruleDelimiter;
         }
 
         return delimiter;
     }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("E'")) {
-            return token.substring(token.indexOf("'"));
-        }
-
-        return token;
-    }
-}
\ No newline at end of file
+}
@@ -21,7 +21,6 @@ import org.flywaydb.core.internal.database.SqlStatementBuilder;
 import org.flywaydb.core.internal.database.StandardSqlStatement;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -29,10 +28,14 @@ import java.util.regex.Pattern;
  */
 public class RedshiftSqlStatementBuilder extends SqlStatementBuilder {
     /**
-     * Matches $$, $BODY$, $xyz123$, ...
+     * Regexes for statements that can only be executed outside a transaction.
      */
-    /*private -> for testing*/
-    static final String DOLLAR_QUOTE_REGEX = "(\\$[A-Za-z0-9_]*\\$).*";
+    private static final Pattern[] NON_TRANSACTIONAL_STATEMENT_REGEXES = {
+            Pattern.compile("^(CREATE|DROP) LIBRARY .*"),
+            Pattern.compile("^CREATE EXTERNAL TABLE .*"),
+            Pattern.compile("^ALTER TABLE .* APPEND FROM .*"),
+            Pattern.compile("^VACUUM .*")
+    };
 
     /**
      * Holds the beginning of the statement.
@@ -60,40 +63,28 @@ public class RedshiftSqlStatementBuilder extends SqlStatementBuilder {
         }
 
         if (StringUtils.countOccurrencesOf(statementStart, " ") < 8) {
-            statementStart += line;
-            statementStart += " ";
-            statementStart = statementStart.replaceAll("\\s+", " ");
-        }
+            String simplifiedLine = simplifyLine(line);
+            if (simplifiedLine.isEmpty()) {
+                return;
+            }
+            statementStart += simplifiedLine + " ";
 
-        if (statementStart.matches("^(CREATE|DROP) LIBRARY .*")
-                || statementStart.matches("^CREATE EXTERNAL TABLE .*")
-                || statementStart.matches("^ALTER TABLE .* APPEND FROM .*")
-                || statementStart.matches("^VACUUM .*")
-                ) {
-            executeInTransaction = false;
+            for (Pattern regex : NON_TRANSACTIONAL_STATEMENT_REGEXES) {
+                if (regex.matcher(statementStart).matches()) {
+                    executeInTransaction = false;
+                    return;
+                }
+            }
         }
     }
 
     @Override
-    protected String[] tokenizeLine(String line) {
-        return StringUtils.tokenizeToStringArray(line, " @<>;:=|(),+{}\\[\\]");
+    protected String extractAlternateOpenQuote(String line, int pos) {
+        return extractDollarQuote(line, pos);
     }
 
     @Override
-    protected String extractAlternateOpenQuote(String token) {
-        Matcher matcher = Pattern.compile(DOLLAR_QUOTE_REGEX).matcher(token);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        return null;
-    }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("E'")) {
-            return token.substring(token.indexOf("'"));
-        }
-
-        return token;
+    protected boolean isBackslashEscapedStringLiteral(String line, int pos) {
+        return isPrefixedBy(line, pos, "E");
     }
-}
\ No newline at end of file
+}
@@ -42,21 +42,15 @@ public class SAPHANASqlStatementBuilder extends SqlStatementBuilder {
         super(defaultDelimiter);
     }
 
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("N'") || token.startsWith("X'")
-                || token.startsWith("DATE'") || token.startsWith("TIME'") || token.startsWith("TIMESTAMP'")) {
-            return token.substring(token.indexOf("'"));
-        }
-        return super.cleanToken(token);
-    }
-
     @Override
     protected Delimiter changeDelimiterIfNecessary(String line, Delimiter delimiter) {
 
+        String simplifiedLine = null;
+
         // need only accumulate 16 characters of normalized statement start in order to determine if it is an 'interesting' statement
         if (statementStartNormalized.length() < 16) {
-            final String effectiveLine = cutCommentsFromEnd(line);
+            simplifiedLine = simplifyLine(line);
+            final String effectiveLine = cutCommentsFromEnd(simplifiedLine);
             statementStartNormalized += effectiveLine + " ";
             statementStartNormalized = StringUtils.trimLeadingWhitespace(StringUtils.collapseWhitespace(statementStartNormalized));
         }
@@ -67,11 +61,15 @@ public class SAPHANASqlStatementBuilder extends SqlStatementBuilder {
                 || statementStartNormalized.startsWith("DO");
 
         if (insideStatementAllowingNestedBeginEndBlocks) {
-            if (line.startsWith("BEGIN")) {
+            if (simplifiedLine == null) {
+                simplifiedLine = simplifyLine(line);
+            }
+
+            if (simplifiedLine.startsWith("BEGIN")) {
                 beginEndNestedDepth++;
             }
 
-            if (line.endsWith("END;")) {
+            if (simplifiedLine.endsWith("END;")) {
                 beginEndNestedDepth--;
                 if (beginEndNestedDepth < 0) {
                     LOG.warn("SQL statement parsed unsuccessfully: found unpaired 'END;' in statement");
@@ -19,11 +19,16 @@ import org.flywaydb.core.api.configuration.FlywayConfiguration;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.ExecutableSqlScript;
+import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.database.SqlScript;
 import org.flywaydb.core.internal.exception.FlywayDbUpgradeRequiredException;
+import org.flywaydb.core.internal.util.jdbc.JdbcUtils;
 import org.flywaydb.core.internal.util.scanner.Resource;
 
+import java.io.File;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 
 /**
@@ -128,4 +133,55 @@ public class SQLiteDatabase extends Database {
     public boolean useSingleConnection() {
         return true;
     }
+
+    @Override
+    public boolean supportsConcurrentClean() {
+        // Attached databases are only visible to the connection they were attached to
+        return false;
+    }
+
+    @Override
+    public boolean supportsSnapshots() {
+        return true;
+    }
+
+    @Override
+    public void snapshot(Schema[] schemas, File directory) throws SQLException {
+        for (Schema schema : schemas) {
+            executeExtendedCommand("backup " + quote(schema.getName()) + " to " + getSnapshotPath(schema, directory));
+        }
+    }
+
+    @Override
+    public void restoreSnapshot(Schema[] schemas, File directory) throws SQLException {
+        for (Schema schema : schemas) {
+            executeExtendedCommand("restore " + quote(schema.getName()) + " from " + getSnapshotPath(schema, directory));
+        }
+    }
+
+    /**
+     * Executes this command of the SQLite JDBC driver, which copies whole database files with the online backup API.
+     * These commands are only understood by plain statements, not by prepared ones.
+     *
+     * @param command The command to execute.
+     * @throws SQLException when the command failed.
+     */
+    private void executeExtendedCommand(String command) throws SQLException {
+        Statement statement = null;
+        try {
+            statement = mainConnection.getJdbcConnection().createStatement();
+            statement.executeUpdate(command);
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+
+    /**
+     * @param schema    The schema, i.e. the attached database.
+     * @param directory The snapshot directory.
+     * @return The quoted path of the snapshot file of this schema in this directory.
+     */
+    private String getSnapshotPath(Schema schema, File directory) {
+        return "'" + new File(directory, schema.getName() + ".db").getAbsolutePath() + "'";
+    }
 }
\ No newline at end of file
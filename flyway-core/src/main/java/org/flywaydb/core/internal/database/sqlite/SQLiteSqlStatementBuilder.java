@@ -19,15 +19,27 @@ import org.flywaydb.core.internal.database.Delimiter;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
 import org.flywaydb.core.internal.util.StringUtils;
 
+import java.util.regex.Pattern;
+
 /**
  * SqlStatementBuilder supporting H2-specific delimiter changes.
  */
 public class SQLiteSqlStatementBuilder extends SqlStatementBuilder {
+    /**
+     * Regex for CREATE TRIGGER statements.
+     */
+    private static final Pattern CREATE_TRIGGER_REGEX = Pattern.compile("CREATE( TEMP| TEMPORARY)? TRIGGER.*");
+
     /**
      * Holds the beginning of the statement.
      */
     private String statementStart = "";
 
+    /**
+     * Whether the statement start indicates a CREATE TRIGGER statement.
+     */
+    private boolean createTriggerStatement;
+
     SQLiteSqlStatementBuilder(Delimiter defaultDelimiter) {
         super(defaultDelimiter);
     }
@@ -35,25 +47,16 @@ public class SQLiteSqlStatementBuilder extends SqlStatementBuilder {
     @Override
     protected Delimiter changeDelimiterIfNecessary(String line, Delimiter delimiter) {
         if (StringUtils.countOccurrencesOf(statementStart, " ") < 8) {
-            statementStart += line;
-            statementStart += " ";
-            statementStart = statementStart.replaceAll("\\s+", " ");
+            String simplifiedLine = simplifyLine(line);
+            if (!simplifiedLine.isEmpty()) {
+                statementStart += simplifiedLine + " ";
+                createTriggerStatement = CREATE_TRIGGER_REGEX.matcher(statementStart).matches();
+            }
         }
-        boolean createTriggerStatement = statementStart.matches("CREATE( TEMP| TEMPORARY)? TRIGGER.*");
 
-        if (createTriggerStatement && !line.endsWith("END;")) {
+        if (createTriggerStatement && !simplifyLine(line).endsWith("END;")) {
             return null;
         }
         return defaultDelimiter;
     }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("X'")) {
-            // blob literal
-            return token.substring(token.indexOf("'"));
-        }
-        return token;
-    }
-
 }
\ No newline at end of file
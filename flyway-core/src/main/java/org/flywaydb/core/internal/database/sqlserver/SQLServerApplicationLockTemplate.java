@@ -18,6 +18,7 @@ package org.flywaydb.core.internal.database.sqlserver;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.database.LockStatistics;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.util.jdbc.JdbcTemplate;
 
@@ -30,8 +31,19 @@ import java.util.concurrent.Callable;
 public class SQLServerApplicationLockTemplate {
     private static final Log LOG = LogFactory.getLog(SQLServerApplicationLockTemplate.class);
 
+    /**
+     * How long a single blocking attempt to acquire the lock may wait before it is retried.
+     */
+    private static final int LOCK_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * The status sp_getapplock returns when the lock could not be granted within the timeout.
+     */
+    private static final int LOCK_TIMED_OUT = -1;
+
     private final SQLServerConnection connection;
     private final JdbcTemplate jdbcTemplate;
+    private final LockStatistics lockStatistics;
     private final String databaseName;
     private final String lockName;
 
@@ -39,11 +51,14 @@ public class SQLServerApplicationLockTemplate {
      * Creates a new application lock template for this connection.
      *  @param connection The connection reference.
      * @param jdbcTemplate  The jdbcTemplate for the connection.
+     * @param lockStatistics The statistics to record the lock acquisitions in.
      * @param discriminator A number to discriminate between locks.
      */
-    SQLServerApplicationLockTemplate(SQLServerConnection connection, JdbcTemplate jdbcTemplate, String databaseName, int discriminator) {
+    SQLServerApplicationLockTemplate(SQLServerConnection connection, JdbcTemplate jdbcTemplate, LockStatistics lockStatistics,
+                                     String databaseName, int discriminator) {
         this.connection = connection;
         this.jdbcTemplate = jdbcTemplate;
+        this.lockStatistics = lockStatistics;
         this.databaseName = databaseName;
         lockName = "Flyway-" + discriminator;
     }
@@ -57,8 +72,7 @@ public class SQLServerApplicationLockTemplate {
     public <T> T execute(Callable<T> callable) {
         try {
             connection.setCurrentDatabase(databaseName);
-            jdbcTemplate.execute("EXEC sp_getapplock @Resource = ?, @LockTimeout='3600000'," +
-                    " @LockMode = 'Exclusive', @LockOwner = 'Session'", lockName);
+            lock();
             return callable.call();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to acquire SQL Server application lock", e);
@@ -79,4 +93,37 @@ public class SQLServerApplicationLockTemplate {
             }
         }
     }
+
+    /**
+     * Acquires the lock. Each attempt blocks on the server until the lock is granted or the attempt times out, so there
+     * is no need to pause between attempts.
+     */
+    private void lock() throws SQLException {
+        long start = System.currentTimeMillis();
+        int attempts = 1;
+        while (!tryLock()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new FlywayException("Interrupted while attempting to acquire SQL Server application lock");
+            }
+            LOG.debug("Still waiting for SQL Server application lock " + lockName + " after " + attempts + " attempt(s)");
+            attempts++;
+        }
+        long waitTimeMillis = System.currentTimeMillis() - start;
+        lockStatistics.record(attempts, waitTimeMillis);
+        LOG.debug("Acquired SQL Server application lock " + lockName + " after " + attempts + " attempt(s) in " + waitTimeMillis + " ms");
+    }
+
+    private boolean tryLock() throws SQLException {
+        int status = jdbcTemplate.queryForInt("DECLARE @status INT;\n" +
+                "EXEC @status = sp_getapplock @Resource = ?, @LockTimeout = '" + LOCK_TIMEOUT_MILLIS + "'," +
+                " @LockMode = 'Exclusive', @LockOwner = 'Session';\n" +
+                "SELECT @status;", lockName);
+        if (status == LOCK_TIMED_OUT) {
+            return false;
+        }
+        if (status < 0) {
+            throw new FlywayException("Unable to acquire SQL Server application lock " + lockName + " (status " + status + ")");
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -96,8 +96,14 @@ public class SQLServerConnection extends Connection<SQLServerDatabase> {
         return new SQLServerSchema(jdbcTemplate, database, originalDatabaseName, name);
     }
 
+    @Override
+    public boolean isLockHeldAcrossCommits() {
+        // The application lock is held by the session
+        return true;
+    }
+
     @Override
     public <T> T lock(Table table, Callable<T> callable) {
-        return new SQLServerApplicationLockTemplate(this, jdbcTemplate, originalDatabaseName, table.toString().hashCode()).execute(callable);
+        return new SQLServerApplicationLockTemplate(this, jdbcTemplate, lockStatistics, originalDatabaseName, table.toString().hashCode()).execute(callable);
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package org.flywaydb.core.internal.database.sqlserver;
 
 import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.database.Table;
+import org.flywaydb.core.internal.util.jdbc.ContextImpl;
 import org.flywaydb.core.internal.util.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.util.jdbc.RowMapper;
 
@@ -29,6 +30,11 @@ import java.util.List;
  * SQLServer implementation of Schema.
  */
 public class SQLServerSchema extends Schema<SQLServerDatabase> {
+    /**
+     * The maximum number of statements to send to the server in a single T-SQL batch when cleaning.
+     */
+    private static final int MAX_STATEMENTS_PER_BATCH = 500;
+
     private final String databaseName;
 
     /**
@@ -190,76 +196,43 @@ public class SQLServerSchema extends Schema<SQLServerDatabase> {
 
     @Override
     protected void doClean() throws SQLException {
-        List<DBObject> tables = queryDBObjects(ObjectType.USER_TABLE);
-
-        for (String statement : cleanTriggers()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanForeignKeys(tables)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanDefaultConstraints(tables)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanObjects("PROCEDURE",
+        executeInBatches(cleanTriggers());
+        executeInBatches(cleanConstraints());
+        executeInBatches(cleanObjects("PROCEDURE",
                 ObjectType.STORED_PROCEDURE,
-                ObjectType.CLR_STORED_PROCEDURE)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanObjects("VIEW", ObjectType.VIEW)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (Table table : allTables()) {
-            table.drop();
-        }
-
-        for (String statement : cleanObjects("FUNCTION",
+                ObjectType.CLR_STORED_PROCEDURE));
+        executeInBatches(cleanObjects("VIEW", ObjectType.VIEW));
+        executeInBatches(cleanObjects("TABLE", ObjectType.USER_TABLE));
+        executeInBatches(cleanObjects("FUNCTION",
                 ObjectType.SCALAR_FUNCTION,
                 ObjectType.CLR_SCALAR_FUNCTION,
                 ObjectType.CLR_TABLE_VALUED_FUNCTION,
                 ObjectType.TABLE_VALUED_FUNCTION,
-                ObjectType.INLINED_TABLE_FUNCTION)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanObjects("AGGREGATE", ObjectType.AGGREGATE)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanTypes()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanAssemblies()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanObjects("SYNONYM", ObjectType.SYNONYM)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanObjects("RULE", ObjectType.RULE)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (String statement : cleanObjects("DEFAULT", ObjectType.DEFAULT_CONSTRAINT)) {
-            jdbcTemplate.execute(statement);
-        }
-
-
-
+                ObjectType.INLINED_TABLE_FUNCTION));
+        executeInBatches(cleanObjects("AGGREGATE", ObjectType.AGGREGATE));
+        executeInBatches(cleanTypes());
+        executeInBatches(cleanAssemblies());
+        executeInBatches(cleanObjects("SYNONYM", ObjectType.SYNONYM));
+        executeInBatches(cleanObjects("RULE", ObjectType.RULE));
+        executeInBatches(cleanObjects("DEFAULT", ObjectType.DEFAULT_CONSTRAINT));
+        executeInBatches(cleanObjects("SEQUENCE", ObjectType.SEQUENCE_OBJECT));
+    }
 
-            for (String statement : cleanObjects("SEQUENCE", ObjectType.SEQUENCE_OBJECT)) {
-                jdbcTemplate.execute(statement);
+    /**
+     * Executes these statements as a few multi-statement T-SQL batches instead of one round trip each.
+     *
+     * @param statements The statements to execute.
+     * @throws SQLException when a statement failed.
+     */
+    private void executeInBatches(List<String> statements) throws SQLException {
+        for (int i = 0; i < statements.size(); i += MAX_STATEMENTS_PER_BATCH) {
+            StringBuilder batch = new StringBuilder();
+            for (String statement : statements.subList(i, Math.min(i + MAX_STATEMENTS_PER_BATCH, statements.size()))) {
+                batch.append(statement).append(";\n");
             }
-
-
-
+            // All results are consumed, so errors of statements further down the batch are reported as well
+            jdbcTemplate.executeStatement(new ContextImpl(), batch.toString());
+        }
     }
 
     /**
@@ -328,42 +301,35 @@ public class SQLServerSchema extends Schema<SQLServerDatabase> {
     }
 
     /**
-     * Cleans the foreign keys in this schema.
+     * Cleans the foreign keys, check constraints and default constraints of all tables in this schema. They are all
+     * retrieved with a single query, with the default constraints last.
      *
-     * @param tables the tables to be cleaned
      * @return The drop statements.
      * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> cleanForeignKeys(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            List<DBObject> fks = queryDBObjectsWithParent(table, ObjectType.FOREIGN_KEY,
-                    ObjectType.CHECK_CONSTRAINT);
-            for (DBObject fk : fks) {
-                statements.add("ALTER TABLE " + database.quote(name, table.name) + " DROP CONSTRAINT " +
-                        database.quote(fk.name));
-            }
-        }
-        return statements;
-    }
-
-    /**
-     * Cleans the default constraints in this schema.
-     *
-     * @param tables the tables to be cleaned
-     * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
-     */
-    private List<String> cleanDefaultConstraints(List<DBObject> tables) throws SQLException {
-        List<String> statements = new ArrayList<>();
-        for (DBObject table : tables) {
-            List<DBObject> dfs = queryDBObjectsWithParent(table, ObjectType.DEFAULT_CONSTRAINT);
-            for (DBObject df : dfs) {
-                statements.add("ALTER TABLE " + database.quote(name, table.name) + " DROP CONSTRAINT " + database.quote(df.name));
+    private List<String> cleanConstraints() throws SQLException {
+        return jdbcTemplate.query("SELECT tab.name AS table_name, obj.name AS constraint_name FROM sys.objects AS obj " +
+                "INNER JOIN sys.objects AS tab ON obj.parent_object_id = tab.object_id " +
+                // Objects generated by MS database tools, as excluded by queryDBObjects
+                "LEFT JOIN sys.extended_properties AS eps " +
+                "ON obj.object_id = eps.major_id AND eps.class = 1 AND eps.minor_id = 0 " +
+                "AND eps.name='microsoft_database_tools_support' " +
+                "LEFT JOIN sys.extended_properties AS teps " +
+                "ON tab.object_id = teps.major_id AND teps.class = 1 AND teps.minor_id = 0 " +
+                "AND teps.name='microsoft_database_tools_support' " +
+                "WHERE SCHEMA_NAME(tab.schema_id) = '" + name + "' " +
+                "AND tab.type = '" + ObjectType.USER_TABLE.code + "' AND tab.is_ms_shipped = 0 " +
+                "AND obj.type IN ('" + ObjectType.FOREIGN_KEY.code + "', '" + ObjectType.CHECK_CONSTRAINT.code
+                + "', '" + ObjectType.DEFAULT_CONSTRAINT.code + "') AND obj.is_ms_shipped = 0 " +
+                "AND eps.major_id IS NULL AND teps.major_id IS NULL " +
+                "ORDER BY CASE obj.type WHEN '" + ObjectType.DEFAULT_CONSTRAINT.code + "' THEN 1 ELSE 0 END, " +
+                "obj.create_date DESC", new RowMapper<String>() {
+            @Override
+            public String mapRow(ResultSet rs) throws SQLException {
+                return "ALTER TABLE " + database.quote(name, rs.getString("table_name")) + " DROP CONSTRAINT "
+                        + database.quote(rs.getString("constraint_name"));
             }
-
-        }
-        return statements;
+        });
     }
 
     /**
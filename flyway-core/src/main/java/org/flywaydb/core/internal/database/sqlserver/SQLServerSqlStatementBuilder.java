@@ -19,7 +19,6 @@ import org.flywaydb.core.internal.database.Delimiter;
 import org.flywaydb.core.internal.database.SqlStatementBuilder;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -27,9 +26,9 @@ import java.util.regex.Pattern;
  */
 public class SQLServerSqlStatementBuilder extends SqlStatementBuilder {
     /**
-     * Regex for keywords that can appear before a string literal without being separated by a space.
+     * Regex for statements that can only be executed outside a transaction.
      */
-    private static final Pattern KEYWORDS_BEFORE_STRING_LITERAL_REGEX = Pattern.compile("^(LIKE)('.*)");
+    private static final Pattern NON_TRANSACTIONAL_STATEMENT_REGEX = Pattern.compile("^(BACKUP|RESTORE|ALTER DATABASE) .*");
 
     /**
      * Holds the beginning of the statement.
@@ -49,27 +48,13 @@ public class SQLServerSqlStatementBuilder extends SqlStatementBuilder {
         }
 
         if (StringUtils.countOccurrencesOf(statementStart, " ") < 3) {
-            statementStart += line;
-            statementStart += " ";
-            statementStart = statementStart.replaceAll("\\s+", " ");
+            String simplifiedLine = simplifyLine(line);
+            if (!simplifiedLine.isEmpty()) {
+                statementStart += simplifiedLine + " ";
+                if (NON_TRANSACTIONAL_STATEMENT_REGEX.matcher(statementStart).matches()) {
+                    executeInTransaction = false;
+                }
+            }
         }
-
-        if (statementStart.matches("^(BACKUP|RESTORE|ALTER DATABASE) .*")) {
-            executeInTransaction = false;
-        }
-    }
-
-    @Override
-    protected String cleanToken(String token) {
-        if (token.startsWith("N'")) {
-            return token.substring(token.indexOf("'"));
-        }
-
-        Matcher beforeMatcher = KEYWORDS_BEFORE_STRING_LITERAL_REGEX.matcher(token);
-        if (beforeMatcher.find()) {
-            token = beforeMatcher.group(2);
-        }
-
-        return token;
     }
 }
\ No newline at end of file
@@ -76,6 +76,11 @@ public class MigrationInfoContext {
 
     public Map<String, Integer> latestRepeatableRuns = new HashMap<>();
 
+    /**
+     * Incremented each time this context changes, invalidating the states memoised by the migration infos.
+     */
+    int generation;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -51,6 +51,17 @@ public class MigrationInfoImpl implements MigrationInfo {
      */
     private final boolean outOfOrder;
 
+    /**
+     * The state of this migration, memoised for the generation of the context it was calculated in. {@code null} if
+     * not calculated yet.
+     */
+    private MigrationState state;
+
+    /**
+     * The generation of the context the memoised state was calculated in.
+     */
+    private int stateGeneration;
+
 
 
 
@@ -134,6 +145,19 @@ public class MigrationInfoImpl implements MigrationInfo {
     }
 
     public MigrationState getState() {
+        if (state == null || stateGeneration != context.generation) {
+            state = calculateState();
+            stateGeneration = context.generation;
+        }
+        return state;
+    }
+
+    /**
+     * Calculates the state of this migration within the current context.
+     *
+     * @return The state.
+     */
+    private MigrationState calculateState() {
         if (appliedMigration == null) {
             if (resolvedMigration.getVersion() != null) {
                 if (resolvedMigration.getVersion().compareTo(context.baseline) < 0) {
@@ -29,13 +29,14 @@ import org.flywaydb.core.internal.util.ObjectUtils;
 import org.flywaydb.core.internal.util.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * Default implementation of MigrationInfoService.
@@ -85,10 +86,76 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
     private final boolean future;
 
     /**
-     * The migrations infos calculated at the last refresh.
+     * The migrations infos calculated at the last refresh, sorted. {@code null} if they must be sorted again.
      */
     private List<MigrationInfoImpl> migrationInfos;
 
+    /**
+     * The context shared by all migration infos. {@code null} if no refresh has taken place yet.
+     */
+    private MigrationInfoContext context;
+
+    /**
+     * The resolved versioned migrations.
+     */
+    private Map<Pair<MigrationVersion, Boolean>, ResolvedMigration> resolvedVersioned;
+
+    /**
+     * The resolved repeatable migrations, by description.
+     */
+    private Map<String, ResolvedMigration> resolvedRepeatable;
+
+    /**
+     * The infos of the resolved migrations that haven't been applied yet, sorted.
+     */
+    private TreeSet<MigrationInfoImpl> unappliedInfos;
+
+    /**
+     * The infos of the resolved migrations that haven't been applied yet, by resolved migration.
+     */
+    private Map<ResolvedMigration, MigrationInfoImpl> unappliedInfosByResolved;
+
+    /**
+     * The infos of the applied migrations, in the order they were applied.
+     */
+    private List<MigrationInfoImpl> appliedInfos;
+
+    /**
+     * The infos of the applied migrations that failed, in the order they were applied.
+     */
+    private List<MigrationInfoImpl> failedInfos;
+
+    /**
+     * The infos of the applied migrations that are newer than any resolved one, in the order they were applied.
+     */
+    private List<MigrationInfoImpl> futureInfos;
+
+    /**
+     * The info of the applied versioned migration with the highest version. {@code null} if none.
+     */
+    private MigrationInfoImpl currentVersionedInfo;
+
+    /**
+     * The infos of the pending migrations, in the order they would be applied. {@code null} if they must be collected
+     * again.
+     */
+    private MigrationInfoImpl[] pendingInfos;
+
+    /**
+     * The infos of the resolved migrations, sorted. {@code null} if they must be collected again.
+     */
+    private MigrationInfoImpl[] resolvedInfos;
+
+    /**
+     * The infos of the migrations applied out of order, sorted. {@code null} if they must be collected again.
+     */
+    private MigrationInfoImpl[] outOfOrderInfos;
+
+    /**
+     * The highest installed rank seen so far. {@code -1} if none.
+     */
+    private int lastInstalledRank;
+
     /**
      * Creates a new MigrationInfoServiceImpl.
      *
@@ -119,9 +186,8 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      */
     public void refresh() {
         Collection<ResolvedMigration> resolvedMigrations = migrationResolver.resolveMigrations();
-        List<AppliedMigration> appliedMigrations = schemaHistory.allAppliedMigrations();
 
-        MigrationInfoContext context = new MigrationInfoContext();
+        context = new MigrationInfoContext();
         context.outOfOrder = outOfOrder;
         context.pending = pending;
         context.missing = missing;
@@ -129,9 +195,15 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
         context.future = future;
         context.target = target;
 
-        Map<Pair<MigrationVersion, Boolean>, ResolvedMigration> resolvedVersioned =
-                new TreeMap<>();
-        Map<String, ResolvedMigration> resolvedRepeatable = new TreeMap<>();
+        resolvedVersioned = new TreeMap<>();
+        resolvedRepeatable = new TreeMap<>();
+        unappliedInfos = new TreeSet<>();
+        unappliedInfosByResolved = new HashMap<>();
+        appliedInfos = new ArrayList<>();
+        failedInfos = new ArrayList<>();
+        futureInfos = new ArrayList<>();
+        currentVersionedInfo = null;
+        lastInstalledRank = -1;
 
         for (ResolvedMigration resolvedMigration : resolvedMigrations) {
             MigrationVersion version = resolvedMigration.getVersion();
@@ -150,124 +222,183 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
             }
         }
 
-        List<Pair<AppliedMigration, AppliedMigrationAttributes>> appliedVersioned = new ArrayList<>();
-        List<AppliedMigration> appliedRepeatable = new ArrayList<>();
-        for (AppliedMigration appliedMigration : appliedMigrations) {
-            MigrationVersion version = appliedMigration.getVersion();
-            if (version == null) {
-                appliedRepeatable.add(appliedMigration);
-                continue;
-            }
-            if (appliedMigration.getType() == MigrationType.SCHEMA) {
-                context.schema = version;
-            }
-            if (appliedMigration.getType() == MigrationType.BASELINE) {
-                context.baseline = version;
-            }
-
-
-
-
-
-            appliedVersioned.add(Pair.of(appliedMigration, new AppliedMigrationAttributes()));
+        for (ResolvedMigration resolvedMigration : resolvedVersioned.values()) {
+            addUnappliedInfo(resolvedMigration);
+        }
+        for (ResolvedMigration resolvedMigration : resolvedRepeatable.values()) {
+            addUnappliedInfo(resolvedMigration);
         }
 
-        for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedVersioned) {
-            MigrationVersion version = av.getLeft().getVersion();
-            if (version != null) {
-                if (version.compareTo(context.lastApplied) > 0) {
-
-
-
-                        context.lastApplied = version;
-
+        addAppliedMigrations(schemaHistory.allAppliedMigrations());
+    }
 
+    /**
+     * Incrementally updates the info with the migrations that have been applied since the last refresh. Only the rows
+     * of the schema history table above the last known installed rank are queried and the cost of this update is
+     * proportional to their number instead of the total number of migrations. Performs a full refresh instead if none
+     * has taken place yet.
+     */
+    public void refreshApplied() {
+        if (context == null) {
+            refresh();
+            return;
+        }
+        addAppliedMigrations(schemaHistory.appliedMigrationsAfter(lastInstalledRank));
+    }
 
-                } else {
-                    av.getRight().outOfOrder = true;
-                }
+    /**
+     * Adds these applied migrations to the info.
+     *
+     * @param appliedMigrations The applied migrations, in the order they were applied.
+     */
+    private void addAppliedMigrations(List<AppliedMigration> appliedMigrations) {
+        for (AppliedMigration appliedMigration : appliedMigrations) {
+            if (appliedMigration.getInstalledRank() > lastInstalledRank) {
+                lastInstalledRank = appliedMigration.getInstalledRank();
             }
+            addAppliedInfo(appliedMigration.getVersion() == null
+                    ? createAppliedRepeatableInfo(appliedMigration)
+                    : createAppliedVersionedInfo(appliedMigration));
         }
 
         if (MigrationVersion.CURRENT == target) {
             context.target = context.lastApplied;
         }
 
-        Set<Pair<MigrationVersion, Boolean>> allVersions = new HashSet<>(resolvedVersioned.keySet());
-        for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedVersioned) {
-
+        // The states depend on the context, so they and everything derived from them must be calculated again
+        context.generation++;
+        migrationInfos = null;
+        pendingInfos = null;
+        resolvedInfos = null;
+        outOfOrderInfos = null;
+    }
 
+    private MigrationInfoImpl createAppliedVersionedInfo(AppliedMigration appliedMigration) {
+        MigrationVersion version = appliedMigration.getVersion();
+        if (appliedMigration.getType() == MigrationType.SCHEMA) {
+            context.schema = version;
+        }
+        if (appliedMigration.getType() == MigrationType.BASELINE) {
+            context.baseline = version;
+        }
 
-                //noinspection RedundantConditionalExpression
-                allVersions.add(Pair.of(av.getLeft().getVersion(),
+        boolean appliedOutOfOrder = false;
+        if (version.compareTo(context.lastApplied) > 0) {
 
 
 
-                                false
-                ));
+            context.lastApplied = version;
 
 
 
+        } else {
+            appliedOutOfOrder = true;
         }
 
-        List<MigrationInfoImpl> migrationInfos1 = new ArrayList<>();
-        Set<ResolvedMigration> pendingResolvedVersioned = new HashSet<>(resolvedVersioned.values());
-        for (Pair<AppliedMigration, AppliedMigrationAttributes> av : appliedVersioned) {
-            ResolvedMigration resolvedMigration = resolvedVersioned.get(Pair.of(av.getLeft().getVersion(), av.getLeft().getType().isUndo()));
-            if (resolvedMigration != null
+        ResolvedMigration resolvedMigration = resolvedVersioned.get(Pair.of(version, appliedMigration.getType().isUndo()));
+        if (resolvedMigration != null
 
 
 
-                    && av.getLeft().isSuccess()) {
-                pendingResolvedVersioned.remove(resolvedMigration);
-            }
-            migrationInfos1.add(new MigrationInfoImpl(resolvedMigration, av.getLeft(), context, av.getRight().outOfOrder
+                && appliedMigration.isSuccess()) {
+            removeUnappliedInfo(resolvedMigration);
+        }
+        return new MigrationInfoImpl(resolvedMigration, appliedMigration, context, appliedOutOfOrder
 
 
 
-            ));
-        }
+        );
+    }
 
-        for (ResolvedMigration prv : pendingResolvedVersioned) {
-            migrationInfos1.add(new MigrationInfoImpl(prv, null, context, false
+    private MigrationInfoImpl createAppliedRepeatableInfo(AppliedMigration appliedMigration) {
+        // Migrations are added in the order they were applied, making this the latest run of this repeatable migration.
+        context.latestRepeatableRuns.put(appliedMigration.getDescription(), appliedMigration.getInstalledRank());
 
+        ResolvedMigration resolvedMigration = resolvedRepeatable.get(appliedMigration.getDescription());
+        if (resolvedMigration != null) {
+            if (ObjectUtils.nullSafeEquals(appliedMigration.getChecksum(), resolvedMigration.getChecksum())) {
+                removeUnappliedInfo(resolvedMigration);
+            } else if (!unappliedInfosByResolved.containsKey(resolvedMigration)) {
+                addUnappliedInfo(resolvedMigration);
+            }
+        }
+        return new MigrationInfoImpl(resolvedMigration, appliedMigration, context, false
 
 
-            ));
-        }
 
+        );
+    }
 
-        for (AppliedMigration appliedRepeatableMigration : appliedRepeatable) {
-            if (!context.latestRepeatableRuns.containsKey(appliedRepeatableMigration.getDescription())
-                    || (appliedRepeatableMigration.getInstalledRank() > context.latestRepeatableRuns.get(appliedRepeatableMigration.getDescription()))) {
-                context.latestRepeatableRuns.put(appliedRepeatableMigration.getDescription(), appliedRepeatableMigration.getInstalledRank());
-            }
+    private void addAppliedInfo(MigrationInfoImpl migrationInfo) {
+        appliedInfos.add(migrationInfo);
+
+        // The state of applied migrations that failed or are newer than any resolved one never changes afterwards
+        MigrationState state = migrationInfo.getState();
+        if (state.isFailed()) {
+            failedInfos.add(migrationInfo);
+        }
+        if (state == MigrationState.FUTURE_SUCCESS || state == MigrationState.FUTURE_FAILED) {
+            futureInfos.add(migrationInfo);
         }
 
-        Set<ResolvedMigration> pendingResolvedRepeatable = new HashSet<>(resolvedRepeatable.values());
-        for (AppliedMigration appliedRepeatableMigration : appliedRepeatable) {
-            ResolvedMigration resolvedMigration = resolvedRepeatable.get(appliedRepeatableMigration.getDescription());
-            int latestRank = context.latestRepeatableRuns.get(appliedRepeatableMigration.getDescription());
-            if (resolvedMigration != null && appliedRepeatableMigration.getInstalledRank() == latestRank && ObjectUtils.nullSafeEquals(appliedRepeatableMigration.getChecksum(), resolvedMigration.getChecksum())) {
-                pendingResolvedRepeatable.remove(resolvedMigration);
-            }
-            migrationInfos1.add(new MigrationInfoImpl(resolvedMigration, appliedRepeatableMigration, context, false
+        if (migrationInfo.getVersion() != null
+                && (currentVersionedInfo == null || migrationInfo.getVersion().compareTo(currentVersionedInfo.getVersion()) > 0)) {
+            currentVersionedInfo = migrationInfo;
+        }
+    }
 
+    private void addUnappliedInfo(ResolvedMigration resolvedMigration) {
+        MigrationInfoImpl migrationInfo = new MigrationInfoImpl(resolvedMigration, null, context, false
 
 
-            ));
-        }
 
-        for (ResolvedMigration prr : pendingResolvedRepeatable) {
-            migrationInfos1.add(new MigrationInfoImpl(prr, null, context, false
+        );
+        unappliedInfos.add(migrationInfo);
+        unappliedInfosByResolved.put(resolvedMigration, migrationInfo);
+    }
 
+    private void removeUnappliedInfo(ResolvedMigration resolvedMigration) {
+        MigrationInfoImpl migrationInfo = unappliedInfosByResolved.remove(resolvedMigration);
+        if (migrationInfo != null) {
+            unappliedInfos.remove(migrationInfo);
+        }
+    }
 
+    /**
+     * @return The infos of all migrations, sorted.
+     */
+    private List<MigrationInfoImpl> getMigrationInfos() {
+        if (migrationInfos == null) {
+            List<MigrationInfoImpl> sortedInfos = new ArrayList<>(appliedInfos.size() + unappliedInfos.size());
+            sortedInfos.addAll(appliedInfos);
+            sortedInfos.addAll(unappliedInfos);
+            Collections.sort(sortedInfos);
+            migrationInfos = sortedInfos;
+        }
+        return migrationInfos;
+    }
 
-            ));
+    /**
+     * Collects the infos of the resolved and out of order migrations in a single pass over all infos.
+     */
+    private void categorize() {
+        if (resolvedInfos != null) {
+            return;
         }
 
-        Collections.sort(migrationInfos1);
-        migrationInfos = migrationInfos1;
+        List<MigrationInfoImpl> resolvedMigrations = new ArrayList<>();
+        List<MigrationInfoImpl> outOfOrderMigrations = new ArrayList<>();
+        for (MigrationInfoImpl migrationInfo : getMigrationInfos()) {
+            MigrationState state = migrationInfo.getState();
+            if (state.isResolved()) {
+                resolvedMigrations.add(migrationInfo);
+            }
+            if (state == MigrationState.OUT_OF_ORDER) {
+                outOfOrderMigrations.add(migrationInfo);
+            }
+        }
+        resolvedInfos = resolvedMigrations.toArray(new MigrationInfoImpl[resolvedMigrations.size()]);
+        outOfOrderInfos = outOfOrderMigrations.toArray(new MigrationInfoImpl[outOfOrderMigrations.size()]);
     }
 
 
@@ -294,62 +425,55 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
 
     public MigrationInfo[] all() {
+        List<MigrationInfoImpl> migrationInfos = getMigrationInfos();
         return migrationInfos.toArray(new MigrationInfoImpl[migrationInfos.size()]);
     }
 
     public MigrationInfo current() {
-        MigrationInfo current = null;
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isApplied()
-
-
-
-
-                    && migrationInfo.getVersion() != null
-                    && (current == null || migrationInfo.getVersion().compareTo(current.getVersion()) > 0)) {
-                current = migrationInfo;
-            }
-        }
-        if (current != null) {
-            return current;
+        if (currentVersionedInfo != null) {
+            return currentVersionedInfo;
         }
 
         // If no versioned migration has been applied so far, fall back to the latest repeatable one
-        for (int i = migrationInfos.size() - 1; i >= 0; i--) {
-            MigrationInfoImpl migrationInfo = migrationInfos.get(i);
-            if (migrationInfo.getState().isApplied()
-
-
-
-
-                    ) {
-                return migrationInfo;
-            }
+        if (!appliedInfos.isEmpty()) {
+            return appliedInfos.get(appliedInfos.size() - 1);
         }
 
         return null;
     }
 
     public MigrationInfoImpl[] pending() {
+        return pending(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the infos of the first pending migrations, in the order they would be applied.
+     *
+     * @param limit The maximum number of pending migrations to retrieve.
+     * @return The pending migrations. An empty array if none.
+     */
+    public MigrationInfoImpl[] pending(int limit) {
+        if (pendingInfos != null) {
+            return Arrays.copyOf(pendingInfos, Math.min(limit, pendingInfos.length));
+        }
+
         List<MigrationInfoImpl> pendingMigrations = new ArrayList<>();
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
+        for (MigrationInfoImpl migrationInfo : unappliedInfos) {
+            if (pendingMigrations.size() >= limit) {
+                // Stop early, as only the first pending migrations are often needed before the next refresh
+                return pendingMigrations.toArray(new MigrationInfoImpl[pendingMigrations.size()]);
+            }
             if (MigrationState.PENDING == migrationInfo.getState()) {
                 pendingMigrations.add(migrationInfo);
             }
         }
 
-        return pendingMigrations.toArray(new MigrationInfoImpl[pendingMigrations.size()]);
+        pendingInfos = pendingMigrations.toArray(new MigrationInfoImpl[pendingMigrations.size()]);
+        return pendingInfos.clone();
     }
 
     public MigrationInfoImpl[] applied() {
-        List<MigrationInfoImpl> appliedMigrations = new ArrayList<>();
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isApplied()) {
-                appliedMigrations.add(migrationInfo);
-            }
-        }
-
-        return appliedMigrations.toArray(new MigrationInfoImpl[appliedMigrations.size()]);
+        return appliedInfos.toArray(new MigrationInfoImpl[appliedInfos.size()]);
     }
 
     /**
@@ -358,14 +482,8 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The resolved migrations. An empty array if none.
      */
     public MigrationInfo[] resolved() {
-        List<MigrationInfo> resolvedMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isResolved()) {
-                resolvedMigrations.add(migrationInfo);
-            }
-        }
-
-        return resolvedMigrations.toArray(new MigrationInfo[resolvedMigrations.size()]);
+        categorize();
+        return Arrays.copyOf(resolvedInfos, resolvedInfos.length, MigrationInfo[].class);
     }
 
     /**
@@ -374,14 +492,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The failed migrations. An empty array if none.
      */
     public MigrationInfo[] failed() {
-        List<MigrationInfo> failedMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isFailed()) {
-                failedMigrations.add(migrationInfo);
-            }
-        }
-
-        return failedMigrations.toArray(new MigrationInfo[failedMigrations.size()]);
+        return failedInfos.toArray(new MigrationInfo[failedInfos.size()]);
     }
 
     /**
@@ -390,15 +501,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The future migrations. An empty array if none.
      */
     public MigrationInfo[] future() {
-        List<MigrationInfo> futureMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if ((migrationInfo.getState() == MigrationState.FUTURE_SUCCESS)
-                    || (migrationInfo.getState() == MigrationState.FUTURE_FAILED)) {
-                futureMigrations.add(migrationInfo);
-            }
-        }
-
-        return futureMigrations.toArray(new MigrationInfo[futureMigrations.size()]);
+        return futureInfos.toArray(new MigrationInfo[futureInfos.size()]);
     }
 
     /**
@@ -407,14 +510,8 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The out of order migrations. An empty array if none.
      */
     public MigrationInfo[] outOfOrder() {
-        List<MigrationInfo> outOfOrderMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState() == MigrationState.OUT_OF_ORDER) {
-                outOfOrderMigrations.add(migrationInfo);
-            }
-        }
-
-        return outOfOrderMigrations.toArray(new MigrationInfo[outOfOrderMigrations.size()]);
+        categorize();
+        return Arrays.copyOf(outOfOrderInfos, outOfOrderInfos.length, MigrationInfo[].class);
     }
 
 
@@ -442,7 +539,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The error message, or {@code null} if everything is fine.
      */
     public String validate() {
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
+        for (MigrationInfoImpl migrationInfo : getMigrationInfos()) {
             String message = migrationInfo.validate();
             if (message != null) {
                 return message;
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.metrics;
+
+import org.flywaydb.core.api.metrics.MetricsCounter;
+import org.flywaydb.core.api.metrics.MetricsListener;
+import org.flywaydb.core.api.metrics.MetricsPhase;
+import org.flywaydb.core.api.metrics.PhaseBreakdownMetricsListener;
+
+import java.util.LinkedList;
+
+/**
+ * Records the metrics of a Flyway command and reports them to the listeners. Phases may be nested, in which case the
+ * time spent in the inner phase is subtracted from the phase around it. Not thread-safe, as a command is executed by a
+ * single thread.
+ */
+public class MetricsRecorder {
+    /**
+     * A recorder without listeners, which records nothing.
+     */
+    public static final MetricsRecorder NONE = new MetricsRecorder();
+
+    /**
+     * The listeners to report the metrics to.
+     */
+    private final MetricsListener[] listeners;
+
+    /**
+     * The phases currently in progress, innermost first.
+     */
+    private final LinkedList<Frame> frames = new LinkedList<>();
+
+    /**
+     * Creates a new recorder for a single command.
+     *
+     * @param listeners The listeners to report the metrics to.
+     */
+    public MetricsRecorder(MetricsListener... listeners) {
+        this.listeners = new MetricsListener[listeners.length];
+        for (int i = 0; i < listeners.length; i++) {
+            // Keep the breakdown of this command apart from those of the commands executed concurrently
+            this.listeners[i] = listeners[i] instanceof PhaseBreakdownMetricsListener
+                    ? ((PhaseBreakdownMetricsListener) listeners[i]).forCommand()
+                    : listeners[i];
+        }
+    }
+
+    /**
+     * @return {@code true} if there is any listener to report the metrics to, {@code false} if not.
+     */
+    public boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Starts timing this phase. Each call must be matched by a call to {@link #stopPhase(MetricsPhase)}.
+     *
+     * @param phase The phase.
+     */
+    public void startPhase(MetricsPhase phase) {
+        if (!isEnabled()) {
+            return;
+        }
+        frames.push(new Frame(phase, System.nanoTime()));
+    }
+
+    /**
+     * Stops timing this phase and reports the time spent in it, except for the time spent in the phases nested within.
+     *
+     * @param phase The phase, which must be the innermost one in progress.
+     */
+    public void stopPhase(MetricsPhase phase) {
+        if (!isEnabled()) {
+            return;
+        }
+        Frame frame = frames.pop();
+        if (frame.phase != phase) {
+            throw new IllegalStateException("Unable to stop phase " + phase + " while " + frame.phase + " is in progress");
+        }
+        long durationNanos = System.nanoTime() - frame.startNanos;
+        for (MetricsListener listener : listeners) {
+            listener.phaseTimed(phase, durationNanos - frame.nestedNanos);
+        }
+        addToEnclosingPhase(durationNanos);
+    }
+
+    /**
+     * Reports time that was spent in this phase and measured by other means. It is subtracted from the phase in
+     * progress.
+     *
+     * @param phase         The phase.
+     * @param durationNanos The time spent in the phase, in nanoseconds.
+     */
+    public void record(MetricsPhase phase, long durationNanos) {
+        if (!isEnabled() || durationNanos <= 0) {
+            return;
+        }
+        for (MetricsListener listener : listeners) {
+            listener.phaseTimed(phase, durationNanos);
+        }
+        addToEnclosingPhase(durationNanos);
+    }
+
+    private void addToEnclosingPhase(long durationNanos) {
+        if (!frames.isEmpty()) {
+            frames.peek().nestedNanos += durationNanos;
+        }
+    }
+
+    /**
+     * Counts these events.
+     *
+     * @param counter   The counter.
+     * @param increment The number of events.
+     */
+    public void count(MetricsCounter counter, long increment) {
+        if (!isEnabled() || increment == 0) {
+            return;
+        }
+        for (MetricsListener listener : listeners) {
+            listener.counterIncremented(counter, increment);
+        }
+    }
+
+    /**
+     * Reports the execution of a sql statement.
+     *
+     * @param resource      The location of the script the statement is part of.
+     * @param lineNumber    The line number of the statement within the script.
+     * @param durationNanos The time spent executing the statement, in nanoseconds.
+     */
+    public void statementExecuted(String resource, int lineNumber, long durationNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (MetricsListener listener : listeners) {
+            listener.statementExecuted(resource, lineNumber, durationNanos);
+        }
+        count(MetricsCounter.STATEMENTS_EXECUTED, 1);
+    }
+
+    /**
+     * Reports the completion of a command.
+     *
+     * @param command       The name of the command.
+     * @param durationNanos The total time spent executing the command, in nanoseconds.
+     */
+    public void commandCompleted(String command, long durationNanos) {
+        for (MetricsListener listener : listeners) {
+            listener.commandCompleted(command, durationNanos);
+        }
+    }
+
+    /**
+     * A phase in progress.
+     */
+    private static class Frame {
+        private final MetricsPhase phase;
+        private final long startNanos;
+
+        /**
+         * The time spent in the phases nested within this one so far, in nanoseconds.
+         */
+        private long nestedNanos;
+
+        Frame(MetricsPhase phase, long startNanos) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+        }
+    }
+}
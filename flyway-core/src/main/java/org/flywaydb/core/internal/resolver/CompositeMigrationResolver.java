@@ -17,9 +17,12 @@ package org.flywaydb.core.internal.resolver;
 
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.FlywayConfiguration;
+import org.flywaydb.core.api.metrics.MetricsCounter;
+import org.flywaydb.core.api.metrics.MetricsPhase;
 import org.flywaydb.core.api.resolver.MigrationResolver;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.database.Database;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.resolver.jdbc.JdbcMigrationResolver;
 import org.flywaydb.core.internal.resolver.spring.SpringJdbcMigrationResolver;
 import org.flywaydb.core.internal.resolver.sql.SqlMigrationResolver;
@@ -52,6 +55,16 @@ public class CompositeMigrationResolver implements MigrationResolver {
      */
     private List<ResolvedMigration> availableMigrations;
 
+    /**
+     * The fingerprint of the available migrations, calculated without resolving them.
+     */
+    private final MigrationFingerprint migrationFingerprint;
+
+    /**
+     * The recorder to report the time spent resolving the migrations to.
+     */
+    private final MetricsRecorder metricsRecorder;
+
     /**
      * Creates a new CompositeMigrationResolver.
      *
@@ -76,6 +89,17 @@ public class CompositeMigrationResolver implements MigrationResolver {
         }
 
         migrationResolvers.addAll(Arrays.asList(customMigrationResolvers));
+        migrationFingerprint = new MigrationFingerprint(scanner, configuration, locations);
+        metricsRecorder = database.getMetricsRecorder();
+    }
+
+    /**
+     * Calculates a fingerprint of the available migrations without resolving them.
+     *
+     * @return The fingerprint or {@code null} if the migrations can't be fingerprinted without resolving them.
+     */
+    public String calculateFingerprint() {
+        return migrationFingerprint.calculate();
     }
 
     /**
@@ -87,7 +111,13 @@ public class CompositeMigrationResolver implements MigrationResolver {
      */
     public List<ResolvedMigration> resolveMigrations() {
         if (availableMigrations == null) {
-            availableMigrations = doFindAvailableMigrations();
+            metricsRecorder.startPhase(MetricsPhase.RESOLVE);
+            try {
+                availableMigrations = doFindAvailableMigrations();
+                metricsRecorder.count(MetricsCounter.MIGRATIONS_RESOLVED, availableMigrations.size());
+            } finally {
+                metricsRecorder.stopPhase(MetricsPhase.RESOLVE);
+            }
         }
 
         return availableMigrations;
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.FlywayConfiguration;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.util.FeatureDetector;
+import org.flywaydb.core.internal.util.Location;
+import org.flywaydb.core.internal.util.Locations;
+import org.flywaydb.core.internal.util.StringUtils;
+import org.flywaydb.core.internal.util.VersionPrinter;
+import org.flywaydb.core.internal.util.scanner.LoadableResource;
+import org.flywaydb.core.internal.util.scanner.MigrationIndex;
+import org.flywaydb.core.internal.util.scanner.Scanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.jar.JarEntry;
+
+/**
+ * Fingerprint of the available migrations. It is calculated from the names, sizes and modification times of the
+ * migration resources and classes, or from their indexed checksums, instead of from their contents. This makes it
+ * cheap enough to be compared against the one recorded in the schema history table before resolving any migration.
+ */
+public class MigrationFingerprint {
+    private static final Log LOG = LogFactory.getLog(MigrationFingerprint.class);
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /**
+     * The Scanner for the migration resources and classes.
+     */
+    private final Scanner scanner;
+
+    /**
+     * The Flyway configuration.
+     */
+    private final FlywayConfiguration configuration;
+
+    /**
+     * The locations where migrations are located.
+     */
+    private final Locations locations;
+
+    /**
+     * Creates a new fingerprint calculator.
+     *
+     * @param scanner       The Scanner for the migration resources and classes.
+     * @param configuration The Flyway configuration.
+     * @param locations     The locations where migrations are located.
+     */
+    public MigrationFingerprint(Scanner scanner, FlywayConfiguration configuration, Locations locations) {
+        this.scanner = scanner;
+        this.configuration = configuration;
+        this.locations = locations;
+    }
+
+    /**
+     * Calculates the fingerprint of the available migrations.
+     *
+     * @return The fingerprint or {@code null} if the migrations can't be fingerprinted without resolving them, as is
+     * the case with custom migration resolvers or resources that aren't plain files or jar entries.
+     */
+    public String calculate() {
+        if (configuration.getResolvers().length > 0) {
+            LOG.debug("Unable to fingerprint migrations of custom resolvers");
+            return null;
+        }
+        if (new FeatureDetector(scanner.getClassLoader()).isAndroidAvailable()) {
+            LOG.debug("Unable to fingerprint migrations on Android");
+            return null;
+        }
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported by this JVM", e);
+        }
+
+        // Everything that affects how the migrations are resolved and whether they are pending
+        update(messageDigest, VersionPrinter.getVersion());
+        update(messageDigest, configuration.getEncoding());
+        update(messageDigest, configuration.getSqlMigrationPrefix());
+        update(messageDigest, configuration.getRepeatableSqlMigrationPrefix());
+        update(messageDigest, configuration.getSqlMigrationSeparator());
+        update(messageDigest, StringUtils.arrayToCommaDelimitedString(configuration.getSqlMigrationSuffixes()));
+        update(messageDigest, String.valueOf(configuration.getTarget()));
+        update(messageDigest, String.valueOf(configuration.getBaselineVersion()));
+        update(messageDigest, configuration.getTable());
+        update(messageDigest, StringUtils.arrayToCommaDelimitedString(configuration.getSchemas()));
+        update(messageDigest, configuration.isOutOfOrder() + "," + configuration.isValidateOnMigrate()
+                + "," + configuration.isIgnoreMissingMigrations() + "," + configuration.isIgnoreIgnoredMigrations()
+                + "," + configuration.isIgnoreFutureMigrations() + "," + configuration.isSkipDefaultResolvers());
+
+        for (Location location : locations.getLocations()) {
+            update(messageDigest, location.getDescriptor());
+            if (!updateLocation(messageDigest, location)) {
+                return null;
+            }
+        }
+
+        StringBuilder fingerprint = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            fingerprint.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Adds the migration resources and classes of this location to the fingerprint.
+     *
+     * @return {@code true} if they could be fingerprinted, {@code false} if not.
+     */
+    private boolean updateLocation(MessageDigest messageDigest, Location location) {
+        String[] suffixes = configuration.getSqlMigrationSuffixes();
+
+        if (location.isFileSystem()) {
+            for (LoadableResource resource : scanner.scanForResources(location, "", suffixes)) {
+                File file = new File(resource.getLocationOnDisk());
+                update(messageDigest, resource.getLocation() + ":" + file.length() + ":" + file.lastModified());
+            }
+            return true;
+        }
+
+        MigrationIndex migrationIndex = scanner.getMigrationIndex(location);
+        if (migrationIndex != null) {
+            for (MigrationIndex.Entry entry : migrationIndex.getEntries()) {
+                update(messageDigest, entry.getName() + ":" + entry.getVersion() + ":" + entry.getChecksum());
+            }
+        } else if (!updateClassPathResources(messageDigest, scanner.scanForResources(location, "", suffixes))) {
+            return false;
+        }
+
+        // Java migrations are never indexed
+        return updateClassPathResources(messageDigest, scanner.scanForClassFiles(location));
+    }
+
+    /**
+     * Adds these classpath resources to the fingerprint.
+     *
+     * @return {@code true} if they could be fingerprinted, {@code false} if not.
+     */
+    private boolean updateClassPathResources(MessageDigest messageDigest, LoadableResource[] resources) {
+        for (LoadableResource resource : resources) {
+            String stamp = getStamp(resource.getLocation());
+            if (stamp == null) {
+                LOG.debug("Unable to fingerprint classpath resource: " + resource.getLocation());
+                return false;
+            }
+            update(messageDigest, resource.getLocation() + ":" + stamp);
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the size and modification time of this classpath resource without reading it.
+     *
+     * @param name The name of the classpath resource.
+     * @return The stamp or {@code null} if the resource is neither a plain file nor a jar entry.
+     */
+    private String getStamp(String name) {
+        URL url = scanner.getClassLoader().getResource(name);
+        if (url == null) {
+            return null;
+        }
+
+        try {
+            if ("file".equals(url.getProtocol())) {
+                File file = new File(url.toURI());
+                return file.length() + ":" + file.lastModified();
+            }
+            if ("jar".equals(url.getProtocol())) {
+                JarEntry jarEntry = ((JarURLConnection) url.openConnection()).getJarEntry();
+                return jarEntry.getSize() + ":" + jarEntry.getTime() + ":" + jarEntry.getCrc();
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new FlywayException("Unable to fingerprint classpath resource: " + name, e);
+        }
+        return null;
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        if (value != null) {
+            messageDigest.update(value.getBytes(UTF8));
+        }
+        messageDigest.update((byte) 0);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver;
+
+import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
+import org.flywaydb.core.internal.database.Database;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Migration resolver for migrations that have already been resolved once and are shared between several databases.
+ * The sql migrations are bound to the database of this resolver, reusing their contents, checksums and parsed scripts.
+ * All other migrations are shared as is.
+ */
+public class SharedMigrationResolver implements MigrationResolver {
+    /**
+     * The migrations that have already been resolved.
+     */
+    private final List<ResolvedMigration> resolvedMigrations;
+
+    /**
+     * The database the sql migrations must be executed against.
+     */
+    private final Database database;
+
+    /**
+     * The migrations bound to the database. {@code null} if not bound yet.
+     */
+    private List<ResolvedMigration> boundMigrations;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param resolvedMigrations The migrations that have already been resolved.
+     * @param database           The database the sql migrations must be executed against.
+     */
+    public SharedMigrationResolver(List<ResolvedMigration> resolvedMigrations, Database database) {
+        this.resolvedMigrations = resolvedMigrations;
+        this.database = database;
+    }
+
+    @Override
+    public synchronized List<ResolvedMigration> resolveMigrations() {
+        if (boundMigrations == null) {
+            boundMigrations = new ArrayList<>(resolvedMigrations.size());
+            for (ResolvedMigration resolvedMigration : resolvedMigrations) {
+                boundMigrations.add(bind(resolvedMigration));
+            }
+        }
+        return boundMigrations;
+    }
+
+    private ResolvedMigration bind(ResolvedMigration resolvedMigration) {
+        if (!(resolvedMigration.getExecutor() instanceof SqlMigrationExecutor)) {
+            return resolvedMigration;
+        }
+
+        ResolvedMigrationImpl migration = new ResolvedMigrationImpl();
+        migration.setVersion(resolvedMigration.getVersion());
+        migration.setDescription(resolvedMigration.getDescription());
+        migration.setScript(resolvedMigration.getScript());
+        migration.setChecksum(resolvedMigration.getChecksum());
+        migration.setType(resolvedMigration.getType());
+        migration.setPhysicalLocation(resolvedMigration.getPhysicalLocation());
+        migration.setExecutor(((SqlMigrationExecutor) resolvedMigration.getExecutor()).copyFor(database));
+        return migration;
+    }
+}
@@ -45,6 +45,11 @@ public class SqlMigrationExecutor implements MigrationExecutor {
      */
     private final LoadableResource resource;
 
+    /**
+     * The contents of the resource, already read for calculating the checksum. {@code null} when streaming.
+     */
+    private final SqlResourceContent content;
+
     /**
      * The Flyway configuration.
      */
@@ -55,30 +60,92 @@ public class SqlMigrationExecutor implements MigrationExecutor {
      */
     private SqlScript sqlScript;
 
+    /**
+     * The executor this one is a copy of and whose script it shares. {@code null} if it doesn't share its script.
+     */
+    private final SqlMigrationExecutor original;
+
+    /**
+     * Whether this executor has been copied. Its script and contents are then no longer released after execution, as
+     * the copies may still need them.
+     */
+    private volatile boolean copied;
+
     /**
      * Creates a new sql script migration based on this sql script.
      *
      * @param database            The database-specific support.
      * @param resource            The resource containing the sql script.
+     * @param content             The contents of the resource. {@code null} when streaming.
      * @param placeholderReplacer The placeholder replacer to apply to sql migration scripts.
      * @param configuration       The Flyway configuration.
      */
-    SqlMigrationExecutor(Database database, LoadableResource resource, PlaceholderReplacer placeholderReplacer, FlywayConfiguration configuration) {
+    SqlMigrationExecutor(Database database, LoadableResource resource, SqlResourceContent content,
+                         PlaceholderReplacer placeholderReplacer, FlywayConfiguration configuration) {
+        this(database, resource, content, placeholderReplacer, configuration, null);
+    }
+
+    private SqlMigrationExecutor(Database database, LoadableResource resource, SqlResourceContent content,
+                                 PlaceholderReplacer placeholderReplacer, FlywayConfiguration configuration,
+                                 SqlMigrationExecutor original) {
         this.database = database;
         this.resource = resource;
+        this.content = content;
         this.placeholderReplacer = placeholderReplacer;
         this.configuration = configuration;
+        this.original = original;
+    }
+
+    /**
+     * Creates a copy of this executor that executes the migration against this other database. If both databases are
+     * of the same type, the copy shares the parsed statements of this executor instead of parsing them again, while
+     * reporting their execution to the metrics of its own command.
+     *
+     * @param database The database to execute the migration against.
+     * @return The copy.
+     */
+    public SqlMigrationExecutor copyFor(Database database) {
+        copied = true;
+        return new SqlMigrationExecutor(database, resource, content, placeholderReplacer, configuration,
+                database.getClass() == this.database.getClass() ? this : null);
     }
 
     @Override
     public void execute(Connection connection) {
         getSqlScript().execute(database.getMigrationConnection().getJdbcTemplate());
+        release();
+    }
+
+    /**
+     * Releases the script and the contents of the resource once the migration has been applied, unless they are shared
+     * with copies of this executor. They are loaded again should they be needed afterwards.
+     */
+    private synchronized void release() {
+        if (copied || original != null) {
+            return;
+        }
+        sqlScript = null;
+        if (content != null) {
+            content.release();
+        }
     }
 
     private synchronized SqlScript getSqlScript() {
+        if (original != null) {
+            if (sqlScript == null) {
+                sqlScript = database.shareSqlScript(original.getSqlScript());
+            }
+            return sqlScript;
+        }
+        if (sqlScript == null && configuration.isStream()) {
+            sqlScript = database.createStreamingSqlScript(resource, placeholderReplacer, configuration.getEncoding(),
+                    configuration.isMixed());
+        }
         if (sqlScript == null) {
             sqlScript = database.createSqlScript(resource,
-                    placeholderReplacer.replacePlaceholders(resource.loadAsString(configuration.getEncoding())),
+                    placeholderReplacer.replacePlaceholders(content != null
+                            ? content.loadAsString()
+                            : resource.loadAsString(configuration.getEncoding())),
                     configuration.isMixed()
 
 
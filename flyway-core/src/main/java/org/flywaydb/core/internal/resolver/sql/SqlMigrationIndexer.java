@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver.sql;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.FlywayConfiguration;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.resolver.MigrationInfoHelper;
+import org.flywaydb.core.internal.util.Location;
+import org.flywaydb.core.internal.util.Locations;
+import org.flywaydb.core.internal.util.Pair;
+import org.flywaydb.core.internal.util.scanner.LoadableResource;
+import org.flywaydb.core.internal.util.scanner.MigrationIndex;
+import org.flywaydb.core.internal.util.scanner.filesystem.FileSystemScanner;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the migration indexes of the classpath locations at build time, so they don't have to be scanned at
+ * runtime.
+ */
+public class SqlMigrationIndexer {
+    private static final Log LOG = LogFactory.getLog(SqlMigrationIndexer.class);
+
+    /**
+     * The Flyway configuration.
+     */
+    private final FlywayConfiguration configuration;
+
+    /**
+     * Creates a new indexer.
+     *
+     * @param configuration The Flyway configuration.
+     */
+    public SqlMigrationIndexer(FlywayConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Scans the classpath locations within this output directory and writes their migration indexes. Only the
+     * resources of the output directory itself are indexed, not those of the rest of the classpath, such as
+     * dependency jars, as these may come with an index of their own. Filesystem locations are not indexed. If no
+     * classpath location is configured, the default {@code db/migration} location is indexed.
+     *
+     * @param outputDirectory The root directory of the classpath to write the indexes to.
+     * @return The files the indexes were written to.
+     */
+    public List<File> writeIndexes(File outputDirectory) {
+        List<Location> classPathLocations = new ArrayList<>();
+        for (Location location : new Locations(configuration.getLocations()).getLocations()) {
+            if (location.isClassPath()) {
+                classPathLocations.add(location);
+            } else {
+                LOG.warn("Skipping indexing of non-classpath location: " + location);
+            }
+        }
+        if (classPathLocations.isEmpty()) {
+            classPathLocations.add(new Location("db/migration"));
+        }
+
+        List<File> files = new ArrayList<>();
+        for (Location location : classPathLocations) {
+            File directory = location.getPath().isEmpty()
+                    ? outputDirectory
+                    : new File(outputDirectory, location.getPath());
+            if (!directory.isDirectory()) {
+                LOG.info("Skipping indexing of location " + location + " as it isn't present in " + outputDirectory);
+                continue;
+            }
+            MigrationIndex index = createIndex(location, directory);
+            File file = index.write(outputDirectory);
+            LOG.info("Indexed " + index.getEntries().size() + " resources of location " + location + " in " + file);
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Scans this classpath location within the output directory and creates its index.
+     *
+     * @param location  The classpath location.
+     * @param directory The directory of the location within the output directory.
+     * @return The index.
+     */
+    private MigrationIndex createIndex(Location location, File directory) {
+        String prefix = configuration.getSqlMigrationPrefix();
+        String separator = configuration.getSqlMigrationSeparator();
+        String[] suffixes = configuration.getSqlMigrationSuffixes();
+
+        // Always scan, as a stale index of a previous build may already be present
+        Location directoryLocation = new Location(Location.FILESYSTEM_PREFIX + directory.getAbsolutePath());
+        LoadableResource[] resources = new FileSystemScanner().scanForResources(directoryLocation, "", suffixes);
+
+        MigrationIndex index = new MigrationIndex(location);
+        for (LoadableResource resource : resources) {
+            String filename = resource.getFilename();
+
+            String version = null;
+            if (filename.startsWith(prefix) && !SqlMigrationResolver.isSqlCallback(filename, suffixes)) {
+                Pair<MigrationVersion, String> info =
+                        MigrationInfoHelper.extractVersionAndDescription(filename, prefix, separator, suffixes, false);
+                version = info.getLeft().getVersion();
+            }
+
+            int checksum = new SqlResourceContent(resource, configuration.getEncoding()).calculateChecksum();
+            String name = resource.getLocation().substring(directoryLocation.getPath().length() + 1);
+            index.add(new MigrationIndex.Entry(name, version, checksum));
+        }
+        return index;
+    }
+}
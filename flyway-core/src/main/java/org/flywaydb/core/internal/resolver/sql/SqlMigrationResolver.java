@@ -36,6 +36,7 @@ import org.flywaydb.core.internal.util.scanner.Scanner;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -136,14 +137,22 @@ public class SqlMigrationResolver implements MigrationResolver {
             migration.setVersion(info.getLeft());
             migration.setDescription(info.getRight());
             migration.setScript(extractScriptName(resource, location));
-            migration.setChecksum(calculateChecksum(resource, resource.loadAsString(configuration.getEncoding())));
+            // When streaming, the script is never held in memory as a whole. Otherwise it is read only once and
+            // shared between the checksum calculation and the execution of the migration.
+            SqlResourceContent content = null;
+            if (configuration.isStream()) {
+                migration.setChecksum(calculateChecksum(resource, resource.loadAsReader(configuration.getEncoding())));
+            } else {
+                content = new SqlResourceContent(resource, configuration.getEncoding());
+                migration.setChecksum(content.calculateChecksum());
+            }
             migration.setType(
 
 
 
                             MigrationType.SQL);
             migration.setPhysicalLocation(resource.getLocationOnDisk());
-            migration.setExecutor(new SqlMigrationExecutor(database, resource, placeholderReplacer, configuration));
+            migration.setExecutor(new SqlMigrationExecutor(database, resource, content, placeholderReplacer, configuration));
             migrations.add(migration);
         }
     }
@@ -189,12 +198,28 @@ public class SqlMigrationResolver implements MigrationResolver {
      */
     /* private -> for testing */
     static int calculateChecksum(Resource resource, String str) {
+        return calculateChecksum(resource, new StringReader(str));
+    }
+
+    /**
+     * Calculates the checksum of the text read from this reader, line by line, without loading it in full.
+     * A leading UTF-8 BOM is ignored. The reader is closed when done.
+     *
+     * @param reader The reader for the text to calculate the checksum for.
+     * @return The crc-32 checksum of the bytes.
+     */
+    private static int calculateChecksum(Resource resource, Reader reader) {
         final CRC32 crc32 = new CRC32();
 
-        BufferedReader bufferedReader = new BufferedReader(new StringReader(str));
+        BufferedReader bufferedReader = new BufferedReader(reader);
         try {
             String line;
+            boolean firstLine = true;
             while ((line = bufferedReader.readLine()) != null) {
+                if (firstLine && line.startsWith("\ufeff")) {
+                    line = line.substring(1);
+                }
+                firstLine = false;
                 crc32.update(line.getBytes("UTF-8"));
             }
         } catch (IOException e) {
@@ -203,6 +228,12 @@ public class SqlMigrationResolver implements MigrationResolver {
                 message += " for " + resource.getLocation() + " (" + resource.getLocationOnDisk() + ")";
             }
             throw new FlywayException(message, e);
+        } finally {
+            try {
+                bufferedReader.close();
+            } catch (IOException e) {
+                // Ignore
+            }
         }
 
         return (int) crc32.getValue();
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver.sql;
+
+import org.flywaydb.core.internal.util.scanner.LoadableResource;
+
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+
+/**
+ * The contents of a sql migration resource, read once as bytes and shared between the checksum calculation and the
+ * execution of the migration. The bytes are only decoded when the script is actually executed and can be released
+ * once the migration has been applied.
+ */
+class SqlResourceContent {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /**
+     * The resource the contents are read from.
+     */
+    private final LoadableResource resource;
+
+    /**
+     * The encoding of the resource.
+     */
+    private final Charset encoding;
+
+    /**
+     * The raw contents of the resource. {@code null} if not loaded yet or released.
+     */
+    private byte[] bytes;
+
+    /**
+     * Creates a new content holder for this resource. Nothing is read until needed.
+     *
+     * @param resource The resource the contents are read from.
+     * @param encoding The encoding of the resource.
+     */
+    SqlResourceContent(LoadableResource resource, String encoding) {
+        this.resource = resource;
+        this.encoding = Charset.forName(encoding);
+    }
+
+    /**
+     * Calculates the checksum of the contents. It is identical to the crc-32 checksum of the UTF-8 bytes of all lines
+     * of the decoded text, without their line terminators and the leading BOM. For UTF-8 resources it is calculated
+     * directly over the raw bytes without decoding them.
+     *
+     * @return The crc-32 checksum.
+     */
+    int calculateChecksum() {
+        byte[] bytes = getBytes();
+        if (!UTF8.equals(encoding) || !isValidUtf8(bytes)) {
+            // Malformed input is replaced while decoding, so the decoded text must be used
+            return SqlMigrationResolver.calculateChecksum(resource, loadAsString());
+        }
+
+        // Both the resource loading and the checksum calculation strip a leading BOM
+        int offset = skipBom(bytes, skipBom(bytes, 0));
+
+        // In UTF-8, \r and \n never occur as part of a multi-byte sequence
+        CRC32 crc32 = new CRC32();
+        int start = offset;
+        for (int i = offset; i < bytes.length; i++) {
+            if (bytes[i] == '\r' || bytes[i] == '\n') {
+                crc32.update(bytes, start, i - start);
+                start = i + 1;
+            }
+        }
+        crc32.update(bytes, start, bytes.length - start);
+        return (int) crc32.getValue();
+    }
+
+    /**
+     * Decodes the contents as a string, with a leading BOM stripped.
+     *
+     * @return The string contents of the resource.
+     */
+    String loadAsString() {
+        String str = new String(getBytes(), encoding);
+        if (str.startsWith("\ufeff")) {
+            return str.substring(1);
+        }
+        return str;
+    }
+
+    /**
+     * Releases the contents held in memory. They are read again from the resource if they are needed afterwards.
+     */
+    synchronized void release() {
+        bytes = null;
+    }
+
+    private synchronized byte[] getBytes() {
+        if (bytes == null) {
+            bytes = resource.loadAsBytes();
+        }
+        return bytes;
+    }
+
+    private static int skipBom(byte[] bytes, int offset) {
+        if (bytes.length >= offset + 3
+                && bytes[offset] == (byte) 0xEF && bytes[offset + 1] == (byte) 0xBB && bytes[offset + 2] == (byte) 0xBF) {
+            return offset + 3;
+        }
+        return offset;
+    }
+
+    /**
+     * Checks whether these bytes are well-formed UTF-8, following the same rules as the decoder of the JVM.
+     *
+     * @param bytes The bytes to check.
+     * @return {@code true} if they are, {@code false} if they contain malformed sequences.
+     */
+    private static boolean isValidUtf8(byte[] bytes) {
+        int i = 0;
+        while (i < bytes.length) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+
+            int length;
+            int min = 0x80;
+            int max = 0xBF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                length = 2;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                length = 3;
+                if (b == 0xE0) {
+                    min = 0xA0;
+                } else if (b == 0xED) {
+                    max = 0x9F;
+                }
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                length = 4;
+                if (b == 0xF0) {
+                    min = 0x90;
+                } else if (b == 0xF4) {
+                    max = 0x8F;
+                }
+            } else {
+                return false;
+            }
+
+            if (i + length > bytes.length) {
+                return false;
+            }
+            int second = bytes[i + 1] & 0xFF;
+            if (second < min || second > max) {
+                return false;
+            }
+            for (int j = i + 2; j < i + length; j++) {
+                if ((bytes[j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += length;
+        }
+        return true;
+    }
+}
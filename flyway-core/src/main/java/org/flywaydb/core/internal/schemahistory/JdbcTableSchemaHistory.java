@@ -21,18 +21,23 @@ import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.errorhandler.ErrorHandler;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.api.metrics.MetricsPhase;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.database.Connection;
 import org.flywaydb.core.internal.database.Database;
 import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.database.Table;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
+import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.util.jdbc.RowMapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -43,6 +48,19 @@ import java.util.concurrent.Callable;
 public class JdbcTableSchemaHistory extends SchemaHistory {
     private static final Log LOG = LogFactory.getLog(JdbcTableSchemaHistory.class);
 
+    /**
+     * The suffix of the name of the table holding the up to date fingerprint, next to the schema history table. The
+     * fingerprint is kept out of the schema history table itself, as every row of that table is an applied migration
+     * to older versions of Flyway and to other tools reading it.
+     */
+    private static final String FINGERPRINT_TABLE_SUFFIX = "_fp";
+
+    /**
+     * The maximum length of the name of the fingerprint table, which fits the identifiers of all supported databases,
+     * including Oracle 12.1 and older.
+     */
+    private static final int FINGERPRINT_TABLE_MAX_LENGTH = 30;
+
     /**
      * The database to use.
      */
@@ -58,6 +76,12 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
      */
     private boolean tableFallback;
 
+    /**
+     * Whether the table is known to exist, so all phases of a command can share the outcome of a single lookup. Only
+     * a positive outcome is remembered, as the table may still be created at any time. Cleared along with the cache.
+     */
+    private boolean knownToExist;
+
     /**
      * Connection with access to the database.
      */
@@ -75,6 +99,28 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
      */
     private String installedBy;
 
+    /**
+     * The number of nested locks currently held on the schema history table.
+     */
+    private int lockDepth;
+
+    /**
+     * The highest installed rank in the schema history table, tracked locally while it is locked. {@code null} if
+     * unknown.
+     */
+    private Integer lastInstalledRank;
+
+    /**
+     * The parameters of the insert statements of the applied migrations that were deferred. {@code null} if they
+     * aren't being deferred.
+     */
+    private List<Object[]> deferredRows;
+
+    /**
+     * The recorder for the time spent reading and writing the schema history table.
+     */
+    private final MetricsRecorder metricsRecorder;
+
     /**
      * Creates a new instance of the schema history table support.
      *
@@ -85,6 +131,7 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
     JdbcTableSchemaHistory(Database database, Table table, String installedBy) {
         this.connection = database.getMainConnection();
         this.database = database;
+        this.metricsRecorder = database.getMetricsRecorder();
         this.table = table;
         this.installedBy = installedBy;
         jdbcTemplate = connection.getJdbcTemplate();
@@ -93,10 +140,16 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
     @Override
     public void clearCache() {
         cache.clear();
+        knownToExist = false;
+        lastInstalledRank = null;
     }
 
     @Override
     public boolean exists() {
+        if (knownToExist) {
+            return true;
+        }
+
         // Ensure we are using the default table name before checking for the fallback table
         if (!tableFallback && table.getName().equals("flyway_schema_history")) {
             Table fallbackTable = table.getSchema().getTable("schema_version");
@@ -110,7 +163,8 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
                 table = fallbackTable;
             }
         }
-        return table.exists();
+        knownToExist = table.exists();
+        return knownToExist;
     }
 
     /**
@@ -145,41 +199,111 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
 
     @Override
     public <T> T lock(Callable<T> callable) {
-        return connection.lock(table, callable);
+        lockDepth++;
+        try {
+            return connection.lock(table, callable);
+        } finally {
+            if (--lockDepth == 0) {
+                // Other clients may insert rows as soon as the lock is released
+                lastInstalledRank = null;
+            }
+        }
+    }
+
+    @Override
+    public <T> T deferAppliedMigrations(Callable<T> callable) {
+        deferredRows = new ArrayList<>();
+        try {
+            T result = callable.call();
+            flushAppliedMigrations();
+            return result;
+        } catch (RuntimeException e) {
+            // The ranks of the discarded rows were already handed out
+            lastInstalledRank = null;
+            throw e;
+        } catch (Exception e) {
+            lastInstalledRank = null;
+            throw new FlywayException(e);
+        } finally {
+            deferredRows = null;
+        }
+    }
+
+    /**
+     * Inserts the rows of the applied migrations that were deferred as a single batch.
+     */
+    private void flushAppliedMigrations() {
+        if (deferredRows.isEmpty()) {
+            return;
+        }
+
+        connection.changeCurrentSchemaTo(table.getSchema());
+        metricsRecorder.startPhase(MetricsPhase.SCHEMA_HISTORY);
+        try {
+            jdbcTemplate.updateBatch(database.getInsertStatement(table), deferredRows);
+            LOG.debug("Schema history table " + table + " successfully updated to reflect changes of "
+                    + deferredRows.size() + " migrations");
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to insert rows in Schema History table " + table, e);
+        } finally {
+            metricsRecorder.stopPhase(MetricsPhase.SCHEMA_HISTORY);
+        }
     }
 
     @Override
     protected void doAddAppliedMigration(MigrationVersion version, String description, MigrationType type, String script, Integer checksum, int executionTime, boolean success) {
         connection.changeCurrentSchemaTo(table.getSchema());
 
+        // While the lock is held throughout, the installed rank is known locally and nothing can deadlock
+        boolean lockHeld = lockDepth > 0 && connection.isLockHeldAcrossCommits();
+
         // Lock again for databases with no DDL transactions to prevent implicit commits from triggering deadlocks
         // in highly concurrent environments
-        if (!database.supportsDdlTransactions()) {
+        if (!lockHeld && !database.supportsDdlTransactions()) {
             table.lock();
         }
 
+        metricsRecorder.startPhase(MetricsPhase.SCHEMA_HISTORY);
         try {
             String versionStr = version == null ? null : version.toString();
-            int installedRank = type == MigrationType.SCHEMA ? 0 : calculateInstalledRank();
+            int installedRank = type == MigrationType.SCHEMA ? 0 : calculateInstalledRank(lockHeld);
 
-            jdbcTemplate.update(database.getInsertStatement(table),
-                    installedRank, versionStr, description, type.name(), script, checksum, installedBy,
-                    executionTime, success);
+            Object[] row = new Object[]{installedRank, versionStr, description, type.name(), script, checksum, installedBy,
+                    executionTime, success};
+            if (lockHeld && deferredRows != null) {
+                deferredRows.add(row);
+                return;
+            }
+
+            jdbcTemplate.update(database.getInsertStatement(table), row);
 
             LOG.debug("Schema history table " + table + " successfully updated to reflect changes");
         } catch (SQLException e) {
+            lastInstalledRank = null;
             throw new FlywaySqlException("Unable to insert row for version '" + version + "' in Schema History table " + table, e);
+        } finally {
+            metricsRecorder.stopPhase(MetricsPhase.SCHEMA_HISTORY);
         }
     }
 
     /**
      * Calculates the installed rank for the new migration to be inserted.
      *
+     * @param lockHeld Whether the lock on the schema history table is held throughout, allowing the rank to be
+     *                 tracked locally after it has been queried once.
      * @return The installed rank.
      */
-    private int calculateInstalledRank() throws SQLException {
+    private int calculateInstalledRank(boolean lockHeld) throws SQLException {
+        if (lockHeld && lastInstalledRank != null) {
+            lastInstalledRank++;
+            return lastInstalledRank;
+        }
+
         int currentMax = jdbcTemplate.queryForInt("SELECT MAX(" + database.quote("installed_rank") + ")"
                 + " FROM " + table);
+        if (lockHeld) {
+            lastInstalledRank = currentMax + 1;
+        }
         return currentMax + 1;
     }
 
@@ -188,15 +312,30 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
         return findAppliedMigrations();
     }
 
+    @Override
+    public List<AppliedMigration> appliedMigrationsAfter(int installedRank) {
+        // Only the rows above the last cached one are queried, leaving the newest rows at the end of the cache
+        Iterator<AppliedMigration> iterator = findAppliedMigrations().descendingIterator();
+        LinkedList<AppliedMigration> appliedMigrations = new LinkedList<>();
+        while (iterator.hasNext()) {
+            AppliedMigration appliedMigration = iterator.next();
+            if (appliedMigration.getInstalledRank() <= installedRank) {
+                break;
+            }
+            appliedMigrations.addFirst(appliedMigration);
+        }
+        return appliedMigrations;
+    }
+
     /**
      * Retrieve the applied migrations from the schema history table.
      *
      * @param migrationTypes The specific migration types to look for. (Optional) None means find all migrations.
      * @return The applied migrations.
      */
-    private List<AppliedMigration> findAppliedMigrations(MigrationType... migrationTypes) {
+    private LinkedList<AppliedMigration> findAppliedMigrations(MigrationType... migrationTypes) {
         if (!exists()) {
-            return new ArrayList<>();
+            return new LinkedList<>();
         }
 
         int minInstalledRank = cache.isEmpty() ? -1 : cache.getLast().getInstalledRank();
@@ -229,6 +368,7 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
 
         query += " ORDER BY " + database.quote("installed_rank");
 
+        metricsRecorder.startPhase(MetricsPhase.SCHEMA_HISTORY);
         try {
             cache.addAll(jdbcTemplate.query(query, new RowMapper<AppliedMigration>() {
                 public AppliedMigration mapRow(final ResultSet rs) throws SQLException {
@@ -255,6 +395,140 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
         } catch (SQLException e) {
             throw new FlywaySqlException("Error while retrieving the list of applied migrations from Schema History table "
                     + table, e);
+        } finally {
+            metricsRecorder.stopPhase(MetricsPhase.SCHEMA_HISTORY);
+        }
+    }
+
+    @Override
+    public boolean isUpToDate(String fingerprint) {
+        if (!exists()) {
+            return false;
+        }
+
+        Table fingerprintTable = getFingerprintTable();
+        if (!fingerprintTable.exists()) {
+            return false;
+        }
+
+        java.sql.Connection jdbcConnection = jdbcTemplate.getConnection();
+        Savepoint savepoint = null;
+        try {
+            savepoint = setSavepoint(jdbcConnection);
+            String storedFingerprint = jdbcTemplate.queryForString("SELECT " + database.quote("fingerprint")
+                    + " FROM " + fingerprintTable);
+            return storedFingerprint != null && storedFingerprint.equals(calculateStateFingerprint(fingerprint));
+        } catch (SQLException e) {
+            // Not being able to take the fast path merely means the migrations are resolved and validated as usual
+            LOG.warn("Unable to check the up to date fingerprint in " + fingerprintTable + ": " + e.getMessage());
+            rollbackTo(jdbcConnection, savepoint);
+            return false;
+        }
+    }
+
+    @Override
+    public void markUpToDate(String fingerprint) {
+        Table fingerprintTable = getFingerprintTable();
+        java.sql.Connection jdbcConnection = jdbcTemplate.getConnection();
+        Savepoint savepoint = null;
+        try {
+            String stateFingerprint = calculateStateFingerprint(fingerprint);
+            if (stateFingerprint == null || isUpToDate(fingerprint)) {
+                return;
+            }
+
+            savepoint = setSavepoint(jdbcConnection);
+            if (!fingerprintTable.exists()) {
+                // May implicitly commit and release the lock, which is harmless as the recorded state fingerprint
+                // no longer matches as soon as another instance adds a row to the schema history table
+                jdbcTemplate.execute(database.getCreateFingerprintTableStatement(fingerprintTable));
+            }
+            jdbcTemplate.execute("DELETE FROM " + fingerprintTable);
+            jdbcTemplate.update("INSERT INTO " + fingerprintTable + " (" + database.quote("fingerprint") + ") VALUES (?)",
+                    stateFingerprint);
+            LOG.debug("Up to date fingerprint recorded in " + fingerprintTable + ": " + stateFingerprint);
+        } catch (SQLException | FlywayException e) {
+            // The migrations are applied regardless, the next migration run merely won't be able to skip them
+            LOG.warn("Unable to record the up to date fingerprint in " + fingerprintTable + ": " + e.getMessage());
+            rollbackTo(jdbcConnection, savepoint);
+        }
+    }
+
+    /**
+     * Sets a savepoint protecting the surrounding transaction, if any, from a failed fingerprint statement, as some
+     * databases abort the whole transaction on the first failed statement.
+     *
+     * @param jdbcConnection The connection.
+     * @return The savepoint or {@code null} if there is no surrounding transaction.
+     */
+    private static Savepoint setSavepoint(java.sql.Connection jdbcConnection) throws SQLException {
+        return jdbcConnection.getAutoCommit() ? null : jdbcConnection.setSavepoint();
+    }
+
+    /**
+     * Rolls back to this savepoint, undoing a failed fingerprint statement.
+     *
+     * @param jdbcConnection The connection.
+     * @param savepoint      The savepoint. {@code null} if none was set.
+     */
+    private static void rollbackTo(java.sql.Connection jdbcConnection, Savepoint savepoint) {
+        if (savepoint == null) {
+            return;
+        }
+        try {
+            jdbcConnection.rollback(savepoint);
+        } catch (SQLException e) {
+            // The savepoint may already have been released by an implicit commit
+            LOG.debug("Unable to roll back to savepoint: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the table holding the up to date fingerprint of the schema history table. Its name is derived from the
+     * name of the schema history table and never exceeds {@link #FINGERPRINT_TABLE_MAX_LENGTH} characters, so it is
+     * neither rejected nor silently truncated into the name of another table. Names that would be too long are
+     * shortened and made unique with a hash of the full name of the schema history table.
+     *
+     * @return The fingerprint table.
+     */
+    private Table getFingerprintTable() {
+        String name = table.getName() + FINGERPRINT_TABLE_SUFFIX;
+        if (name.length() > FINGERPRINT_TABLE_MAX_LENGTH) {
+            String hash = String.format("%08x", table.getName().hashCode());
+            name = table.getName().substring(0, FINGERPRINT_TABLE_MAX_LENGTH - FINGERPRINT_TABLE_SUFFIX.length()
+                    - hash.length() - 1) + "_" + hash + FINGERPRINT_TABLE_SUFFIX;
+        }
+        return table.getSchema().getTable(name);
+    }
+
+    /**
+     * Combines this fingerprint of the available migrations with the highest installed rank and the number of rows of
+     * the schema history table, so that any migration applied since invalidates it.
+     *
+     * @param fingerprint The fingerprint of the available migrations.
+     * @return The combined fingerprint or {@code null} if the table is still empty.
+     */
+    private String calculateStateFingerprint(String fingerprint) throws SQLException {
+        List<int[]> results = jdbcTemplate.query("SELECT MAX(" + database.quote("installed_rank") + "), COUNT(*)"
+                + " FROM " + table, new RowMapper<int[]>() {
+            @Override
+            public int[] mapRow(ResultSet rs) throws SQLException {
+                return new int[]{rs.getInt(1), rs.getInt(2)};
+            }
+        });
+        if (results.isEmpty() || results.get(0)[1] == 0) {
+            return null;
+        }
+        return fingerprint + ":" + results.get(0)[0] + ":" + results.get(0)[1];
+    }
+
+    /**
+     * Removes the up to date fingerprint, if any.
+     */
+    private void removeUpToDateFingerprint() throws SQLException {
+        Table fingerprintTable = getFingerprintTable();
+        if (fingerprintTable.exists()) {
+            jdbcTemplate.execute("DELETE FROM " + fingerprintTable);
         }
     }
 
@@ -277,6 +551,8 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
         }
 
         try {
+            lastInstalledRank = null;
+            removeUpToDateFingerprint();
             jdbcTemplate.execute("DELETE FROM " + table
                     + " WHERE " + database.quote("success") + " = " + database.getBooleanFalse());
         } catch (SQLException e) {
@@ -295,7 +571,7 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
 
     @Override
     public boolean hasSchemasMarker() {
-        if (!table.exists()) {
+        if (!exists()) {
             return false;
         }
 
@@ -310,7 +586,7 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
 
     @Override
     public boolean hasBaselineMarker() {
-        if (!table.exists()) {
+        if (!exists()) {
             return false;
         }
 
@@ -331,7 +607,7 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
 
     @Override
     public boolean hasAppliedMigrations() {
-        if (!table.exists()) {
+        if (!exists()) {
             return false;
         }
 
@@ -348,6 +624,50 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
     public void update(AppliedMigration appliedMigration, ResolvedMigration resolvedMigration) {
         clearCache();
 
+        Object[] params = toUpdateParams(appliedMigration, resolvedMigration);
+        MigrationVersion version = appliedMigration.getVersion();
+        try {
+            removeUpToDateFingerprint();
+            jdbcTemplate.update(getUpdateStatement(), params);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to repair Schema History table " + table
+                    + " for version " + version, e);
+        }
+    }
+
+    @Override
+    public void update(List<Pair<AppliedMigration, ResolvedMigration>> migrations) {
+        if (migrations.isEmpty()) {
+            return;
+        }
+
+        clearCache();
+
+        List<Object[]> paramsList = new ArrayList<>(migrations.size());
+        for (Pair<AppliedMigration, ResolvedMigration> migration : migrations) {
+            paramsList.add(toUpdateParams(migration.getLeft(), migration.getRight()));
+        }
+
+        metricsRecorder.startPhase(MetricsPhase.SCHEMA_HISTORY);
+        try {
+            removeUpToDateFingerprint();
+            jdbcTemplate.updateBatch(getUpdateStatement(), paramsList);
+            LOG.debug("Schema history table {} successfully repaired for {} migrations", table, migrations.size());
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to repair Schema History table " + table, e);
+        } finally {
+            metricsRecorder.stopPhase(MetricsPhase.SCHEMA_HISTORY);
+        }
+    }
+
+    /**
+     * Computes the new values of this applied migration from this resolved migration and logs them.
+     *
+     * @param appliedMigration  The applied migration to update.
+     * @param resolvedMigration The resolved migration to source the new values from.
+     * @return The parameters of the update statement.
+     */
+    private Object[] toUpdateParams(AppliedMigration appliedMigration, ResolvedMigration resolvedMigration) {
         MigrationVersion version = appliedMigration.getVersion();
 
         String description = resolvedMigration.getDescription();
@@ -359,18 +679,19 @@ public class JdbcTableSchemaHistory extends SchemaHistory {
         LOG.info("Repairing Schema History table for version " + version
                 + " (Description: " + description + ", Type: " + type + ", Checksum: " + checksum + ")  ...");
 
-        try {
-            jdbcTemplate.update("UPDATE " + table
-                            + " SET "
-                            + database.quote("description") + "=? , "
-                            + database.quote("type") + "=? , "
-                            + database.quote("checksum") + "=?"
-                            + " WHERE " + database.quote("version") + "=?",
-                    description, type, checksum, version);
-        } catch (SQLException e) {
-            throw new FlywaySqlException("Unable to repair Schema History table " + table
-                    + " for version " + version, e);
-        }
+        return new Object[]{description, type, checksum, version};
+    }
+
+    /**
+     * @return The statement updating the description, type and checksum of an applied migration by version.
+     */
+    private String getUpdateStatement() {
+        return "UPDATE " + table
+                + " SET "
+                + database.quote("description") + "=? , "
+                + database.quote("type") + "=? , "
+                + database.quote("checksum") + "=?"
+                + " WHERE " + database.quote("version") + "=?";
     }
 
     @Override
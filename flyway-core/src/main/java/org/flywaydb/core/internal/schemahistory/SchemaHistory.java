@@ -15,13 +15,16 @@
  */
 package org.flywaydb.core.internal.schemahistory;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationType;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.database.Schema;
 import org.flywaydb.core.internal.util.AbbreviationUtils;
+import org.flywaydb.core.internal.util.Pair;
 import org.flywaydb.core.internal.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -59,6 +62,38 @@ public abstract class SchemaHistory {
      */
     public abstract List<AppliedMigration> allAppliedMigrations();
 
+    /**
+     * @param installedRank The installed rank after which to look for applied migrations.
+     * @return The list of migrations applied on the schema with an installed rank higher than this one in the order
+     * they were applied (oldest first). An empty list if there are none.
+     */
+    public List<AppliedMigration> appliedMigrationsAfter(int installedRank) {
+        List<AppliedMigration> appliedMigrations = new ArrayList<>();
+        for (AppliedMigration appliedMigration : allAppliedMigrations()) {
+            if (appliedMigration.getInstalledRank() > installedRank) {
+                appliedMigrations.add(appliedMigration);
+            }
+        }
+        return appliedMigrations;
+    }
+
+    /**
+     * Checks whether the last migration run that left the schema up to date recorded this fingerprint of the available
+     * migrations, and whether no migration has been added to the schema history table since.
+     *
+     * @param fingerprint The fingerprint of the available migrations.
+     * @return {@code true} if it did and the schema is therefore still up to date, {@code false} if not.
+     */
+    public abstract boolean isUpToDate(String fingerprint);
+
+    /**
+     * Records that the schema is up to date with the available migrations of this fingerprint, along with the current
+     * state of the schema history table.
+     *
+     * @param fingerprint The fingerprint of the available migrations.
+     */
+    public abstract void markUpToDate(String fingerprint);
+
     /**
      * Creates and initializes the Flyway schema history table.
      *
@@ -123,6 +158,18 @@ public abstract class SchemaHistory {
      */
     public abstract void update(AppliedMigration appliedMigration, ResolvedMigration resolvedMigration);
 
+    /**
+     * Updates these applied migrations to match their resolved migrations, all at once.
+     *
+     * @param migrations The applied migrations to update, each paired with the resolved migration to source the new
+     *                   values from.
+     */
+    public void update(List<Pair<AppliedMigration, ResolvedMigration>> migrations) {
+        for (Pair<AppliedMigration, ResolvedMigration> migration : migrations) {
+            update(migration.getLeft(), migration.getRight());
+        }
+    }
+
     /**
      * Clears the applied migration cache.
      */
@@ -130,6 +177,24 @@ public abstract class SchemaHistory {
         // Do nothing by default.
     }
 
+    /**
+     * Executes this callable, deferring the recording of the applied migrations it adds until it completes so they can
+     * be inserted together. They are discarded if it fails. Only to be used within a lock and a transaction that
+     * commits or rolls back all of them at once.
+     *
+     * @param callable The callable to execute.
+     * @return The result of the callable.
+     */
+    public <T> T deferAppliedMigrations(Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlywayException(e);
+        }
+    }
+
     /**
      * Records a new applied migration.
      *
@@ -17,15 +17,16 @@ package org.flywaydb.core.internal.util;
 
 import org.flywaydb.core.api.FlywayException;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
- * Tool for replacing placeholders.
+ * Tool for replacing placeholders. The input is processed in a single pass, during which the placeholder expressions
+ * without value are collected as well. A placeholder expression never spans several lines.
  */
 public class PlaceholderReplacer {
     /**
@@ -36,6 +37,11 @@ public class PlaceholderReplacer {
         public String replacePlaceholders(String input) {
             return input;
         }
+
+        @Override
+        public Reader replacePlaceholders(Reader reader) {
+            return reader;
+        }
     };
 
     /**
@@ -71,40 +77,203 @@ public class PlaceholderReplacer {
      *
      * @param input The input to process.
      * @return The input string with all placeholders replaced.
+     * @throws FlywayException when the input contains placeholder expressions without value.
      */
     public String replacePlaceholders(String input) {
-        String noPlaceholders = input;
+        StringBuilder output = new StringBuilder(input.length());
+        Set<String> unmatchedPlaceholderExpressions = new TreeSet<>();
+        replacePlaceholders(input, true, output, unmatchedPlaceholderExpressions);
+        checkForUnmatchedPlaceholderExpressions(unmatchedPlaceholderExpressions);
+        return output.toString();
+    }
+
+    /**
+     * Wraps this reader so the placeholders are replaced as the input is read, without ever holding more than a
+     * buffer and a line of it.
+     *
+     * @param reader The reader of the input to process.
+     * @return The reader of the input with all placeholders replaced. Reading it throws a FlywayException as soon as a
+     * placeholder expression without value is encountered.
+     */
+    public Reader replacePlaceholders(Reader reader) {
+        return new PlaceholderReplacingReader(reader);
+    }
+
+    /**
+     * Replaces the placeholders in this input, appending the result to this output.
+     *
+     * @param input                           The input to process.
+     * @param complete                        Whether the input is complete. If not, a trailing placeholder
+     *                                        expression which may not be complete yet is left unprocessed.
+     * @param output                          The output to append to.
+     * @param unmatchedPlaceholderExpressions The set to add the placeholder expressions without value to.
+     * @return The number of characters of the input that were processed.
+     */
+    private int replacePlaceholders(String input, boolean complete, StringBuilder output,
+                                    Set<String> unmatchedPlaceholderExpressions) {
+        int length = input.length();
+        int start = 0;
+        int prefixIndex;
+        while ((prefixIndex = input.indexOf(placeholderPrefix, start)) >= 0) {
+            int nameStart = prefixIndex + placeholderPrefix.length();
+            int nameEnd = nameStart;
+            while (nameEnd < length && !input.startsWith(placeholderSuffix, nameEnd)
+                    && input.charAt(nameEnd) != '\n' && input.charAt(nameEnd) != '\r') {
+                nameEnd++;
+            }
+
+            if (nameEnd == length) {
+                if (complete) {
+                    break;
+                }
+                // The rest of the placeholder expression hasn't been read yet
+                output.append(input, start, prefixIndex);
+                return prefixIndex;
+            }
 
-        for (String placeholder : placeholders.keySet()) {
-            String searchTerm = placeholderPrefix + placeholder + placeholderSuffix;
-            String value = placeholders.get(placeholder);
-            noPlaceholders = StringUtils.replaceAll(noPlaceholders, searchTerm, value == null ? "" : value);
+            if (!input.startsWith(placeholderSuffix, nameEnd)) {
+                // Not a placeholder expression, as it would span several lines
+                output.append(input, start, nameEnd);
+                start = nameEnd;
+                continue;
+            }
+
+            String name = input.substring(nameStart, nameEnd);
+            if (placeholders.containsKey(name)) {
+                output.append(input, start, prefixIndex);
+                String value = placeholders.get(name);
+                if (value != null) {
+                    output.append(value);
+                }
+                start = nameEnd + placeholderSuffix.length();
+            } else if (name.contains(placeholderPrefix)) {
+                // Only the innermost expression can be a placeholder
+                output.append(input, start, prefixIndex + 1);
+                start = prefixIndex + 1;
+            } else {
+                if (!name.isEmpty()) {
+                    unmatchedPlaceholderExpressions.add(placeholderPrefix + name + placeholderSuffix);
+                }
+                output.append(input, start, nameEnd + placeholderSuffix.length());
+                start = nameEnd + placeholderSuffix.length();
+            }
         }
-        checkForUnmatchedPlaceholderExpression(noPlaceholders);
 
-        return noPlaceholders;
+        int end = complete ? length : length - getPartialPrefixLength(input, start);
+        output.append(input, start, end);
+        return end;
     }
 
     /**
-     * Check for unmatched placeholder expressions in the input string and throw
-     * a FlywayException if they do not have corresponding values.
+     * Determines the length of the end of this input that may be the start of a placeholder prefix.
      *
-     * @param input The input string.
-     * @throws FlywayException An exception listing the unmatched expressions.
+     * @param input The input.
+     * @param start The index from which the input may contain the start of a placeholder prefix.
+     * @return The length. {@code 0} if the input doesn't end with the start of a placeholder prefix.
      */
-    private void checkForUnmatchedPlaceholderExpression(String input) {
-        String regex = Pattern.quote(placeholderPrefix) + "(.+?)" + Pattern.quote(placeholderSuffix);
-        Matcher matcher = Pattern.compile(regex).matcher(input);
-
-        Set<String> unmatchedPlaceHolderExpressions = new TreeSet<>();
-        while (matcher.find()) {
-            unmatchedPlaceHolderExpressions.add(matcher.group());
+    private int getPartialPrefixLength(String input, int start) {
+        for (int length = Math.min(placeholderPrefix.length() - 1, input.length() - start); length > 0; length--) {
+            if (input.regionMatches(input.length() - length, placeholderPrefix, 0, length)) {
+                return length;
+            }
         }
+        return 0;
+    }
 
-        if (!unmatchedPlaceHolderExpressions.isEmpty()) {
+    /**
+     * Throws a FlywayException listing these unmatched placeholder expressions, if any.
+     *
+     * @param unmatchedPlaceholderExpressions The placeholder expressions without value.
+     * @throws FlywayException An exception listing the unmatched expressions.
+     */
+    private static void checkForUnmatchedPlaceholderExpressions(Set<String> unmatchedPlaceholderExpressions) {
+        if (!unmatchedPlaceholderExpressions.isEmpty()) {
             throw new FlywayException("No value provided for placeholder expressions: "
-                    + StringUtils.collectionToCommaDelimitedString(unmatchedPlaceHolderExpressions)
+                    + StringUtils.collectionToCommaDelimitedString(unmatchedPlaceholderExpressions)
                     + ".  Check your configuration!");
         }
     }
+
+    /**
+     * Reader replacing the placeholders of the input of another reader as it is read.
+     */
+    private class PlaceholderReplacingReader extends Reader {
+        /**
+         * The reader of the input.
+         */
+        private final Reader reader;
+
+        /**
+         * The buffer to read the input into.
+         */
+        private final char[] buffer = new char[8192];
+
+        /**
+         * The input that has been read, but could not be processed yet.
+         */
+        private final StringBuilder pending = new StringBuilder();
+
+        /**
+         * The output of the input that has been processed.
+         */
+        private final StringBuilder output = new StringBuilder();
+
+        /**
+         * The position of the next character of the output to be returned.
+         */
+        private int position;
+
+        /**
+         * Whether the end of the input has been reached.
+         */
+        private boolean endOfInput;
+
+        PlaceholderReplacingReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            while (position >= output.length()) {
+                if (endOfInput) {
+                    return -1;
+                }
+                fill();
+            }
+
+            int count = Math.min(len, output.length() - position);
+            output.getChars(position, position + count, cbuf, off);
+            position += count;
+            return count;
+        }
+
+        /**
+         * Reads the next part of the input and processes as much of it as possible.
+         */
+        private void fill() throws IOException {
+            int count = reader.read(buffer);
+            if (count < 0) {
+                endOfInput = true;
+            } else {
+                pending.append(buffer, 0, count);
+            }
+
+            String input = pending.toString();
+            output.setLength(0);
+            position = 0;
+            Set<String> unmatchedPlaceholderExpressions = new TreeSet<>();
+            int processed = replacePlaceholders(input, endOfInput, output, unmatchedPlaceholderExpressions);
+            checkForUnmatchedPlaceholderExpressions(unmatchedPlaceholderExpressions);
+            pending.delete(0, processed);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
 }
\ No newline at end of file
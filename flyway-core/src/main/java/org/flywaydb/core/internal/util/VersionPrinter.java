@@ -33,6 +33,13 @@ public class VersionPrinter {
         // Do nothing.
     }
 
+    /**
+     * @return The Flyway version.
+     */
+    public static String getVersion() {
+        return new ClassPathResource("org/flywaydb/core/internal/version.txt", VersionPrinter.class.getClassLoader()).loadAsString("UTF-8");
+    }
+
     /**
      * Prints the Flyway version.
      */
@@ -41,7 +48,7 @@ public class VersionPrinter {
             return;
         }
         printed = true;
-        String version = new ClassPathResource("org/flywaydb/core/internal/version.txt", VersionPrinter.class.getClassLoader()).loadAsString("UTF-8");
+        String version = getVersion();
         LOG.info("Flyway"
 
                 + " Community Edition"
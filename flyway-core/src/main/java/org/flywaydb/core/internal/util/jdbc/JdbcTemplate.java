@@ -18,6 +18,7 @@ package org.flywaydb.core.internal.util.jdbc;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 
+import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -249,6 +250,28 @@ public class JdbcTemplate {
         }
     }
 
+    /**
+     * Executes this sql call using a CallableStatement. The last parameter marker of the call is registered as an
+     * integer OUT parameter, the preceding ones are bound to these parameters.
+     *
+     * @param sql    The call to execute, typically an anonymous PL/SQL block.
+     * @param params The IN parameters.
+     * @return The value of the OUT parameter.
+     * @throws SQLException when the execution failed.
+     */
+    public int callForInt(String sql, Object... params) throws SQLException {
+        CallableStatement statement = null;
+        try {
+            statement = connection.prepareCall(sql);
+            setParameters(statement, params);
+            statement.registerOutParameter(params.length + 1, Types.INTEGER);
+            statement.execute();
+            return statement.getInt(params.length + 1);
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+
     /**
      * Executes this sql statement using an ordinary Statement.
      *
@@ -276,6 +299,36 @@ public class JdbcTemplate {
         }
     }
 
+    /**
+     * Executes these sql statements as a single batch using an ordinary Statement.
+     *
+     * @param errorContext The context to add the warnings of the batch to.
+     * @param sqls         The statements to execute.
+     * @return The update counts of the statements (in order).
+     * @throws SQLException when the execution failed.
+     */
+    public int[] executeBatch(ContextImpl errorContext, List<String> sqls) throws SQLException {
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            statement.setEscapeProcessing(false);
+            for (String sql : sqls) {
+                statement.addBatch(sql);
+            }
+            try {
+                return statement.executeBatch();
+            } finally {
+                @SuppressWarnings("ThrowableResultOfMethodCallIgnored") SQLWarning warning = statement.getWarnings();
+                while (warning != null) {
+                    errorContext.addWarning(new WarningImpl(warning.getErrorCode(), warning.getSQLState(), warning.getMessage()));
+                    warning = warning.getNextWarning();
+                }
+            }
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+
     private List<Result> extractResults(Statement statement, boolean hasResults) throws SQLException {
         List<Result> results = new ArrayList<>();
 
@@ -337,6 +390,28 @@ public class JdbcTemplate {
         }
     }
 
+    /**
+     * Executes this update sql statement once for each of these sets of params, as a single batch.
+     *
+     * @param sql        The statement to execute.
+     * @param paramsList The statement parameters of each execution.
+     * @return The update counts of the executions (in order).
+     * @throws SQLException when the execution failed.
+     */
+    public int[] updateBatch(String sql, List<Object[]> paramsList) throws SQLException {
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(sql);
+            for (Object[] params : paramsList) {
+                setParameters(statement, params);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+
     /**
      * Creates a new prepared statement for this sql with these params.
      *
@@ -347,6 +422,18 @@ public class JdbcTemplate {
      */
     private PreparedStatement prepareStatement(String sql, Object[] params) throws SQLException {
         PreparedStatement statement = connection.prepareStatement(sql);
+        setParameters(statement, params);
+        return statement;
+    }
+
+    /**
+     * Sets these params on this prepared statement.
+     *
+     * @param statement The prepared statement.
+     * @param params    The params.
+     * @throws SQLException when the params could not be set.
+     */
+    private void setParameters(PreparedStatement statement, Object[] params) throws SQLException {
         for (int i = 0; i < params.length; i++) {
             if (params[i] == null) {
                 statement.setNull(i + 1, nullType);
@@ -358,7 +445,6 @@ public class JdbcTemplate {
                 statement.setString(i + 1, params[i].toString());
             }
         }
-        return statement;
     }
 
     /**
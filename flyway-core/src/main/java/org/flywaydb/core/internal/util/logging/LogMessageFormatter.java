@@ -0,0 +1,53 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.util.logging;
+
+/**
+ * Formats deferred log messages, in which each {@code {}} is replaced by the next argument.
+ */
+public class LogMessageFormatter {
+    /**
+     * Prevents instantiation.
+     */
+    private LogMessageFormatter() {
+        // Do nothing.
+    }
+
+    /**
+     * Formats this message.
+     *
+     * @param format The format of the message, with a {@code {}} for each argument.
+     * @param args   The arguments. Surplus arguments are ignored and surplus placeholders are left as is.
+     * @return The formatted message.
+     */
+    public static String format(String format, Object... args) {
+        if (args == null || args.length == 0) {
+            return format;
+        }
+
+        StringBuilder message = new StringBuilder(format.length() + 16 * args.length);
+        int start = 0;
+        for (Object arg : args) {
+            int placeholder = format.indexOf("{}", start);
+            if (placeholder < 0) {
+                break;
+            }
+            message.append(format, start, placeholder).append(arg);
+            start = placeholder + 2;
+        }
+        return message.append(format, start, format.length()).toString();
+    }
+}
@@ -16,6 +16,7 @@
 package org.flywaydb.core.internal.util.logging.android;
 
 import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.internal.util.logging.LogMessageFormatter;
 
 /**
  * Wrapper for an Android logger.
@@ -26,11 +27,23 @@ public class AndroidLog implements Log {
      */
     private static final String TAG = "Flyway";
 
+    @Override
+    public boolean isDebugEnabled() {
+        return android.util.Log.isLoggable(TAG, android.util.Log.DEBUG);
+    }
+
     @Override
     public void debug(String message) {
         android.util.Log.d(TAG, message);
     }
 
+    @Override
+    public void debug(String format, Object... args) {
+        if (isDebugEnabled()) {
+            debug(LogMessageFormatter.format(format, args));
+        }
+    }
+
     @Override
     public void info(String message) {
         android.util.Log.i(TAG, message);
@@ -16,6 +16,7 @@
 package org.flywaydb.core.internal.util.logging.apachecommons;
 
 import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.internal.util.logging.LogMessageFormatter;
 
 /**
  * Wrapper for an Apache Commons Logging logger.
@@ -35,10 +36,20 @@ public class ApacheCommonsLog implements Log {
         this.logger = logger;
     }
 
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
     public void debug(String message) {
         logger.debug(message);
     }
 
+    public void debug(String format, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(LogMessageFormatter.format(format, args));
+        }
+    }
+
     public void info(String message) {
         logger.info(message);
     }
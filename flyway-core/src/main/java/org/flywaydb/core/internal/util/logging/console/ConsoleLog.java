@@ -16,6 +16,7 @@
 package org.flywaydb.core.internal.util.logging.console;
 
 import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.internal.util.logging.LogMessageFormatter;
 
 /**
  * Wrapper around a simple Console output.
@@ -36,12 +37,22 @@ public class ConsoleLog implements Log {
         this.level = level;
     }
 
+    public boolean isDebugEnabled() {
+        return level == Level.DEBUG;
+    }
+
     public void debug(String message) {
-        if (level == Level.DEBUG) {
+        if (isDebugEnabled()) {
             System.out.println("DEBUG: " + message);
         }
     }
 
+    public void debug(String format, Object... args) {
+        if (isDebugEnabled()) {
+            System.out.println("DEBUG: " + LogMessageFormatter.format(format, args));
+        }
+    }
+
     public void info(String message) {
     	if (level.compareTo(Level.INFO) <= 0) {
 	        System.out.println(message);
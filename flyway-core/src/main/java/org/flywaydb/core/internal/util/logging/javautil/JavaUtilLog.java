@@ -16,6 +16,7 @@
 package org.flywaydb.core.internal.util.logging.javautil;
 
 import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.internal.util.logging.LogMessageFormatter;
 
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -39,10 +40,20 @@ public class JavaUtilLog implements Log {
         this.logger = logger;
     }
 
+    public boolean isDebugEnabled() {
+        return logger.isLoggable(Level.FINE);
+    }
+
     public void debug(String message) {
         log(Level.FINE, message, null);
     }
 
+    public void debug(String format, Object... args) {
+        if (isDebugEnabled()) {
+            log(Level.FINE, LogMessageFormatter.format(format, args), null);
+        }
+    }
+
     public void info(String message) {
         log(Level.INFO, message, null);
     }
@@ -67,6 +78,11 @@ public class JavaUtilLog implements Log {
      * @param e The exception, if any.
      */
     private void log(Level level, String message, Exception e) {
+        // Avoid walking the stack for records that would be discarded anyway
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+
         // millis and thread are filled by the constructor
         LogRecord record = new LogRecord(level, message);
         record.setLoggerName(logger.getName());
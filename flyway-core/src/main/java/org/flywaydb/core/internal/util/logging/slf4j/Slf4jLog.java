@@ -36,10 +36,18 @@ public class Slf4jLog implements Log {
         this.logger = logger;
     }
 
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
     public void debug(String message) {
         logger.debug(message);
     }
 
+    public void debug(String format, Object... args) {
+        logger.debug(format, args);
+    }
+
     public void info(String message) {
         logger.info(message);
     }
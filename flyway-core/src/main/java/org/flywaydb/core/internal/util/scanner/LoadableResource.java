@@ -15,6 +15,8 @@
  */
 package org.flywaydb.core.internal.util.scanner;
 
+import java.io.Reader;
+
 /**
  * A loadable resource.
  */
@@ -28,6 +30,14 @@ public interface LoadableResource extends Resource {
      */
     String loadAsString(String encoding);
 
+    /**
+     * Opens this resource for reading its contents as a stream of characters. The caller is responsible for closing it.
+     *
+     * @param encoding The encoding to use.
+     * @return The reader for the contents of the resource.
+     */
+    Reader loadAsReader(String encoding);
+
     /**
      * Loads this resource as a byte array.
      *
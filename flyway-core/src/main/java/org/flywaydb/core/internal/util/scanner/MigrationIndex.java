@@ -0,0 +1,350 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.util.scanner;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.util.Location;
+import org.flywaydb.core.internal.util.StringUtils;
+import org.flywaydb.core.internal.util.UrlUtils;
+import org.flywaydb.core.internal.util.scanner.classpath.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index of the sql resources within a classpath location, generated at build time. When present, it lets the location
+ * be resolved without having to scan the classpath. The index is stored as a resource named {@link #FILENAME} directly
+ * within the location.
+ */
+public class MigrationIndex {
+    private static final Log LOG = LogFactory.getLog(MigrationIndex.class);
+
+    /**
+     * The name of the index resource within its location.
+     */
+    public static final String FILENAME = "flyway.index";
+
+    /**
+     * The header of each index, identifying its format.
+     */
+    private static final String HEADER = "flyway-migration-index 1";
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /**
+     * The location this index covers.
+     */
+    private final Location location;
+
+    /**
+     * The entries of this index, by name.
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Creates a new, empty index.
+     *
+     * @param location The classpath location this index covers.
+     */
+    public MigrationIndex(Location location) {
+        this.location = location;
+    }
+
+    /**
+     * Adds an entry to this index. An existing entry with the same name is replaced.
+     *
+     * @param entry The entry to add.
+     */
+    public void add(Entry entry) {
+        entries.put(entry.getName(), entry);
+    }
+
+    /**
+     * @return The entries of this index, in the order they were added.
+     */
+    public List<Entry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Retrieves the indexed resources whose filename starts with the specified prefix and ends with one of the
+     * specified suffixes. Resources that can no longer be found on the classpath are skipped.
+     *
+     * @param classLoader The ClassLoader to load the resources with.
+     * @param prefix      The prefix of the resource names to match.
+     * @param suffixes    The suffixes of the resource names to match.
+     * @return The resources that were found.
+     */
+    public LoadableResource[] getResources(ClassLoader classLoader, String prefix, String[] suffixes) {
+        Set<LoadableResource> resources = new TreeSet<>();
+        for (String name : entries.keySet()) {
+            String fileName = name.substring(name.lastIndexOf("/") + 1);
+            if (!fileNameMatches(fileName, prefix, suffixes)) {
+                continue;
+            }
+            ClassPathResource resource = new ClassPathResource(toResourceName(location, name), classLoader);
+            if (resource.exists()) {
+                resources.add(resource);
+            } else {
+                LOG.debug("Skipping indexed resource that no longer exists: {}", resource.getLocation());
+            }
+        }
+        return resources.toArray(new LoadableResource[resources.size()]);
+    }
+
+    private static boolean fileNameMatches(String fileName, String prefix, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if ((!StringUtils.hasLength(prefix) || fileName.startsWith(prefix))
+                    && fileName.endsWith(suffix)
+                    && (fileName.length() > (prefix + suffix).length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads the index of this location. If several indexes are present on the classpath for the same location
+     * (for example in several jars), they are merged. The index is only used when every classpath root containing
+     * this location has one and, for directories, none of their files is newer than it. Otherwise migrations missing
+     * from the index, such as those of another jar or those added after the index was written, would go unnoticed.
+     *
+     * @param classLoader The ClassLoader to look for the index with.
+     * @param location    The classpath location.
+     * @return The index or {@code null} if none is present or it doesn't cover the whole location.
+     */
+    public static MigrationIndex load(ClassLoader classLoader, Location location) {
+        String indexName = toResourceName(location, FILENAME);
+        try {
+            Enumeration<URL> urls = classLoader.getResources(indexName);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+
+            Map<String, URL> indexUrls = new LinkedHashMap<>();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String root = url.toExternalForm();
+                indexUrls.put(root.substring(0, root.length() - FILENAME.length() - 1), url);
+            }
+
+            Enumeration<URL> locationUrls = classLoader.getResources(location.getPath());
+            while (locationUrls.hasMoreElements()) {
+                URL locationUrl = locationUrls.nextElement();
+                String root = locationUrl.toExternalForm();
+                if (root.endsWith("/")) {
+                    root = root.substring(0, root.length() - 1);
+                }
+                URL indexUrl = indexUrls.get(root);
+                if (indexUrl == null) {
+                    LOG.warn("Ignoring migration index for location " + location + " as " + locationUrl
+                            + " has none. Scanning instead.");
+                    return null;
+                }
+                if (isStale(indexUrl)) {
+                    LOG.warn("Ignoring migration index " + indexUrl + " as files were changed after it was written."
+                            + " Scanning instead.");
+                    return null;
+                }
+            }
+
+            MigrationIndex index = new MigrationIndex(location);
+            for (URL url : indexUrls.values()) {
+                LOG.debug("Loading migration index: " + url);
+                read(index, url);
+            }
+            return index;
+        } catch (IOException e) {
+            throw new FlywayException("Unable to load migration index for location: " + location, e);
+        }
+    }
+
+    /**
+     * Checks whether this index lies in a directory containing files that were modified after it was written. Indexes
+     * inside jars are never considered stale, as a jar is always built as a whole.
+     *
+     * @param indexUrl The url of the index.
+     * @return {@code true} if it is stale, {@code false} if not.
+     */
+    private static boolean isStale(URL indexUrl) {
+        if (!"file".equals(indexUrl.getProtocol())) {
+            return false;
+        }
+        File indexFile = new File(UrlUtils.toFilePath(indexUrl));
+        return isModifiedAfter(indexFile.getParentFile(), indexFile.lastModified());
+    }
+
+    private static boolean isModifiedAfter(File directory, long timestamp) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return false;
+        }
+        for (File file : files) {
+            if (file.isDirectory() ? isModifiedAfter(file, timestamp) : file.lastModified() > timestamp) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void read(MigrationIndex index, URL url) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), UTF8));
+        try {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new FlywayException("Invalid migration index: " + url);
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] parts = line.split("\t", -1);
+                if (parts.length != 3) {
+                    throw new FlywayException("Invalid migration index entry in " + url + ": " + line);
+                }
+                index.add(new Entry(parts[0],
+                        parts[1].isEmpty() ? null : parts[1],
+                        parts[2].isEmpty() ? null : Integer.valueOf(parts[2])));
+            }
+        } catch (NumberFormatException e) {
+            throw new FlywayException("Invalid checksum in migration index: " + url, e);
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * Writes this index below this output directory, at the path of its location.
+     *
+     * @param outputDirectory The root directory of the classpath to write the index to.
+     * @return The file the index was written to.
+     */
+    public File write(File outputDirectory) {
+        File file = new File(outputDirectory, toResourceName(location, FILENAME));
+        File directory = file.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new FlywayException("Unable to create directory: " + directory.getAbsolutePath());
+        }
+
+        Writer writer = null;
+        try {
+            writer = new OutputStreamWriter(new FileOutputStream(file), UTF8);
+            writer.write(HEADER);
+            writer.write("\n");
+            for (Entry entry : entries.values()) {
+                writer.write(entry.getName() + "\t"
+                        + (entry.getVersion() == null ? "" : entry.getVersion()) + "\t"
+                        + (entry.getChecksum() == null ? "" : entry.getChecksum()) + "\n");
+            }
+        } catch (IOException e) {
+            throw new FlywayException("Unable to write migration index: " + file.getAbsolutePath(), e);
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+        return file;
+    }
+
+    private static String toResourceName(Location location, String name) {
+        if (location.getPath().isEmpty()) {
+            return name;
+        }
+        return location.getPath() + "/" + name;
+    }
+
+    /**
+     * A single indexed resource.
+     */
+    public static class Entry {
+        /**
+         * The name of the resource, relative to the location of the index.
+         */
+        private final String name;
+
+        /**
+         * The version of the migration. {@code null} if it isn't a versioned migration.
+         */
+        private final String version;
+
+        /**
+         * The checksum of the resource. {@code null} if unknown.
+         */
+        private final Integer checksum;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param name     The name of the resource, relative to the location of the index.
+         * @param version  The version of the migration. {@code null} if it isn't a versioned migration.
+         * @param checksum The checksum of the resource. {@code null} if unknown.
+         */
+        public Entry(String name, String version, Integer checksum) {
+            if (name.contains("\t") || name.contains("\n")) {
+                throw new FlywayException("Unable to index resource with a tab or newline in its name: " + name);
+            }
+            this.name = name;
+            this.version = version;
+            this.checksum = checksum;
+        }
+
+        /**
+         * @return The name of the resource, relative to the location of the index.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The version of the migration. {@code null} if it isn't a versioned migration.
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * @return The checksum of the resource. {@code null} if unknown.
+         */
+        public Integer getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -16,6 +16,9 @@
 package org.flywaydb.core.internal.util.scanner;
 
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.metrics.MetricsCounter;
+import org.flywaydb.core.api.metrics.MetricsPhase;
+import org.flywaydb.core.internal.metrics.MetricsRecorder;
 import org.flywaydb.core.internal.util.FeatureDetector;
 import org.flywaydb.core.internal.util.Location;
 import org.flywaydb.core.internal.util.scanner.classpath.ResourceAndClassScanner;
@@ -23,6 +26,9 @@ import org.flywaydb.core.internal.util.scanner.classpath.android.AndroidScanner;
 import org.flywaydb.core.internal.util.scanner.classpath.ClassPathScanner;
 import org.flywaydb.core.internal.util.scanner.filesystem.FileSystemScanner;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Scanner for Resources and Classes.
  */
@@ -32,8 +38,29 @@ public class Scanner {
     private final ClassLoader classLoader;
     private final FileSystemScanner fileSystemScanner = new FileSystemScanner();
 
+    /**
+     * The migration indexes of the classpath locations. {@code null} values for the locations without an index.
+     */
+    private final Map<Location, MigrationIndex> migrationIndexCache = new HashMap<>();
+
+    /**
+     * The recorder to report the time spent scanning to.
+     */
+    private final MetricsRecorder metricsRecorder;
+
     public Scanner(ClassLoader classLoader) {
+        this(classLoader, MetricsRecorder.NONE);
+    }
+
+    /**
+     * Creates a new Scanner.
+     *
+     * @param classLoader     The ClassLoader to scan with.
+     * @param metricsRecorder The recorder to report the time spent scanning to.
+     */
+    public Scanner(ClassLoader classLoader, MetricsRecorder metricsRecorder) {
         this.classLoader = classLoader;
+        this.metricsRecorder = metricsRecorder;
         if (new FeatureDetector(classLoader).isAndroidAvailable()) {
             resourceAndClassScanner = new AndroidScanner(classLoader);
         } else {
@@ -49,17 +76,47 @@ public class Scanner {
      * @param suffixes   The suffixes of the resource names to match.
      * @return The resources that were found.
      */
-    public LoadableResource[] scanForResources(Location location, String prefix, String[] suffixes) {
+    public synchronized LoadableResource[] scanForResources(Location location, String prefix, String[] suffixes) {
+        metricsRecorder.startPhase(MetricsPhase.SCAN);
+        try {
+            LoadableResource[] resources = doScanForResources(location, prefix, suffixes);
+            metricsRecorder.count(MetricsCounter.RESOURCES_SCANNED, resources.length);
+            return resources;
+        } finally {
+            metricsRecorder.stopPhase(MetricsPhase.SCAN);
+        }
+    }
+
+    private LoadableResource[] doScanForResources(Location location, String prefix, String[] suffixes) {
         try {
             if (location.isFileSystem()) {
                 return fileSystemScanner.scanForResources(location, prefix, suffixes);
             }
+            MigrationIndex migrationIndex = getMigrationIndex(location);
+            if (migrationIndex != null) {
+                return migrationIndex.getResources(classLoader, prefix, suffixes);
+            }
             return resourceAndClassScanner.scanForResources(location, prefix, suffixes);
         } catch (Exception e) {
             throw new FlywayException("Unable to scan for SQL migrations in location: " + location, e);
         }
     }
 
+    /**
+     * Retrieves the migration index of this classpath location, generated at build time.
+     *
+     * @param location The classpath location.
+     * @return The index or {@code null} if there is none and the location must be scanned.
+     */
+    public synchronized MigrationIndex getMigrationIndex(Location location) {
+        if (!(resourceAndClassScanner instanceof ClassPathScanner)) {
+            return null;
+        }
+        if (!migrationIndexCache.containsKey(location)) {
+            migrationIndexCache.put(location, MigrationIndex.load(classLoader, location));
+        }
+        return migrationIndexCache.get(location);
+    }
 
     /**
      * Scans the classpath for concrete classes under the specified package implementing this interface.
@@ -71,8 +128,30 @@ public class Scanner {
      * @return The non-abstract classes that were found.
      * @throws Exception when the location could not be scanned.
      */
-    public Class<?>[] scanForClasses(Location location, Class<?> implementedInterface) throws Exception {
-        return resourceAndClassScanner.scanForClasses(location, implementedInterface);
+    public synchronized Class<?>[] scanForClasses(Location location, Class<?> implementedInterface) throws Exception {
+        metricsRecorder.startPhase(MetricsPhase.SCAN);
+        try {
+            Class<?>[] classes = resourceAndClassScanner.scanForClasses(location, implementedInterface);
+            metricsRecorder.count(MetricsCounter.RESOURCES_SCANNED, classes.length);
+            return classes;
+        } finally {
+            metricsRecorder.stopPhase(MetricsPhase.SCAN);
+        }
+    }
+
+    /**
+     * Scans this classpath location for class files. Unlike {@link #scanForResources(Location, String, String[])}, the
+     * migration index of the location is never used, as it only covers sql resources.
+     *
+     * @param location The location (package) in the classpath to start scanning. Subpackages are also scanned.
+     * @return The class files that were found.
+     */
+    public synchronized LoadableResource[] scanForClassFiles(Location location) {
+        try {
+            return resourceAndClassScanner.scanForResources(location, "", new String[]{".class"});
+        } catch (Exception e) {
+            throw new FlywayException("Unable to scan for classes in location: " + location, e);
+        }
     }
 
     /**
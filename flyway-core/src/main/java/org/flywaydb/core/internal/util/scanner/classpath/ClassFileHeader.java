@@ -0,0 +1,177 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.util.scanner.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The header of a class file: its access flags, its name, its superclass and the interfaces it directly implements.
+ * It is read straight from the class file, without loading the class.
+ */
+class ClassFileHeader {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_ENUM = 0x4000;
+
+    /**
+     * The access flags of the class.
+     */
+    private final int accessFlags;
+
+    /**
+     * The fully qualified name of the class.
+     */
+    private final String className;
+
+    /**
+     * The fully qualified name of the superclass. {@code null} for java.lang.Object.
+     */
+    private final String superClassName;
+
+    /**
+     * The fully qualified names of the interfaces the class directly implements.
+     */
+    private final String[] interfaceNames;
+
+    private ClassFileHeader(int accessFlags, String className, String superClassName, String[] interfaceNames) {
+        this.accessFlags = accessFlags;
+        this.className = className;
+        this.superClassName = superClassName;
+        this.interfaceNames = interfaceNames;
+    }
+
+    /**
+     * @return The fully qualified name of the class.
+     */
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return The fully qualified name of the superclass. {@code null} for java.lang.Object.
+     */
+    String getSuperClassName() {
+        return superClassName;
+    }
+
+    /**
+     * @return The fully qualified names of the interfaces the class directly implements.
+     */
+    String[] getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * @return {@code true} if this class can't be instantiated because it is an interface, an annotation, an abstract
+     * class or an enum, {@code false} if it may be.
+     */
+    boolean isNonInstantiable() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION | ACC_ENUM)) != 0;
+    }
+
+    /**
+     * Reads the header of the class file from this stream. The stream is closed when done.
+     *
+     * @param inputStream The stream of the class file.
+     * @return The header.
+     * @throws IOException when the class file could not be read or is malformed.
+     */
+    static ClassFileHeader read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a class file");
+            }
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+
+            byte[] skipBuffer = new byte[8];
+            int constantPoolCount = in.readUnsignedShort();
+            String[] utf8s = new String[constantPoolCount];
+            int[] classNameIndexes = new int[constantPoolCount];
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1: // Utf8
+                        utf8s[i] = in.readUTF();
+                        break;
+                    case 7: // Class
+                        classNameIndexes[i] = in.readUnsignedShort();
+                        break;
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        in.readFully(skipBuffer, 0, 2);
+                        break;
+                    case 15: // MethodHandle
+                        in.readFully(skipBuffer, 0, 3);
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        in.readFully(skipBuffer, 0, 4);
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        in.readFully(skipBuffer, 0, 8);
+                        // These take up two entries in the constant pool
+                        i++;
+                        break;
+                    default:
+                        throw new IOException("Invalid constant pool tag: " + tag);
+                }
+            }
+
+            int accessFlags = in.readUnsignedShort();
+            String className = getClassName(utf8s, classNameIndexes, in.readUnsignedShort());
+            String superClassName = getClassName(utf8s, classNameIndexes, in.readUnsignedShort());
+            String[] interfaceNames = new String[in.readUnsignedShort()];
+            for (int i = 0; i < interfaceNames.length; i++) {
+                interfaceNames[i] = getClassName(utf8s, classNameIndexes, in.readUnsignedShort());
+            }
+            return new ClassFileHeader(accessFlags, className, superClassName, interfaceNames);
+        } finally {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private static String getClassName(String[] utf8s, int[] classNameIndexes, int index) throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index >= classNameIndexes.length || classNameIndexes[index] == 0
+                || classNameIndexes[index] >= utf8s.length || utf8s[classNameIndexes[index]] == null) {
+            throw new IOException("Invalid class reference: " + index);
+        }
+        return utf8s[classNameIndexes[index]].replace('/', '.');
+    }
+}
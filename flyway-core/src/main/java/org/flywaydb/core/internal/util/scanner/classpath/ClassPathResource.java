@@ -91,6 +91,14 @@ public class ClassPathResource implements Comparable<ClassPathResource>, Loadabl
         }
     }
 
+    public Reader loadAsReader(String encoding) {
+        InputStream inputStream = classLoader.getResourceAsStream(location);
+        if (inputStream == null) {
+            throw new FlywayException("Unable to obtain inputstream for resource: " + location);
+        }
+        return new InputStreamReader(inputStream, Charset.forName(encoding));
+    }
+
     public byte[] loadAsBytes() {
         try {
             InputStream inputStream = classLoader.getResourceAsStream(location);
@@ -17,7 +17,6 @@ package org.flywaydb.core.internal.util.scanner.classpath;
 
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
-import org.flywaydb.core.internal.util.ClassUtils;
 import org.flywaydb.core.internal.util.FeatureDetector;
 import org.flywaydb.core.internal.util.Location;
 import org.flywaydb.core.internal.util.StringUtils;
@@ -27,6 +26,7 @@ import org.flywaydb.core.internal.util.scanner.classpath.jboss.JBossVFSv2UrlReso
 import org.flywaydb.core.internal.util.scanner.classpath.jboss.JBossVFSv3ClassPathLocationScanner;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -69,6 +69,11 @@ public class ClassPathScanner implements ResourceAndClassScanner {
      */
     private final Map<ClassPathLocationScanner, Map<URL, Set<String>>> resourceNameCache = new HashMap<>();
 
+    /**
+     * Cache of the class file headers read so far, by class name. {@code null} values for unreadable class files.
+     */
+    private final Map<String, ClassFileHeader> classFileHeaderCache = new HashMap<>();
+
     /**
      * Creates a new Classpath scanner.
      *
@@ -88,7 +93,7 @@ public class ClassPathScanner implements ResourceAndClassScanner {
         Set<String> resourceNames = findResourceNames(path, prefix, suffixes);
         for (String resourceName : resourceNames) {
             resources.add(new ClassPathResource(resourceName, classLoader));
-            LOG.debug("Found resource: " + resourceName);
+            LOG.debug("Found resource: {}", resourceName);
         }
 
         return resources.toArray(new LoadableResource[resources.size()]);
@@ -103,8 +108,20 @@ public class ClassPathScanner implements ResourceAndClassScanner {
         Set<String> resourceNames = findResourceNames(location, "", ".class");
         for (String resourceName : resourceNames) {
             String className = toClassName(resourceName);
-            Class<?> clazz;
 
+            // Only load the classes whose class file indicates that they may implement the interface
+            ClassFileHeader header = getClassFileHeader(className);
+            if (header != null) {
+                if (!mayImplement(header, implementedInterface.getName())) {
+                    continue;
+                }
+                if (header.isNonInstantiable()) {
+                    LOG.debug("Skipping non-instantiable class: {}", header.getClassName());
+                    continue;
+                }
+            }
+
+            Class<?> clazz;
             try {
                 clazz = classLoader.loadClass(className);
 
@@ -113,29 +130,83 @@ public class ClassPathScanner implements ResourceAndClassScanner {
                 }
 
                 if (Modifier.isAbstract(clazz.getModifiers()) || clazz.isEnum() || clazz.isAnonymousClass()) {
-                    LOG.debug("Skipping non-instantiable class: " + className);
+                    LOG.debug("Skipping non-instantiable class: {}", className);
                     continue;
                 }
-
-                ClassUtils.instantiate(className, classLoader);
             } catch (InternalError e) {
-                LOG.debug("Skipping invalid class: " + className);
+                LOG.debug("Skipping invalid class: {}", className);
                 continue;
             } catch (IncompatibleClassChangeError e) {
                 LOG.warn("Skipping incompatibly changed class: " + className);
                 continue;
             } catch (NoClassDefFoundError e) {
-                LOG.debug("Skipping non-loadable class: " + className);
+                LOG.debug("Skipping non-loadable class: {}", className);
                 continue;
             }
 
             classes.add(clazz);
-            LOG.debug("Found class: " + className);
+            LOG.debug("Found class: {}", className);
         }
 
         return classes.toArray(new Class<?>[classes.size()]);
     }
 
+    /**
+     * Checks, based on class file headers only, whether the class with this header may implement this interface,
+     * either directly or through its superclasses and superinterfaces.
+     *
+     * @param header        The class file header of the class.
+     * @param interfaceName The fully qualified name of the interface.
+     * @return {@code true} if it does or if this can't be determined without loading it, {@code false} if it doesn't.
+     */
+    private boolean mayImplement(ClassFileHeader header, String interfaceName) {
+        if (header.getSuperClassName() != null && mayBeOrImplement(header.getSuperClassName(), interfaceName)) {
+            return true;
+        }
+        for (String name : header.getInterfaceNames()) {
+            if (mayBeOrImplement(name, interfaceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayBeOrImplement(String className, String interfaceName) {
+        if (className.equals(interfaceName)) {
+            return true;
+        }
+        if (className.startsWith("java.") || className.startsWith("javax.")) {
+            // Platform classes don't implement Flyway interfaces
+            return false;
+        }
+        ClassFileHeader header = getClassFileHeader(className);
+        return header == null || mayImplement(header, interfaceName);
+    }
+
+    /**
+     * Retrieves the header of the class file of this class without loading it.
+     *
+     * @param className The fully qualified name of the class.
+     * @return The header or {@code null} if the class file could not be read.
+     */
+    private ClassFileHeader getClassFileHeader(String className) {
+        if (classFileHeaderCache.containsKey(className)) {
+            return classFileHeaderCache.get(className);
+        }
+
+        ClassFileHeader header = null;
+        InputStream inputStream = classLoader.getResourceAsStream(className.replace(".", "/") + ".class");
+        if (inputStream != null) {
+            try {
+                header = ClassFileHeader.read(inputStream);
+            } catch (IOException e) {
+                LOG.debug("Unable to read class file header of {}: {}", className, e.getMessage());
+            }
+        }
+        classFileHeaderCache.put(className, header);
+        return header;
+    }
+
     /**
      * Converts this resource name to a fully qualified class name.
      *
@@ -365,7 +436,7 @@ public class ClassPathScanner implements ResourceAndClassScanner {
             if (fileNameMatches(fileName, prefix, suffixes)) {
                 filteredResourceNames.add(resourceName);
             } else {
-                LOG.debug("Filtering out resource: " + resourceName + " (filename: " + fileName + ")");
+                LOG.debug("Filtering out resource: {} (filename: {})", resourceName, fileName);
             }
         }
         return filteredResourceNames;
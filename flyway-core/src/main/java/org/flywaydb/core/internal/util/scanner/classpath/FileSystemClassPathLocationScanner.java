@@ -59,7 +59,7 @@ public class FileSystemClassPathLocationScanner implements ClassPathLocationScan
     /*private -> for testing*/
     @SuppressWarnings("ConstantConditions")
     Set<String> findResourceNamesFromFileSystem(String classPathRootOnDisk, String scanRootLocation, File folder) throws IOException {
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
+        LOG.debug("Scanning for resources in path: {} ({})", folder.getPath(), scanRootLocation);
 
         Set<String> resourceNames = new TreeSet<>();
 
@@ -22,6 +22,7 @@ import org.flywaydb.core.internal.util.scanner.LoadableResource;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 
 /**
  * Resource within an Android App.
@@ -56,6 +57,15 @@ public class AndroidResource implements LoadableResource {
         }
     }
 
+    @Override
+    public Reader loadAsReader(String encoding) {
+        try {
+            return new InputStreamReader(assetManager.open(getLocation()), encoding);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to load asset: " + getLocation(), e);
+        }
+    }
+
     @Override
     public byte[] loadAsBytes() {
         try {
@@ -21,7 +21,6 @@ import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.android.ContextHolder;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
-import org.flywaydb.core.internal.util.ClassUtils;
 import org.flywaydb.core.internal.util.Location;
 import org.flywaydb.core.internal.util.scanner.LoadableResource;
 import org.flywaydb.core.internal.util.scanner.classpath.ResourceAndClassScanner;
@@ -58,7 +57,7 @@ public class AndroidScanner implements ResourceAndClassScanner {
             if (assetMatches(asset, prefix, suffixes)) {
                 resources.add(new AndroidResource(context.getAssets(), path, asset));
             } else {
-                LOG.debug("Filtering out asset: " + asset);
+                LOG.debug("Filtering out asset: {}", asset);
             }
         }
 
@@ -88,7 +87,7 @@ public class AndroidScanner implements ResourceAndClassScanner {
                 if (className.startsWith(pkg)) {
                     Class<?> clazz = classLoader.loadClass(className);
                     if (Modifier.isAbstract(clazz.getModifiers())) {
-                        LOG.debug("Skipping abstract class: " + className);
+                        LOG.debug("Skipping abstract class: {}", className);
                         continue;
                     }
 
@@ -96,10 +95,8 @@ public class AndroidScanner implements ResourceAndClassScanner {
                         continue;
                     }
 
-                    ClassUtils.instantiate(className, classLoader);
-
                     classes.add(clazz);
-                    LOG.debug("Found class: " + className);
+                    LOG.debug("Found class: {}", className);
                 }
             }
         } finally {
@@ -15,6 +15,7 @@
  */
 package org.flywaydb.core.internal.util.scanner.filesystem;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.util.Location;
@@ -22,6 +23,17 @@ import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.scanner.LoadableResource;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -31,6 +43,12 @@ import java.util.TreeSet;
 public class FileSystemScanner {
     private static final Log LOG = LogFactory.getLog(FileSystemScanner.class);
 
+    /**
+     * Cache of all the resource names found in each location, so every location is only walked once regardless of
+     * the number of prefixes and suffixes it is scanned for.
+     */
+    private final Map<String, Set<String>> resourceNameCache = new HashMap<>();
+
     /**
      * Scans the FileSystem for resources under the specified location, starting with the specified prefix and ending with
      * the specified suffix.
@@ -45,18 +63,12 @@ public class FileSystemScanner {
         LOG.debug("Scanning for filesystem resources at '" + path + "' (Prefix: '" + prefix + "', Suffixes: '"
                 + StringUtils.arrayToCommaDelimitedString(suffixes) + "')");
 
-        File dir = new File(path);
-        if (!dir.isDirectory() || !dir.canRead()) {
-            LOG.warn("Unable to resolve location filesystem:" + path);
-            return new LoadableResource[0];
-        }
-
         Set<LoadableResource> resources = new TreeSet<>();
 
         Set<String> resourceNames = findResourceNames(path, prefix, suffixes);
         for (String resourceName : resourceNames) {
             resources.add(new FileSystemResource(resourceName));
-            LOG.debug("Found filesystem resource: " + resourceName);
+            LOG.debug("Found filesystem resource: {}", resourceName);
         }
 
         return resources.toArray(new LoadableResource[resources.size()]);
@@ -72,32 +84,58 @@ public class FileSystemScanner {
      * @return The resource names.
      */
     private Set<String> findResourceNames(String path, String prefix, String[] suffixes) {
-        Set<String> resourceNames = findResourceNamesFromFileSystem(path, new File(path));
+        Set<String> resourceNames = resourceNameCache.get(path);
+        if (resourceNames == null) {
+            resourceNames = findResourceNamesFromFileSystem(path);
+            resourceNameCache.put(path, resourceNames);
+        }
         return filterResourceNames(resourceNames, prefix, suffixes);
     }
 
     /**
-     * Finds all the resource names contained in this file system folder.
+     * Finds all the resource names contained in this file system folder and its subfolders, in a single walk of the
+     * file tree.
      *
      * @param scanRootLocation The root location of the scan on disk.
-     * @param folder           The folder to look for resources under on disk.
      * @return The resource names;
      */
-    @SuppressWarnings("ConstantConditions")
-    private Set<String> findResourceNamesFromFileSystem(String scanRootLocation, File folder) {
-        LOG.debug("Scanning for resources in path: " + folder.getPath() + " (" + scanRootLocation + ")");
-
-        Set<String> resourceNames = new TreeSet<>();
-
-        File[] files = folder.listFiles();
-        for (File file : files) {
-            if (file.canRead()) {
-                if (file.isDirectory()) {
-                    resourceNames.addAll(findResourceNamesFromFileSystem(scanRootLocation, file));
-                } else {
-                    resourceNames.add(file.getPath());
-                }
-            }
+    private Set<String> findResourceNamesFromFileSystem(String scanRootLocation) {
+        final Set<String> resourceNames = new TreeSet<>();
+
+        Path root = Paths.get(scanRootLocation);
+        if (!Files.isDirectory(root) || !Files.isReadable(root)) {
+            LOG.warn("Unable to resolve location filesystem:" + scanRootLocation);
+            return resourceNames;
+        }
+
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                            LOG.debug("Scanning for resources in path: {}", dir);
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            if (!Files.isReadable(file)) {
+                                LOG.debug("Skipping unreadable path: {}", file);
+                            } else if (attrs.isRegularFile()) {
+                                resourceNames.add(file.toString());
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+                            // Unreadable files and folders, as well as symbolic link cycles, are skipped
+                            LOG.debug("Skipping unreadable path: {} ({})", file, e.getMessage());
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            throw new FlywayException("Unable to scan location filesystem:" + scanRootLocation, e);
         }
 
         return resourceNames;
@@ -118,7 +156,7 @@ public class FileSystemScanner {
             if (fileNameMatches(fileName, prefix, suffixes)) {
                 filteredResourceNames.add(resourceName);
             } else {
-                LOG.debug("Filtering out resource: " + resourceName + " (filename: " + fileName + ")");
+                LOG.debug("Filtering out resource: {} (filename: {})", resourceName, fileName);
             }
         }
         return filteredResourceNames;
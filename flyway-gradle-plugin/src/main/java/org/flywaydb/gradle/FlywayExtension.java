@@ -188,6 +188,11 @@ public class FlywayExtension {
      */
     public Boolean skipDefaultCallbacks;
 
+    /**
+     * An array of fully qualified MetricsListener class implementations
+     */
+    public String[] metricsListeners;
+
     /**
      * Allows migrations to be run "out of order"
      */
@@ -249,6 +254,16 @@ public class FlywayExtension {
      */
     public Boolean cleanDisabled;
 
+    /**
+     * The maximum number of schemas to clean concurrently, each on its own connection. (default: 1)
+     */
+    public Integer cleanThreads;
+
+    /**
+     * Whether to clean Oracle schemas server-side, with one PL/SQL block per object type. (default: {@code false})
+     */
+    public Boolean oracleBulkClean;
+
     /**
      * <p>
      * Whether to automatically call baseline when migrate is executed against a non-empty schema with no schema history table.
@@ -278,6 +293,42 @@ public class FlywayExtension {
      */
     public Boolean group;
 
+    /**
+     * Whether to stream SQL migrations from their resource instead of loading and parsing them in full before executing them.
+     * <p>{@code true} if SQL migrations should be streamed. {@code false} if they should be loaded in full instead. (default: {@code false})</p>
+     */
+    public Boolean stream;
+
+    /**
+     * The directory in which to cache the statement boundaries of parsed SQL scripts, so that scripts which haven't
+     * changed don't need to be parsed again.
+     * <p>{@code null} to always parse SQL scripts. (default: {@code null})</p>
+     */
+    public String parseCacheDir;
+
+    /**
+     * Whether to group consecutive DML statements of a SQL migration into JDBC batches instead of sending them to the
+     * database one by one. Batching only takes place for migrations executed within a transaction.
+     * <p>{@code true} if DML statements should be batched. {@code false} if they should be executed one by one. (default: {@code false})</p>
+     */
+    public Boolean batch;
+
+    /**
+     * The maximum number of statements to group in a single JDBC batch when batching is enabled. (default: 100)
+     */
+    public Integer batchSize;
+
+    /**
+     * Whether migrate should first compare a fingerprint of the available migrations and of the schema history table
+     * with the one recorded by the last migration run that left the schema up to date, and return immediately when
+     * they match. Validation and the beforeMigrate and afterMigrate callbacks, including their SQL scripts, are then
+     * skipped. The migrations are fingerprinted by name, size and modification time rather than by contents, so an
+     * edit keeping both goes unnoticed. The fingerprint is recorded in its own table, named after the schema history
+     * table with a _fp suffix.
+     * <p>{@code true} to check the fingerprint first. {@code false} to always resolve and validate. (default: {@code false})</p>
+     */
+    public Boolean fastUpToDateCheck;
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      * {@code null} for the current database user of the connection. (default: {@code null}).
@@ -17,19 +17,24 @@ package org.flywaydb.gradle;
 
 import org.flywaydb.gradle.task.FlywayBaselineTask;
 import org.flywaydb.gradle.task.FlywayCleanTask;
+import org.flywaydb.gradle.task.FlywayIndexTask;
 import org.flywaydb.gradle.task.FlywayInfoTask;
 import org.flywaydb.gradle.task.FlywayMigrateTask;
 import org.flywaydb.gradle.task.FlywayRepairTask;
+import org.flywaydb.gradle.task.FlywayResetTask;
 import org.flywaydb.gradle.task.FlywayUndoTask;
 import org.flywaydb.gradle.task.FlywayValidateTask;
+import org.gradle.api.Action;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.plugins.AppliedPlugin;
+import org.gradle.api.plugins.JavaPlugin;
 
 /**
  * Registers the plugin's tasks.
  */
 public class FlywayPlugin implements Plugin<Project> {
-    public void apply(Project project) {
+    public void apply(final Project project) {
         project.getExtensions().create("flyway", FlywayExtension.class);
         project.getTasks().create("flywayClean", FlywayCleanTask.class);
         project.getTasks().create("flywayBaseline", FlywayBaselineTask.class);
@@ -38,5 +43,15 @@ public class FlywayPlugin implements Plugin<Project> {
         project.getTasks().create("flywayValidate", FlywayValidateTask.class);
         project.getTasks().create("flywayInfo", FlywayInfoTask.class);
         project.getTasks().create("flywayRepair", FlywayRepairTask.class);
+        project.getTasks().create("flywayReset", FlywayResetTask.class);
+        final FlywayIndexTask indexTask = project.getTasks().create("flywayIndex", FlywayIndexTask.class);
+        project.getPluginManager().withPlugin("java", new Action<AppliedPlugin>() {
+            @Override
+            public void execute(AppliedPlugin appliedPlugin) {
+                // Index the migrations once the resources are in place, as part of building the classes
+                indexTask.dependsOn(JavaPlugin.PROCESS_RESOURCES_TASK_NAME);
+                project.getTasks().getByName(JavaPlugin.CLASSES_TASK_NAME).dependsOn(indexTask);
+            }
+        });
     }
 }
\ No newline at end of file
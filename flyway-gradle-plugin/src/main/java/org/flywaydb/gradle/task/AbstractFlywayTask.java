@@ -216,6 +216,11 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      */
     public Boolean skipDefaultCallbacks;
 
+    /**
+     * An array of fully qualified MetricsListener class implementations
+     */
+    public String[] metricsListeners;
+
     /**
      * Allows migrations to be run "out of order"
      */
@@ -276,6 +281,16 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      */
     public Boolean cleanDisabled;
 
+    /**
+     * The maximum number of schemas to clean concurrently, each on its own connection. (default: 1)
+     */
+    public Integer cleanThreads;
+
+    /**
+     * Whether to clean Oracle schemas server-side, with one PL/SQL block per object type. (default: {@code false})
+     */
+    public Boolean oracleBulkClean;
+
     /**
      * <p>
      * Whether to automatically call baseline when migrate is executed against a non-empty schema with no schema history table.
@@ -305,6 +320,42 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      */
     public Boolean group;
 
+    /**
+     * Whether to stream SQL migrations from their resource instead of loading and parsing them in full before executing them.
+     * <p>{@code true} if SQL migrations should be streamed. {@code false} if they should be loaded in full instead. (default: {@code false})</p>
+     */
+    public Boolean stream;
+
+    /**
+     * The directory in which to cache the statement boundaries of parsed SQL scripts, so that scripts which haven't
+     * changed don't need to be parsed again.
+     * <p>{@code null} to always parse SQL scripts. (default: {@code null})</p>
+     */
+    public String parseCacheDir;
+
+    /**
+     * Whether to group consecutive DML statements of a SQL migration into JDBC batches instead of sending them to the
+     * database one by one. Batching only takes place for migrations executed within a transaction.
+     * <p>{@code true} if DML statements should be batched. {@code false} if they should be executed one by one. (default: {@code false})</p>
+     */
+    public Boolean batch;
+
+    /**
+     * The maximum number of statements to group in a single JDBC batch when batching is enabled. (default: 100)
+     */
+    public Integer batchSize;
+
+    /**
+     * Whether migrate should first compare a fingerprint of the available migrations and of the schema history table
+     * with the one recorded by the last migration run that left the schema up to date, and return immediately when
+     * they match. Validation and the beforeMigrate and afterMigrate callbacks, including their SQL scripts, are then
+     * skipped. The migrations are fingerprinted by name, size and modification time rather than by contents, so an
+     * edit keeping both goes unnoticed. The fingerprint is recorded in its own table, named after the schema history
+     * table with a _fp suffix.
+     * <p>{@code true} to check the fingerprint first. {@code false} to always resolve and validate. (default: {@code false})</p>
+     */
+    public Boolean fastUpToDateCheck;
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      * {@code null} for the current database user of the connection. (default: {@code null}).
@@ -442,6 +493,11 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         putIfSet(conf, ConfigUtils.SQL_MIGRATION_SUFFIXES, StringUtils.arrayToCommaDelimitedString(sqlMigrationSuffixes), StringUtils.arrayToCommaDelimitedString(extension.sqlMigrationSuffixes));
         putIfSet(conf, ConfigUtils.MIXED, mixed, extension.mixed);
         putIfSet(conf, ConfigUtils.GROUP, group, extension.group);
+        putIfSet(conf, ConfigUtils.STREAM, stream, extension.stream);
+        putIfSet(conf, ConfigUtils.PARSE_CACHE_DIR, parseCacheDir, extension.parseCacheDir);
+        putIfSet(conf, ConfigUtils.BATCH, batch, extension.batch);
+        putIfSet(conf, ConfigUtils.BATCH_SIZE, batchSize, extension.batchSize);
+        putIfSet(conf, ConfigUtils.FAST_UP_TO_DATE_CHECK, fastUpToDateCheck, extension.fastUpToDateCheck);
         putIfSet(conf, ConfigUtils.INSTALLED_BY, installedBy, extension.installedBy);
         putIfSet(conf, ConfigUtils.ENCODING, encoding, extension.encoding);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_REPLACEMENT, placeholderReplacement, extension.placeholderReplacement);
@@ -455,6 +511,8 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         putIfSet(conf, ConfigUtils.IGNORE_IGNORED_MIGRATIONS, ignoreIgnoredMigrations, extension.ignoreIgnoredMigrations);
         putIfSet(conf, ConfigUtils.IGNORE_FUTURE_MIGRATIONS, ignoreFutureMigrations, extension.ignoreFutureMigrations);
         putIfSet(conf, ConfigUtils.CLEAN_DISABLED, cleanDisabled, extension.cleanDisabled);
+        putIfSet(conf, ConfigUtils.CLEAN_THREADS, cleanThreads, extension.cleanThreads);
+        putIfSet(conf, ConfigUtils.ORACLE_BULK_CLEAN, oracleBulkClean, extension.oracleBulkClean);
         putIfSet(conf, ConfigUtils.BASELINE_ON_MIGRATE, baselineOnMigrate, extension.baselineOnMigrate);
         putIfSet(conf, ConfigUtils.SKIP_DEFAULT_RESOLVERS, skipDefaultResolvers, extension.skipDefaultResolvers);
         putIfSet(conf, ConfigUtils.SKIP_DEFAULT_CALLBACKS, skipDefaultCallbacks, extension.skipDefaultCallbacks);
@@ -463,6 +521,7 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         putIfSet(conf, ConfigUtils.LOCATIONS, StringUtils.arrayToCommaDelimitedString(locations), StringUtils.arrayToCommaDelimitedString(extension.locations));
         putIfSet(conf, ConfigUtils.RESOLVERS, StringUtils.arrayToCommaDelimitedString(resolvers), StringUtils.arrayToCommaDelimitedString(extension.resolvers));
         putIfSet(conf, ConfigUtils.CALLBACKS, StringUtils.arrayToCommaDelimitedString(callbacks), StringUtils.arrayToCommaDelimitedString(extension.callbacks));
+        putIfSet(conf, ConfigUtils.METRICS_LISTENERS, StringUtils.arrayToCommaDelimitedString(metricsListeners), StringUtils.arrayToCommaDelimitedString(extension.metricsListeners));
         putIfSet(conf, ConfigUtils.ERROR_HANDLERS, StringUtils.arrayToCommaDelimitedString(errorHandlers), StringUtils.arrayToCommaDelimitedString(extension.errorHandlers));
 
         putIfSet(conf, ConfigUtils.DRYRUN_OUTPUT, dryRunOutput, extension.dryRunOutput);
@@ -651,7 +710,7 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         return message;
     }
 
-    private boolean isJavaProject() {
+    protected boolean isJavaProject() {
         return getProject().getPluginManager().hasPlugin("java");
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.gradle.task;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationIndexer;
+import org.gradle.api.plugins.JavaPluginConvention;
+import org.gradle.api.tasks.SourceSet;
+
+import java.io.File;
+
+public class FlywayIndexTask extends AbstractFlywayTask {
+    /**
+     * The root directory of the classpath to write the indexes to. (default: the resources output directory of the
+     * main source set)
+     */
+    public File indexOutputDirectory;
+
+    public FlywayIndexTask() {
+        super();
+        setDescription("Writes an index of the sql migrations into the build output, so they don't have to be scanned for at runtime.");
+    }
+
+    @Override
+    protected Object run(Flyway flyway) {
+        File outputDirectory = indexOutputDirectory;
+        if (outputDirectory == null) {
+            if (!isJavaProject()) {
+                throw new FlywayException("Unable to determine where to write the migration index. Set indexOutputDirectory.");
+            }
+            JavaPluginConvention plugin = getProject().getConvention().getPlugin(JavaPluginConvention.class);
+            outputDirectory = plugin.getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME).getOutput().getResourcesDir();
+        }
+        return new SqlMigrationIndexer(flyway).writeIndexes(outputDirectory);
+    }
+}
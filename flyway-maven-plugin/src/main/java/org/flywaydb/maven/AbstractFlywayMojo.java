@@ -253,6 +253,20 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
     @Parameter(property = ConfigUtils.CLEAN_DISABLED)
     private Boolean cleanDisabled;
 
+    /**
+     * The maximum number of schemas to clean concurrently, each on its own connection. (default: 1)
+     * <p>Also configurable with Maven or System Property: ${flyway.cleanThreads}</p>
+     */
+    @Parameter(property = ConfigUtils.CLEAN_THREADS)
+    private Integer cleanThreads;
+
+    /**
+     * Whether to clean Oracle schemas server-side, with one PL/SQL block per object type. (default: {@code false})
+     * <p>Also configurable with Maven or System Property: ${flyway.oracle.bulkClean}</p>
+     */
+    @Parameter(property = ConfigUtils.ORACLE_BULK_CLEAN)
+    private Boolean oracleBulkClean;
+
     /**
      * The target version up to which Flyway should consider migrations.
      * Migrations with a higher version number will be ignored.
@@ -359,6 +373,14 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
     @Parameter(property = ConfigUtils.SKIP_DEFAULT_CALLBACKS)
     private Boolean skipDefaultCallbacks;
 
+    /**
+     * An array of MetricsListener implementations receiving the metrics collected while executing the goal, such as
+     * the time spent in each phase. (default: empty )<br>
+     * <p>Also configurable with Maven or System Property: ${flyway.metricsListeners}</p>
+     */
+    @Parameter
+    private String[] metricsListeners;
+
     /**
      * <p>
      * Whether to automatically call baseline when migrate is executed against a non-empty schema with no schema history table.
@@ -401,6 +423,52 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
     @Parameter(property = ConfigUtils.GROUP)
     private Boolean group;
 
+    /**
+     * Whether to stream SQL migrations from their resource instead of loading and parsing them in full before executing them.
+     * <p>{@code true} if SQL migrations should be streamed. {@code false} if they should be loaded in full instead. (default: {@code false})</p>
+     * <p>Also configurable with Maven or System Property: ${flyway.stream}</p>
+     */
+    @Parameter(property = ConfigUtils.STREAM)
+    private Boolean stream;
+
+    /**
+     * The directory in which to cache the statement boundaries of parsed SQL scripts, so that scripts which haven't
+     * changed don't need to be parsed again.
+     * <p>{@code null} to always parse SQL scripts. (default: {@code null})</p>
+     * <p>Also configurable with Maven or System Property: ${flyway.parseCacheDir}</p>
+     */
+    @Parameter(property = ConfigUtils.PARSE_CACHE_DIR)
+    private String parseCacheDir;
+
+    /**
+     * Whether to group consecutive DML statements of a SQL migration into JDBC batches instead of sending them to the
+     * database one by one. Batching only takes place for migrations executed within a transaction.
+     * <p>{@code true} if DML statements should be batched. {@code false} if they should be executed one by one. (default: {@code false})</p>
+     * <p>Also configurable with Maven or System Property: ${flyway.batch}</p>
+     */
+    @Parameter(property = ConfigUtils.BATCH)
+    private Boolean batch;
+
+    /**
+     * The maximum number of statements to group in a single JDBC batch when batching is enabled. (default: 100)
+     * <p>Also configurable with Maven or System Property: ${flyway.batchSize}</p>
+     */
+    @Parameter(property = ConfigUtils.BATCH_SIZE)
+    private Integer batchSize;
+
+    /**
+     * Whether migrate should first compare a fingerprint of the available migrations and of the schema history table
+     * with the one recorded by the last migration run that left the schema up to date, and return immediately when
+     * they match. Validation and the beforeMigrate and afterMigrate callbacks, including their SQL scripts, are then
+     * skipped. The migrations are fingerprinted by name, size and modification time rather than by contents, so an
+     * edit keeping both goes unnoticed. The fingerprint is recorded in its own table, named after the schema history
+     * table with a _fp suffix.
+     * <p>{@code true} to check the fingerprint first. {@code false} to always resolve and validate. (default: {@code false})</p>
+     * <p>Also configurable with Maven or System Property: ${flyway.fastUpToDateCheck}</p>
+     */
+    @Parameter(property = ConfigUtils.FAST_UP_TO_DATE_CHECK)
+    private Boolean fastUpToDateCheck;
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      * <p>{@code null} for the current database user of the connection. (default: {@code null}).</p>
@@ -580,6 +648,7 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
             putIfSet(conf, ConfigUtils.SKIP_DEFAULT_RESOLVERS, skipDefaultResolvers);
             putArrayIfSet(conf, ConfigUtils.CALLBACKS, callbacks);
             putIfSet(conf, ConfigUtils.SKIP_DEFAULT_CALLBACKS, skipDefaultCallbacks);
+            putArrayIfSet(conf, ConfigUtils.METRICS_LISTENERS, metricsListeners);
             putIfSet(conf, ConfigUtils.ENCODING, encoding);
             putIfSet(conf, ConfigUtils.SQL_MIGRATION_PREFIX, sqlMigrationPrefix);
             putIfSet(conf, ConfigUtils.UNDO_SQL_MIGRATION_PREFIX, undoSqlMigrationPrefix);
@@ -589,9 +658,16 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
             putArrayIfSet(conf, ConfigUtils.SQL_MIGRATION_SUFFIXES, sqlMigrationSuffixes);
             putIfSet(conf, ConfigUtils.MIXED, mixed);
             putIfSet(conf, ConfigUtils.GROUP, group);
+            putIfSet(conf, ConfigUtils.STREAM, stream);
+            putIfSet(conf, ConfigUtils.PARSE_CACHE_DIR, parseCacheDir);
+            putIfSet(conf, ConfigUtils.BATCH, batch);
+            putIfSet(conf, ConfigUtils.BATCH_SIZE, batchSize);
+            putIfSet(conf, ConfigUtils.FAST_UP_TO_DATE_CHECK, fastUpToDateCheck);
             putIfSet(conf, ConfigUtils.INSTALLED_BY, installedBy);
             putIfSet(conf, ConfigUtils.CLEAN_ON_VALIDATION_ERROR, cleanOnValidationError);
             putIfSet(conf, ConfigUtils.CLEAN_DISABLED, cleanDisabled);
+            putIfSet(conf, ConfigUtils.CLEAN_THREADS, cleanThreads);
+            putIfSet(conf, ConfigUtils.ORACLE_BULK_CLEAN, oracleBulkClean);
             putIfSet(conf, ConfigUtils.OUT_OF_ORDER, outOfOrder);
             putIfSet(conf, ConfigUtils.TARGET, target);
             putIfSet(conf, ConfigUtils.IGNORE_MISSING_MIGRATIONS, ignoreMissingMigrations);
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2010-2018 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.maven;
+
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationIndexer;
+
+import java.io.File;
+
+/**
+ * Maven goal that writes an index of the sql migrations of the classpath locations into the build output, so they
+ * don't have to be scanned for at runtime. No database connection is required.
+ */
+@SuppressWarnings({"UnusedDeclaration", "JavaDoc"})
+@Mojo(name = "index",
+        requiresDependencyResolution = ResolutionScope.TEST,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        threadSafe = true)
+public class IndexMojo extends AbstractFlywayMojo {
+    /**
+     * The root directory of the classpath to write the indexes to. (default: ${project.build.outputDirectory})
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File indexOutputDirectory;
+
+    @Override
+    protected void doExecute(Flyway flyway) throws Exception {
+        new SqlMigrationIndexer(flyway).writeIndexes(indexOutputDirectory);
+    }
+}